@@ -0,0 +1,329 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * A bare {@link ExtensionContext} to call the extension with outside of the JUnit engine, so that the
+ * benchmarks measure the extension and nothing else. Values are looked up in the stores of the parent
+ * contexts too, as they are by the engine.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class BenchmarkExtensionContext implements ExtensionContext {
+
+    private final ExtensionContext parent;
+
+    private final Class<?> testClass;
+
+    private final Method testMethod;
+
+    private final Lifecycle lifecycle;
+
+    private final Map<Object, Object> store = new ConcurrentHashMap<>();
+
+    private Object testInstance;
+
+    private BenchmarkExtensionContext(final ExtensionContext parent, final Class<?> testClass,
+            final Method testMethod, final Lifecycle lifecycle) {
+        this.parent = parent;
+        this.testClass = testClass;
+        this.testMethod = testMethod;
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * Create the context of a test class, below a context of its own for the engine.
+     * @param testClass the test class
+     * @param lifecycle the lifecycle of its instances
+     * @return a new context
+     */
+    static BenchmarkExtensionContext ofClass(final Class<?> testClass, final Lifecycle lifecycle) {
+        final ExtensionContext root = new BenchmarkExtensionContext(null, null, null, null);
+        return new BenchmarkExtensionContext(root, testClass, null, lifecycle);
+    }
+
+    /**
+     * Create the context of a test method of this test class.
+     * @param methodName the name of the test method, which must not be overloaded
+     * @return a new context
+     */
+    BenchmarkExtensionContext ofMethod(final String methodName) {
+        for (final Method method : this.testClass.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new BenchmarkExtensionContext(this, this.testClass, method, this.lifecycle);
+            }
+        }
+        throw new IllegalArgumentException("No method " + methodName + " in " + this.testClass);
+    }
+
+    /**
+     * Set the test instance the test method is invoked on.
+     * @param testInstance the test instance
+     * @return this context
+     */
+    BenchmarkExtensionContext withTestInstance(final Object testInstance) {
+        this.testInstance = testInstance;
+        return this;
+    }
+
+    /**
+     * Create the context of a parameter of the test method.
+     * @param index the index of the parameter
+     * @return a new parameter context
+     */
+    ParameterContext parameter(final int index) {
+        return new BenchmarkParameterContext(this.testMethod.getParameters()[index], index, this.testInstance);
+    }
+
+    /**
+     * Close the resources kept in the stores of this context, the same way the JUnit engine does when
+     * the context is done.
+     */
+    void close() throws Throwable {
+        for (final Object value : this.store.values()) {
+            if (value instanceof Store.CloseableResource) {
+                ((Store.CloseableResource) value).close();
+            }
+        }
+        this.store.clear();
+    }
+
+    @Override
+    public Optional<ExtensionContext> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public ExtensionContext getRoot() {
+        return this.parent == null ? this : this.parent.getRoot();
+    }
+
+    @Override
+    public String getUniqueId() {
+        return "[engine:benchmark]"
+                + (this.testClass == null ? "" : "/[class:" + this.testClass.getName() + "]")
+                + (this.testMethod == null ? "" : "/[method:" + this.testMethod.getName() + "()]");
+    }
+
+    @Override
+    public String getDisplayName() {
+        return this.getUniqueId();
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Optional<AnnotatedElement> getElement() {
+        return Optional.ofNullable(this.testMethod != null ? this.testMethod : this.testClass);
+    }
+
+    @Override
+    public Optional<Class<?>> getTestClass() {
+        return Optional.ofNullable(this.testClass);
+    }
+
+    @Override
+    public Optional<Lifecycle> getTestInstanceLifecycle() {
+        return Optional.ofNullable(this.lifecycle);
+    }
+
+    @Override
+    public Optional<Object> getTestInstance() {
+        return Optional.ofNullable(this.testInstance);
+    }
+
+    @Override
+    public Optional<TestInstances> getTestInstances() {
+        return this.getTestInstance().map(BenchmarkTestInstances::new);
+    }
+
+    @Override
+    public Optional<Method> getTestMethod() {
+        return Optional.ofNullable(this.testMethod);
+    }
+
+    @Override
+    public Optional<Throwable> getExecutionException() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getConfigurationParameter(final String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public <T> Optional<T> getConfigurationParameter(final String key, final Function<String, T> transformer) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void publishReportEntry(final Map<String, String> map) {
+
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.SAME_THREAD;
+    }
+
+    @Override
+    public Store getStore(final Namespace namespace) {
+        return new BenchmarkStore(namespace);
+    }
+
+    private final class BenchmarkStore implements Store {
+
+        private final Namespace namespace;
+
+        BenchmarkStore(final Namespace namespace) {
+            this.namespace = namespace;
+        }
+
+        private List<Object> key(final Object key) {
+            return List.of(this.namespace, key);
+        }
+
+        @Override
+        public Object get(final Object key) {
+            final Object value = BenchmarkExtensionContext.this.store.get(this.key(key));
+            if (value == null && BenchmarkExtensionContext.this.parent != null) {
+                return BenchmarkExtensionContext.this.parent.getStore(this.namespace).get(key);
+            }
+            return value;
+        }
+
+        @Override
+        public <V> V get(final Object key, final Class<V> requiredType) {
+            return requiredType.cast(this.get(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object getOrComputeIfAbsent(final K key, final Function<K, V> defaultCreator) {
+            final Object value = this.get(key);
+            return value != null ? value : BenchmarkExtensionContext.this.store.computeIfAbsent(this.key(key),
+                    k -> defaultCreator.apply((K) ((List<Object>) k).get(1)));
+        }
+
+        @Override
+        public <K, V> V getOrComputeIfAbsent(final K key, final Function<K, V> defaultCreator,
+                final Class<V> requiredType) {
+            return requiredType.cast(this.getOrComputeIfAbsent(key, defaultCreator));
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+            BenchmarkExtensionContext.this.store.put(this.key(key), value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            return BenchmarkExtensionContext.this.store.remove(this.key(key));
+        }
+
+        @Override
+        public <V> V remove(final Object key, final Class<V> requiredType) {
+            return requiredType.cast(this.remove(key));
+        }
+
+    }
+
+    private static final class BenchmarkTestInstances implements TestInstances {
+
+        private final Object testInstance;
+
+        BenchmarkTestInstances(final Object testInstance) {
+            this.testInstance = testInstance;
+        }
+
+        @Override
+        public Object getInnermostInstance() {
+            return this.testInstance;
+        }
+
+        @Override
+        public List<Object> getEnclosingInstances() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Object> getAllInstances() {
+            return List.of(this.testInstance);
+        }
+
+        @Override
+        public <T> Optional<T> findInstance(final Class<T> requiredType) {
+            return Optional.of(this.testInstance).filter(requiredType::isInstance).map(requiredType::cast);
+        }
+
+    }
+
+    private static final class BenchmarkParameterContext implements ParameterContext {
+
+        private final Parameter parameter;
+
+        private final int index;
+
+        private final Object target;
+
+        BenchmarkParameterContext(final Parameter parameter, final int index, final Object target) {
+            this.parameter = parameter;
+            this.index = index;
+            this.target = target;
+        }
+
+        @Override
+        public Parameter getParameter() {
+            return this.parameter;
+        }
+
+        @Override
+        public int getIndex() {
+            return this.index;
+        }
+
+        @Override
+        public Optional<Object> getTarget() {
+            return Optional.ofNullable(this.target);
+        }
+
+        @Override
+        public boolean isAnnotated(final Class<? extends Annotation> annotationType) {
+            return AnnotationSupport.isAnnotated(this.parameter, annotationType);
+        }
+
+        @Override
+        public <A extends Annotation> Optional<A> findAnnotation(final Class<A> annotationType) {
+            return AnnotationSupport.findAnnotation(this.parameter, annotationType);
+        }
+
+        @Override
+        public <A extends Annotation> List<A> findRepeatableAnnotations(
+                final Class<A> annotationType) {
+            return AnnotationSupport.findRepeatableAnnotations(this.parameter, annotationType);
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.custom.ChoiceRandomizer;
+import com.github.mperezi.test.randomizer.matchers.LongField;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of setting up the extension for a test class, and for each instance of the class created per
+ * test method: registering its custom randomizers and injecting random values into its fields.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtensionSetupBenchmark {
+
+    static class Account {
+
+        String id;
+
+        String status;
+
+        Long balance;
+
+    }
+
+    static class Fixture implements CustomRandomFieldProvider {
+
+        @Random
+        private Account account;
+
+        @Random
+        private String name;
+
+        @Random
+        private Long amount;
+
+        @Random(type = Account.class, size = 10)
+        private List<Account> accounts;
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("status"), new ChoiceRandomizer<>("ACTIVE", "SUSPENDED"));
+            registry.registerRandomizer(LongField.named("balance"), () -> 0L);
+        }
+
+        void test() {
+
+        }
+
+    }
+
+    private RandomizerExtension extension;
+
+    private BenchmarkExtensionContext classContext;
+
+    private BenchmarkExtensionContext methodContext;
+
+    @Setup
+    public void setUp() {
+        this.extension = new RandomizerExtension();
+        this.classContext = BenchmarkExtensionContext.ofClass(Fixture.class, Lifecycle.PER_METHOD);
+        this.methodContext = this.classContext.ofMethod("test");
+    }
+
+    @TearDown
+    public void tearDown() throws Throwable {
+        this.classContext.close();
+    }
+
+    @Benchmark
+    public Object testInstance() {
+        final Fixture fixture = new Fixture();
+        this.methodContext.withTestInstance(fixture);
+        this.extension.postProcessTestInstance(fixture, this.classContext);
+        this.extension.beforeEach(this.methodContext);
+        this.extension.afterEach(this.methodContext);
+        return fixture;
+    }
+
+    @Benchmark
+    public Object testClass() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(Fixture.class, 42, 10_000);
+        try {
+            return testClassRandomizer.generate(testClassRandomizer.createRegistry(new Fixture()), 42,
+                    easyRandom -> easyRandom.nextObject(Account.class));
+        } finally {
+            testClassRandomizer.close();
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link RandomizerExtension#resolveParameter} for single objects nested 1 to 4 levels
+ * deep, and for lists and sets of different sizes, including lists of immutable objects created through
+ * their constructor.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    enum Status {
+        ACTIVE, SUSPENDED, CLOSED
+    }
+
+    static class Depth1 {
+
+        String name;
+
+        Long amount;
+
+        Status status;
+
+    }
+
+    static class Depth2 {
+
+        String name;
+
+        Long amount;
+
+        Depth1 child;
+
+    }
+
+    static class Depth3 {
+
+        String name;
+
+        Long amount;
+
+        Depth2 child;
+
+    }
+
+    static class Depth4 {
+
+        String name;
+
+        Long amount;
+
+        Depth3 child;
+
+    }
+
+    static final class Immutable1 {
+
+        private final String name;
+
+        private final Long amount;
+
+        private final Status status;
+
+        Immutable1(final String name, final Long amount, final Status status) {
+            this.name = name;
+            this.amount = amount;
+            this.status = status;
+        }
+
+    }
+
+    static class Fixture {
+
+        void objects(@Random Depth1 depth1, @Random Depth2 depth2, @Random Depth3 depth3, @Random Depth4 depth4) {
+
+        }
+
+        void lists(@Random(type = Depth1.class, size = 10) List<Depth1> small,
+                @Random(type = Depth1.class, size = 1_000) List<Depth1> medium,
+                @Random(type = Depth1.class, size = 100_000) List<Depth1> large) {
+
+        }
+
+        void sets(@Random(type = Depth1.class, size = 10) Set<Depth1> small,
+                @Random(type = Depth1.class, size = 1_000) Set<Depth1> medium,
+                @Random(type = Depth1.class, size = 100_000) Set<Depth1> large) {
+
+        }
+
+        void immutableLists(@Random(type = Immutable1.class, size = 10) List<Immutable1> small,
+                @Random(type = Immutable1.class, size = 1_000) List<Immutable1> medium,
+                @Random(type = Immutable1.class, size = 100_000) List<Immutable1> large) {
+
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class ObjectDepth {
+
+        @Param({ "1", "2", "3", "4" })
+        int depth;
+
+    }
+
+    @State(Scope.Thread)
+    public static class CollectionSize {
+
+        @Param({ "10", "1000", "100000" })
+        int size;
+
+        int index() {
+            return this.size == 10 ? 0 : this.size == 1000 ? 1 : 2;
+        }
+
+    }
+
+    private RandomizerExtension extension;
+
+    private BenchmarkExtensionContext classContext;
+
+    private BenchmarkExtensionContext objectsContext;
+
+    private BenchmarkExtensionContext listsContext;
+
+    private BenchmarkExtensionContext setsContext;
+
+    private BenchmarkExtensionContext immutableListsContext;
+
+    @Setup
+    public void setUp() {
+        final Fixture fixture = new Fixture();
+        this.extension = new RandomizerExtension();
+        this.classContext = BenchmarkExtensionContext.ofClass(Fixture.class, Lifecycle.PER_METHOD);
+        this.extension.postProcessTestInstance(fixture, this.classContext);
+        this.objectsContext = this.classContext.ofMethod("objects").withTestInstance(fixture);
+        this.listsContext = this.classContext.ofMethod("lists").withTestInstance(fixture);
+        this.setsContext = this.classContext.ofMethod("sets").withTestInstance(fixture);
+        this.immutableListsContext = this.classContext.ofMethod("immutableLists").withTestInstance(fixture);
+    }
+
+    @TearDown
+    public void tearDown() throws Throwable {
+        this.classContext.close();
+    }
+
+    @Benchmark
+    public Object object(final ObjectDepth objectDepth) {
+        return this.resolve(this.objectsContext, objectDepth.depth - 1);
+    }
+
+    @Benchmark
+    public Object list(final CollectionSize collectionSize) {
+        return this.resolve(this.listsContext, collectionSize.index());
+    }
+
+    @Benchmark
+    public Object set(final CollectionSize collectionSize) {
+        return this.resolve(this.setsContext, collectionSize.index());
+    }
+
+    @Benchmark
+    public Object immutableList(final CollectionSize collectionSize) {
+        return this.resolve(this.immutableListsContext, collectionSize.index());
+    }
+
+    private Object resolve(final BenchmarkExtensionContext context, final int index) {
+        final ParameterContext parameterContext = context.parameter(index);
+        return this.extension.resolveParameter(parameterContext, context);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.custom.ChoiceRandomizer;
+import com.github.mperezi.test.randomizer.custom.IntChoiceRandomizer;
+import com.github.mperezi.test.randomizer.custom.WeightedChoiceRandomizer;
+import com.github.mperezi.test.randomizer.matchers.NamedField;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.lang.reflect.Field;
+import java.time.DayOfWeek;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.api.Randomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the matchers and custom randomizers shipped with the extension, i.e. the code run for
+ * every field of every object generated with custom randomizers.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomizersBenchmark {
+
+    static class Customer {
+
+        String status;
+
+    }
+
+    private final NamedField namedField = StringField.named("name", "status");
+
+    private final NamedField qualifiedField = StringField.named(Customer.class.getName() + ".status");
+
+    private final Randomizer<String> choice = new ChoiceRandomizer<>("ACTIVE", "SUSPENDED", "CLOSED");
+
+    private final Randomizer<String> seededChoice = new ChoiceRandomizer<>(new String[] { "ACTIVE", "SUSPENDED" }, 42);
+
+    private final Randomizer<Integer> weightedChoice = new WeightedChoiceRandomizer<>(
+            IntStream.range(0, 500).boxed().toArray(Integer[]::new),
+            IntStream.range(0, 500).mapToDouble(i -> i + 1).toArray());
+
+    private final IntChoiceRandomizer intChoice = new IntChoiceRandomizer(IntStream.range(0, 500).toArray());
+
+    private final Randomizer<String> longRange = StringRandomizerFactory.ofLongRange(1L, 1000L);
+
+    private final Randomizer<String> doubleRange = StringRandomizerFactory.ofDoubleRange(0.0, 1.0);
+
+    private final Randomizer<String> intRange = StringRandomizerFactory.ofIntRange(1, 1000);
+
+    private final Randomizer<String> instant = StringRandomizerFactory.ofInstant();
+
+    private final Randomizer<String> localDate = StringRandomizerFactory.ofLocalDate();
+
+    private final Randomizer<String> localDateTime = StringRandomizerFactory.ofLocalDateTime();
+
+    private final Randomizer<String> enumeration = StringRandomizerFactory.ofEnum(DayOfWeek.class);
+
+    private Field field;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        this.field = Customer.class.getDeclaredField("status");
+    }
+
+    @Benchmark
+    public boolean namedField() {
+        return this.namedField.test(this.field);
+    }
+
+    @Benchmark
+    public boolean qualifiedField() {
+        return this.qualifiedField.test(this.field);
+    }
+
+    @Benchmark
+    public Object weightedChoice() {
+        return this.weightedChoice.getRandomValue();
+    }
+
+    @Benchmark
+    public int intChoice() {
+        return this.intChoice.getRandomInt();
+    }
+
+    @Benchmark
+    public String choice() {
+        return this.choice.getRandomValue();
+    }
+
+    @Benchmark
+    public String seededChoice() {
+        return this.seededChoice.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofLongRange() {
+        return this.longRange.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofDoubleRange() {
+        return this.doubleRange.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofIntRange() {
+        return this.intRange.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofInstant() {
+        return this.instant.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofLocalDate() {
+        return this.localDate.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofLocalDateTime() {
+        return this.localDateTime.getRandomValue();
+    }
+
+    @Benchmark
+    public String ofEnum() {
+        return this.enumeration.getRandomValue();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.custom.ChoiceRandomizer;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dispatch of fields to the custom randomizers of a {@link CustomRandomFieldProvider} registering 1 to
+ * 100 matchers, the field being matched by the last one registered.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryBenchmark {
+
+    static class Customer {
+
+        String matched;
+
+        String unmatched;
+
+        String email;
+
+        Long age;
+
+    }
+
+    static class Provider implements CustomRandomFieldProvider {
+
+        private final int matchers;
+
+        Provider(final int matchers) {
+            this.matchers = matchers;
+        }
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            for (int i = 1; i < this.matchers; i++) {
+                registry.registerRandomizer(StringField.named("other" + i), new ChoiceRandomizer<>("A", "B"));
+            }
+            registry.registerRandomizer(StringField.named("matched"), new ChoiceRandomizer<>("ACTIVE", "SUSPENDED"));
+        }
+
+    }
+
+    @Param({ "1", "10", "100" })
+    int matchers;
+
+    private TestClassRandomizer testClassRandomizer;
+
+    private RandomizerRegistry registry;
+
+    private CustomRandomizerRegistry customRandomizerRegistry;
+
+    private Field matchedField;
+
+    private Field unmatchedField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        final Provider provider = new Provider(this.matchers);
+        this.testClassRandomizer = new TestClassRandomizer(Provider.class, 42, Integer.MAX_VALUE);
+        this.registry = this.testClassRandomizer.createRegistry(provider);
+        this.customRandomizerRegistry = new CustomRandomizerRegistry();
+        provider.registerCustomRandomizers(this.customRandomizerRegistry);
+        this.matchedField = Customer.class.getDeclaredField("matched");
+        this.unmatchedField = Customer.class.getDeclaredField("unmatched");
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.testClassRandomizer.close();
+    }
+
+    @Benchmark
+    public void indexedRegistry(final Blackhole blackhole) {
+        blackhole.consume(this.registry.getRandomizer(this.matchedField));
+        blackhole.consume(this.registry.getRandomizer(this.unmatchedField));
+    }
+
+    @Benchmark
+    public void customRandomizerRegistry(final Blackhole blackhole) {
+        blackhole.consume(this.customRandomizerRegistry.getRandomizer(this.matchedField));
+        blackhole.consume(this.customRandomizerRegistry.getRandomizer(this.unmatchedField));
+    }
+
+    @Benchmark
+    public Object generate() {
+        return this.testClassRandomizer.generate(this.registry, 42, easyRandom -> easyRandom.nextObject(Customer.class));
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+
+/**
+ * A registry that delegates to whichever registry is bound to the current thread.
+ *
+ * <p>
+ * It allows a single {@link org.jeasy.random.EasyRandom} to be shared by every instance of a test
+ * class while still honoring the randomizers registered by each one of them.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Priority(-1)
+final class BoundRandomizerRegistry implements RandomizerRegistry {
+
+    private final ThreadLocal<RandomizerRegistry> boundRegistry = new ThreadLocal<>();
+
+    @Override
+    public void init(final EasyRandomParameters parameters) {
+        // nothing to initialize, the bound registries are already set up
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(final Field field) {
+        final RandomizerRegistry registry = this.boundRegistry.get();
+        return registry == null ? null : registry.getRandomizer(field);
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(final Class<?> type) {
+        final RandomizerRegistry registry = this.boundRegistry.get();
+        return registry == null ? null : registry.getRandomizer(type);
+    }
+
+    /**
+     * Run the given action with the given registry bound to the current thread.
+     * @param registry the registry to delegate to while the action runs
+     * @param action the action to run
+     * @return the result of the action
+     */
+    <T> T bind(final RandomizerRegistry registry, final Supplier<T> action) {
+        final RandomizerRegistry previous = this.boundRegistry.get();
+        this.boundRegistry.set(registry);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                this.boundRegistry.remove();
+            } else {
+                this.boundRegistry.set(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The constructor that sets every field of a record or of an immutable class, which must be built by
+ * calling it rather than by setting its fields one by one.
+ *
+ * <p>
+ * Records are recognized by their canonical constructor, taking their components in order. Any other
+ * class is immutable as long as it is final, its fields are all final and it declares a single
+ * constructor taking a parameter named after each field, of the same type, which is assumed to set the
+ * field to the argument. Parameter names are only known for classes compiled with {@code -parameters},
+ * any other class is left to be created and populated as usual. Constructors are looked up and turned
+ * into a {@link MethodHandle} just once per type.
+ * </p>
+ *
+ * <p>
+ * Being final, the classes found here can only be created through their constructor, so that the
+ * fields it sets can be excluded from being populated afterwards without affecting any other type.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class CanonicalConstructor {
+
+    private static final CanonicalConstructor NONE = new CanonicalConstructor(null, new Field[0], new Type[0]);
+
+    private static final ClassValue<CanonicalConstructor> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected CanonicalConstructor computeValue(final Class<?> type) {
+            try {
+                final CanonicalConstructor constructor = find(type);
+                return constructor != null ? constructor : NONE;
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return NONE;
+            }
+        }
+    };
+
+    private static final Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandle constructor;
+
+    private final Field[] fields;
+
+    private final Type[] parameterTypes;
+
+    private CanonicalConstructor(final MethodHandle constructor, final Field[] fields,
+            final Type[] parameterTypes) {
+        this.constructor = constructor;
+        this.fields = fields;
+        this.parameterTypes = parameterTypes;
+    }
+
+    private static Method findMethod(final Class<?> type, final String name) {
+        try {
+            return type.getMethod(name);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The canonical constructor of the given type.
+     * @param type the type
+     * @return the constructor, or {@code null} if the type is neither a record nor immutable
+     */
+    static CanonicalConstructor of(final Class<?> type) {
+        final CanonicalConstructor constructor = CONSTRUCTORS.get(type);
+        return constructor != NONE ? constructor : null;
+    }
+
+    /**
+     * Whether the given field is set by the canonical constructor of the class declaring it, rather
+     * than after the object is created. Such classes are final, so the field belongs to an object created
+     * through the constructor.
+     */
+    static boolean isConstructorSet(final Field field) {
+        return CONSTRUCTORS.get(field.getDeclaringClass()) != NONE;
+    }
+
+    private static CanonicalConstructor find(final Class<?> type) throws ReflectiveOperationException {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.")) {
+            return null;
+        }
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass.getName().equals("java.lang.Record") && GET_RECORD_COMPONENTS != null) {
+            return findRecordConstructor(type);
+        }
+        if (superclass != Object.class || !Modifier.isFinal(type.getModifiers())) {
+            return null;
+        }
+        final Map<String, Field> fields = new HashMap<>();
+        for (final Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            if (!Modifier.isFinal(field.getModifiers())) {
+                return null;
+            }
+            fields.put(field.getName(), field);
+        }
+        final Constructor<?>[] constructors = type.getDeclaredConstructors();
+        if (fields.isEmpty() || constructors.length != 1
+                || constructors[0].getParameterCount() != fields.size()) {
+            return null;
+        }
+        final Parameter[] parameters = constructors[0].getParameters();
+        final Field[] parameterFields = new Field[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final Field field = fields.get(parameters[i].getName());
+            if (!parameters[i].isNamePresent() || field == null || parameters[i].getType() != field.getType()) {
+                return null;
+            }
+            parameterFields[i] = field;
+        }
+        return create(constructors[0], parameterFields);
+    }
+
+    private static CanonicalConstructor findRecordConstructor(final Class<?> type)
+            throws ReflectiveOperationException {
+        final Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+        final Field[] fields = new Field[components.length];
+        final Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final String name = (String) components[i].getClass().getMethod("getName").invoke(components[i]);
+            fields[i] = type.getDeclaredField(name);
+            parameterTypes[i] = fields[i].getType();
+        }
+        return create(type.getDeclaredConstructor(parameterTypes), fields);
+    }
+
+    private static CanonicalConstructor create(final Constructor<?> constructor, final Field[] fields)
+            throws IllegalAccessException {
+        constructor.setAccessible(true);
+        for (final Field field : fields) {
+            field.setAccessible(true);
+        }
+        final MethodHandle handle = MethodHandles.lookup()
+            .unreflectConstructor(constructor)
+            .asSpreader(Object[].class, fields.length)
+            .asType(SPREAD_TYPE);
+        return new CanonicalConstructor(handle, fields, constructor.getGenericParameterTypes());
+    }
+
+    /**
+     * The fields set by the constructor, in the order of its parameters.
+     */
+    Field[] getFields() {
+        return this.fields;
+    }
+
+    /**
+     * The generic types of the parameters of the constructor.
+     */
+    Type[] getParameterTypes() {
+        return this.parameterTypes;
+    }
+
+    /**
+     * Read the arguments the given instance was created with, i.e. the values of the fields set by the
+     * constructor, in the order of its parameters.
+     * @param instance the instance, created through this constructor
+     * @return the arguments
+     */
+    Object[] getArguments(final Object instance) {
+        final Object[] arguments = new Object[this.fields.length];
+        for (int i = 0; i < arguments.length; i++) {
+            try {
+                arguments[i] = this.fields[i].get(instance);
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + this.fields[i], e);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Create a new instance with the given arguments.
+     * @param arguments the arguments, as many as fields, {@code null} standing for the default value of
+     *        primitive fields
+     * @return the new instance
+     * @throws RuntimeException whatever the constructor throws, e.g. because it rejects the arguments, checked
+     *         exceptions being wrapped in an {@link IllegalStateException}
+     */
+    Object newInstance(final Object... arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null && this.fields[i].getType().isPrimitive()) {
+                arguments[i] = Array.get(Array.newInstance(this.fields[i].getType(), 1), 0);
+            }
+        }
+        try {
+            return (Object) this.constructor.invokeExact(arguments);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Cannot create " + this.fields[0].getDeclaringClass().getName(), e);
+        }
+    }
+
+}
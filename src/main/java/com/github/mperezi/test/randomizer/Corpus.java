@@ -0,0 +1,202 @@
+package com.github.mperezi.test.randomizer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Keep the random values generated for a test class on disk, so that later runs decode them instead of
+ * generating them all over again.
+ *
+ * <p>
+ * Every value is kept in a file of its own, encoded by {@link CorpusCodec} and named after a hash of
+ * everything the value depends on: its seed, its generic type, its size, the {@link RandomizerConfig} it
+ * is generated with, and the layout of the classes reachable from the types of the objects it is made of.
+ * Changing any of them makes the value be generated again. Files are read and decoded in full when the
+ * value is asked for, and Java serialized data in them is only let through for the types the value is
+ * made of. Test classes that are a {@link CustomRandomFieldProvider} get no corpus, since their values
+ * also depend on randomizers whose code may live anywhere.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class Corpus {
+
+    private static final Logger logger = LoggerFactory.getLogger(Corpus.class);
+
+    private static final int FORMAT_VERSION = 4;
+
+    private static final int MAGIC = 0x52414e44;
+
+    private static final ClassValue<String> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final StringBuilder layout = new StringBuilder();
+            describe(type, new HashSet<>(), layout);
+            return layout.toString();
+        }
+    };
+
+    private final Path directory;
+
+    private final Class<?> testClass;
+
+    Corpus(final Path directory, final Class<?> testClass) {
+        this.directory = directory;
+        this.testClass = testClass;
+    }
+
+    /**
+     * Decode the value generated before with the default settings for the given key, or else generate it
+     * and keep it for later.
+     * @see #computeIfAbsent(long, GenerationPlan, RandomizerSettings, Supplier)
+     */
+    Object computeIfAbsent(final long seed, final GenerationPlan plan, final Supplier<Object> generator) {
+        return this.computeIfAbsent(seed, plan, RandomizerSettings.defaults(), generator);
+    }
+
+    /**
+     * Decode the value generated before for the given key, or else generate it and keep it for later.
+     * @param seed the seed the value is generated from
+     * @param plan the plan the value is generated from
+     * @param settings the settings the value is generated with
+     * @param generator the generator of the value
+     * @return the value
+     */
+    Object computeIfAbsent(final long seed, final GenerationPlan plan, final RandomizerSettings settings,
+            final Supplier<Object> generator) {
+        final StringBuilder layouts = new StringBuilder();
+        plan.getObjectTypes().forEach(type -> layouts.append(LAYOUTS.get(type)));
+        final String key = FORMAT_VERSION + "|" + seed + "|" + plan.getKey() + "|" + settings + "|"
+                + hash(layouts.toString());
+        final Class<?> targetType = plan.getTargetType();
+        final Path file = this.directory.resolve(targetType.getSimpleName() + "-" + hash(key) + ".bin");
+        if (Files.isRegularFile(file)) {
+            try {
+                return this.read(file, key, plan);
+            } catch (final IOException | RuntimeException e) {
+                logger.warn(e, () -> "Random value in " + file + " cannot be read, generating it again");
+            }
+        }
+        final Object value = generator.get();
+        try {
+            this.write(file, key, CorpusCodec.encode(value));
+        } catch (final IOException | RuntimeException e) {
+            logger.debug(e, () -> "Random value of " + targetType + " cannot be kept in " + this.directory);
+        }
+        return value;
+    }
+
+    private Object read(final Path file, final String key, final GenerationPlan plan) throws IOException {
+        // decoded in full right away, so there is nothing to gain from mapping the file
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        final byte[] expectedKey = key.getBytes(StandardCharsets.UTF_8);
+        final byte[] actualKey = new byte[buffer.getInt(Integer.BYTES)];
+        buffer.position(Integer.BYTES * 2).get(actualKey);
+        if (buffer.getInt(0) != MAGIC || !Arrays.equals(expectedKey, actualKey)) {
+            throw new IOException("Unexpected contents in " + file);
+        }
+        final Set<Class<?>> types = new HashSet<>(plan.getObjectTypes());
+        types.add(plan.getTargetType());
+        return CorpusCodec.decode(buffer, this.testClass.getClassLoader(), types);
+    }
+
+    private void write(final Path file, final String key, final byte[] value) throws IOException {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + keyBytes.length)
+            .putInt(MAGIC)
+            .putInt(keyBytes.length)
+            .put(keyBytes)
+            .flip();
+        Files.createDirectories(this.directory);
+        final Path temporaryFile = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[] { header, ByteBuffer.wrap(value) });
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void describe(final Class<?> type, final Set<Class<?>> described, final StringBuilder layout) {
+        layout.append(type.getName());
+        if (type.isArray()) {
+            describe(type.getComponentType(), described, layout);
+            return;
+        }
+        if (type.isPrimitive() || type.getName().startsWith("java.") || !described.add(type)) {
+            return;
+        }
+        if (type.isEnum()) {
+            layout.append(Arrays.toString(type.getEnumConstants()));
+        }
+        layout.append('{');
+        for (Class<?> declaringClass = type; declaringClass != null && declaringClass != Object.class;
+                declaringClass = declaringClass.getSuperclass()) {
+            final Field[] fields = declaringClass.getDeclaredFields();
+            Arrays.sort(fields, Comparator.comparing(Field::getName));
+            for (final Field field : fields) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    layout.append(field.getName()).append(':').append(field.getGenericType().getTypeName()).append(';');
+                    describe(field.getType(), described, layout);
+                    describeTypeArguments(field.getGenericType(), described, layout);
+                }
+            }
+        }
+        layout.append('}');
+    }
+
+    private static void describeTypeArguments(final Type type, final Set<Class<?>> described,
+            final StringBuilder layout) {
+        if (type instanceof ParameterizedType) {
+            for (final Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (typeArgument instanceof Class) {
+                    describe((Class<?>) typeArgument, described, layout);
+                }
+                describeTypeArguments(typeArgument, described, layout);
+            }
+        }
+    }
+
+    private static String hash(final String value) {
+        return toHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(final byte[] digest) {
+        final StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            hex.append(Character.forDigit((digest[i] >> 4) & 0xf, 16)).append(Character.forDigit(digest[i] & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+}
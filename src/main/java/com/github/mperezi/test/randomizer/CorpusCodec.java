@@ -0,0 +1,684 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.DeepCopier.FieldAccessor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+
+/**
+ * Encode the object graphs generated by easy-random into a compact binary form, and decode them back.
+ *
+ * <p>
+ * Objects are encoded field by field, in the same order {@link DeepCopier} copies them, and decoded
+ * without calling any constructor. Class names are written just once per graph, and objects referenced
+ * more than once are encoded just once, so that the decoded graph has the same shape as the original
+ * one. Serializable JDK types without a more compact encoding fall back to Java serialization. Graphs
+ * holding any other object that cannot be accessed field by field cannot be encoded.
+ * </p>
+ *
+ * <p>
+ * Java serialized data is decoded through a filter that rejects any class but the types the graph is
+ * declared to be made of, the types of their fields, their subtypes and the classes nested in them, so
+ * that a tampered file cannot get arbitrary classes deserialized.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class CorpusCodec {
+
+    private static final byte NULL = 0;
+
+    private static final byte REFERENCE = 1;
+
+    private static final byte STRING = 2;
+
+    private static final byte BOOLEAN = 3;
+
+    private static final byte BYTE = 4;
+
+    private static final byte SHORT = 5;
+
+    private static final byte CHARACTER = 6;
+
+    private static final byte INTEGER = 7;
+
+    private static final byte LONG = 8;
+
+    private static final byte FLOAT = 9;
+
+    private static final byte DOUBLE = 10;
+
+    private static final byte ENUM = 11;
+
+    private static final byte CLASS = 12;
+
+    private static final byte BIG_INTEGER = 13;
+
+    private static final byte BIG_DECIMAL = 14;
+
+    private static final byte UUID_VALUE = 15;
+
+    private static final byte LOCAL_DATE = 16;
+
+    private static final byte LOCAL_TIME = 17;
+
+    private static final byte LOCAL_DATE_TIME = 18;
+
+    private static final byte INSTANT = 19;
+
+    private static final byte ARRAY = 20;
+
+    private static final byte COLLECTION = 21;
+
+    private static final byte MAP = 22;
+
+    private static final byte OBJECT = 23;
+
+    private static final byte SERIALIZED = 24;
+
+    private static final byte OPTIONAL = 25;
+
+    private static final int NEW_CLASS = -1;
+
+    private static final Set<String> JDK_SERIAL_FORMS = Set.of("java.time.Ser");
+
+    private CorpusCodec() {
+
+    }
+
+    /**
+     * Encode the given object graph.
+     * @param value the root of the graph, may be {@code null}
+     * @return the encoded graph
+     * @throws IllegalArgumentException if the graph holds objects that cannot be encoded
+     */
+    static byte[] encode(final Object value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Encoder encoder = new Encoder(new DataOutputStream(bytes))) {
+            encoder.write(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode an object graph.
+     * @param buffer the encoded graph, starting at the current position of the buffer
+     * @param classLoader the class loader to load the classes of the objects with
+     * @param types the types the objects of the graph are declared to be of
+     * @return the root of the graph
+     * @throws IllegalStateException if the graph holds Java serialized data of any other type
+     */
+    static Object decode(final ByteBuffer buffer, final ClassLoader classLoader,
+            final Collection<Class<?>> types) {
+        return new Decoder(buffer, classLoader, new TypesFilter(reachableTypes(types))).read();
+    }
+
+    private static boolean isJdkType(final Class<?> type) {
+        return type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+    }
+
+    private static final class Encoder implements AutoCloseable {
+
+        private final DataOutputStream out;
+
+        private final Map<Object, Integer> references = new IdentityHashMap<>();
+
+        private final Map<Class<?>, Integer> classes = new HashMap<>();
+
+        private Encoder(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(final Object value) throws IOException {
+            if (value == null) {
+                this.out.writeByte(NULL);
+            } else if (value instanceof Optional) {
+                this.out.writeByte(OPTIONAL);
+                this.write(((Optional<?>) value).orElse(null));
+            } else if (!this.writeImmutable(value)) {
+                final Integer reference = this.references.get(value);
+                if (reference != null) {
+                    this.out.writeByte(REFERENCE);
+                    this.out.writeInt(reference);
+                } else {
+                    this.references.put(value, this.references.size());
+                    this.writeMutable(value);
+                }
+            }
+        }
+
+        private boolean writeImmutable(final Object value) throws IOException {
+            if (value instanceof String) {
+                this.out.writeByte(STRING);
+                this.writeString((String) value);
+            } else if (value instanceof Boolean) {
+                this.out.writeByte(BOOLEAN);
+                this.out.writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                this.out.writeByte(BYTE);
+                this.out.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                this.out.writeByte(SHORT);
+                this.out.writeShort((Short) value);
+            } else if (value instanceof Character) {
+                this.out.writeByte(CHARACTER);
+                this.out.writeChar((Character) value);
+            } else if (value instanceof Integer) {
+                this.out.writeByte(INTEGER);
+                this.out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                this.out.writeByte(LONG);
+                this.out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                this.out.writeByte(FLOAT);
+                this.out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                this.out.writeByte(DOUBLE);
+                this.out.writeDouble((Double) value);
+            } else if (value instanceof Enum) {
+                this.out.writeByte(ENUM);
+                this.writeClass(((Enum<?>) value).getDeclaringClass());
+                this.writeString(((Enum<?>) value).name());
+            } else if (value instanceof Class) {
+                this.out.writeByte(CLASS);
+                this.writeClass((Class<?>) value);
+            } else {
+                return this.writeImmutableValue(value);
+            }
+            return true;
+        }
+
+        private boolean writeImmutableValue(final Object value) throws IOException {
+            if (value instanceof BigInteger) {
+                this.out.writeByte(BIG_INTEGER);
+                this.writeString(value.toString());
+            } else if (value instanceof BigDecimal) {
+                this.out.writeByte(BIG_DECIMAL);
+                this.writeString(value.toString());
+            } else if (value instanceof UUID) {
+                this.out.writeByte(UUID_VALUE);
+                this.out.writeLong(((UUID) value).getMostSignificantBits());
+                this.out.writeLong(((UUID) value).getLeastSignificantBits());
+            } else if (value instanceof LocalDate) {
+                this.out.writeByte(LOCAL_DATE);
+                this.out.writeLong(((LocalDate) value).toEpochDay());
+            } else if (value instanceof LocalTime) {
+                this.out.writeByte(LOCAL_TIME);
+                this.out.writeLong(((LocalTime) value).toNanoOfDay());
+            } else if (value instanceof LocalDateTime) {
+                this.out.writeByte(LOCAL_DATE_TIME);
+                this.out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                this.out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+            } else if (value instanceof Instant) {
+                this.out.writeByte(INSTANT);
+                this.out.writeLong(((Instant) value).getEpochSecond());
+                this.out.writeInt(((Instant) value).getNano());
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private void writeMutable(final Object value) throws IOException {
+            final Class<?> type = value.getClass();
+            if (type.isArray()) {
+                this.writeArray(value);
+            } else if (value instanceof EnumSet || value instanceof EnumMap || hasComparator(value)) {
+                this.writeSerialized(value);
+            } else if (value instanceof Collection) {
+                this.out.writeByte(COLLECTION);
+                this.writeClass(type);
+                this.out.writeInt(((Collection<?>) value).size());
+                for (final Object element : (Collection<?>) value) {
+                    this.write(element);
+                }
+            } else if (value instanceof Map) {
+                this.out.writeByte(MAP);
+                this.writeClass(type);
+                this.out.writeInt(((Map<?, ?>) value).size());
+                for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    this.write(entry.getKey());
+                    this.write(entry.getValue());
+                }
+            } else if (isJdkType(type)) {
+                this.writeSerialized(value);
+            } else {
+                this.writeObject(value);
+            }
+        }
+
+        private static boolean hasComparator(final Object value) {
+            return value instanceof SortedSet && ((SortedSet<?>) value).comparator() != null
+                    || value instanceof SortedMap && ((SortedMap<?, ?>) value).comparator() != null;
+        }
+
+        private void writeArray(final Object array) throws IOException {
+            final int length = Array.getLength(array);
+            this.out.writeByte(ARRAY);
+            this.writeClass(array.getClass());
+            this.out.writeInt(length);
+            final Class<?> componentType = array.getClass().getComponentType();
+            if (componentType == byte.class) {
+                this.out.write((byte[]) array);
+            } else if (componentType.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    this.writePrimitive(componentType, Array.get(array, i));
+                }
+            } else {
+                for (final Object element : (Object[]) array) {
+                    this.write(element);
+                }
+            }
+        }
+
+        private void writePrimitive(final Class<?> type, final Object value) throws IOException {
+            if (type == int.class) {
+                this.out.writeInt((Integer) value);
+            } else if (type == long.class) {
+                this.out.writeLong((Long) value);
+            } else if (type == double.class) {
+                this.out.writeDouble((Double) value);
+            } else if (type == float.class) {
+                this.out.writeFloat((Float) value);
+            } else if (type == short.class) {
+                this.out.writeShort((Short) value);
+            } else if (type == char.class) {
+                this.out.writeChar((Character) value);
+            } else {
+                this.out.writeBoolean((Boolean) value);
+            }
+        }
+
+        private void writeObject(final Object value) throws IOException {
+            final List<FieldAccessor> fields = DeepCopier.getFieldAccessors(value.getClass());
+            if (fields == null) {
+                this.writeSerialized(value);
+                return;
+            }
+            this.out.writeByte(OBJECT);
+            this.writeClass(value.getClass());
+            for (final FieldAccessor field : fields) {
+                this.write(field.get(value));
+            }
+        }
+
+        private void writeSerialized(final Object value) throws IOException {
+            if (!(value instanceof Serializable)) {
+                throw new IllegalArgumentException("Cannot encode " + value.getClass());
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                objects.writeObject(value);
+            }
+            this.out.writeByte(SERIALIZED);
+            this.out.writeInt(bytes.size());
+            bytes.writeTo(this.out);
+        }
+
+        private void writeClass(final Class<?> type) throws IOException {
+            final Integer index = this.classes.get(type);
+            if (index != null) {
+                this.out.writeInt(index);
+            } else {
+                this.classes.put(type, this.classes.size());
+                this.out.writeInt(NEW_CLASS);
+                this.writeString(type.getName());
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.out.writeInt(bytes.length);
+            this.out.write(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.out.close();
+        }
+
+    }
+
+    private static final class Decoder {
+
+        private final ByteBuffer in;
+
+        private final ClassLoader classLoader;
+
+        private final List<Object> references = new ArrayList<>();
+
+        private final List<Class<?>> classes = new ArrayList<>();
+
+        private final ObjectInputFilter filter;
+
+        private Decoder(final ByteBuffer in, final ClassLoader classLoader, final ObjectInputFilter filter) {
+            this.in = in;
+            this.classLoader = classLoader;
+            this.filter = filter;
+        }
+
+        Object read() {
+            final byte tag = this.in.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case REFERENCE:
+                    return this.references.get(this.in.getInt());
+                case STRING:
+                    return this.readString();
+                case BOOLEAN:
+                    return this.in.get() != 0;
+                case BYTE:
+                    return this.in.get();
+                case SHORT:
+                    return this.in.getShort();
+                case CHARACTER:
+                    return this.in.getChar();
+                case INTEGER:
+                    return this.in.getInt();
+                case LONG:
+                    return this.in.getLong();
+                case FLOAT:
+                    return this.in.getFloat();
+                case DOUBLE:
+                    return this.in.getDouble();
+                case ENUM:
+                    return this.readEnum();
+                case CLASS:
+                    return this.readClass();
+                default:
+                    return this.readValue(tag);
+            }
+        }
+
+        private Object readValue(final byte tag) {
+            switch (tag) {
+                case BIG_INTEGER:
+                    return new BigInteger(this.readString());
+                case BIG_DECIMAL:
+                    return new BigDecimal(this.readString());
+                case UUID_VALUE:
+                    return new UUID(this.in.getLong(), this.in.getLong());
+                case LOCAL_DATE:
+                    return LocalDate.ofEpochDay(this.in.getLong());
+                case LOCAL_TIME:
+                    return LocalTime.ofNanoOfDay(this.in.getLong());
+                case LOCAL_DATE_TIME:
+                    return LocalDateTime.of(LocalDate.ofEpochDay(this.in.getLong()),
+                            LocalTime.ofNanoOfDay(this.in.getLong()));
+                case INSTANT:
+                    return Instant.ofEpochSecond(this.in.getLong(), this.in.getInt());
+                case ARRAY:
+                    return this.readArray();
+                case COLLECTION:
+                    return this.readCollection();
+                case MAP:
+                    return this.readMap();
+                case OBJECT:
+                    return this.readObject();
+                case SERIALIZED:
+                    return this.readSerialized();
+                case OPTIONAL:
+                    return Optional.ofNullable(this.read());
+                default:
+                    throw new IllegalStateException("Unknown tag " + tag);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object readEnum() {
+            final Class enumeration = this.readClass();
+            return Enum.valueOf(enumeration, this.readString());
+        }
+
+        private Object readArray() {
+            final Class<?> componentType = this.readClass().getComponentType();
+            final int length = this.in.getInt();
+            final Object array = Array.newInstance(componentType, length);
+            this.references.add(array);
+            if (componentType == byte.class) {
+                this.in.get((byte[]) array);
+            } else if (componentType.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    Array.set(array, i, this.readPrimitive(componentType));
+                }
+            } else {
+                final Object[] elements = (Object[]) array;
+                for (int i = 0; i < length; i++) {
+                    elements[i] = this.read();
+                }
+            }
+            return array;
+        }
+
+        private Object readPrimitive(final Class<?> type) {
+            if (type == int.class) {
+                return this.in.getInt();
+            } else if (type == long.class) {
+                return this.in.getLong();
+            } else if (type == double.class) {
+                return this.in.getDouble();
+            } else if (type == float.class) {
+                return this.in.getFloat();
+            } else if (type == short.class) {
+                return this.in.getShort();
+            } else if (type == char.class) {
+                return this.in.getChar();
+            }
+            return this.in.get() != 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readCollection() {
+            final Collection<Object> collection =
+                    (Collection<Object>) DeepCopier.newContainer(this.readClass(), null);
+            this.references.add(collection);
+            for (int size = this.in.getInt(); size > 0; size--) {
+                collection.add(this.read());
+            }
+            return collection;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readMap() {
+            final Map<Object, Object> map = (Map<Object, Object>) DeepCopier.newContainer(this.readClass(), null);
+            this.references.add(map);
+            for (int size = this.in.getInt(); size > 0; size--) {
+                final Object key = this.read();
+                map.put(key, this.read());
+            }
+            return map;
+        }
+
+        private Object readObject() {
+            final Class<?> type = this.readClass();
+            final Object object = DeepCopier.newObject(type);
+            this.references.add(object);
+            final List<FieldAccessor> fields = DeepCopier.getFieldAccessors(type);
+            if (fields == null) {
+                throw new IllegalStateException("Cannot decode " + type);
+            }
+            for (final FieldAccessor field : fields) {
+                field.set(object, this.read());
+            }
+            return object;
+        }
+
+        private Object readSerialized() {
+            final byte[] bytes = new byte[this.in.getInt()];
+            this.in.get(bytes);
+            try (ObjectInputStream objects = new ClassLoaderObjectInputStream(bytes, this.classLoader)) {
+                objects.setObjectInputFilter(this.filter);
+                final Object object = objects.readObject();
+                this.references.add(object);
+                return object;
+            } catch (final InvalidClassException e) {
+                throw new IllegalStateException(e);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Class<?> readClass() {
+            final int index = this.in.getInt();
+            if (index != NEW_CLASS) {
+                return this.classes.get(index);
+            }
+            final Class<?> type = loadClass(this.readString(), this.classLoader);
+            this.classes.add(type);
+            return type;
+        }
+
+        private String readString() {
+            final byte[] bytes = new byte[this.in.getInt()];
+            this.in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+    }
+
+    private static Class<?> loadClass(final String name, final ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Set<Class<?>> reachableTypes(final Collection<Class<?>> types) {
+        final Set<Class<?>> reachable = new HashSet<>();
+        types.forEach(type -> addReachableTypes(type, reachable));
+        return reachable;
+    }
+
+    private static void addReachableTypes(final Class<?> type, final Set<Class<?>> reachable) {
+        if (type.isArray()) {
+            addReachableTypes(type.getComponentType(), reachable);
+            return;
+        }
+        if (!reachable.add(type) || type.isPrimitive() || isJdkType(type)) {
+            return;
+        }
+        for (Class<?> declaringClass = type; declaringClass != null && declaringClass != Object.class;
+                declaringClass = declaringClass.getSuperclass()) {
+            for (final Field field : declaringClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    addReachableTypes(field.getType(), reachable);
+                    addTypeArguments(field.getGenericType(), reachable);
+                }
+            }
+        }
+    }
+
+    private static void addTypeArguments(final Type type, final Set<Class<?>> reachable) {
+        if (type instanceof ParameterizedType) {
+            for (final Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (typeArgument instanceof Class) {
+                    addReachableTypes((Class<?>) typeArgument, reachable);
+                }
+                addTypeArguments(typeArgument, reachable);
+            }
+        }
+    }
+
+    /**
+     * Let through the classes of Java serialized data that belong to the types a graph is made of: the
+     * types themselves, their serializable superclasses, their subtypes, unless the type is as broad as
+     * {@link Object}, and the classes nested in any of them, e.g. serialization proxies.
+     */
+    private static final class TypesFilter implements ObjectInputFilter {
+
+        private final Set<Class<?>> types;
+
+        private TypesFilter(final Set<Class<?>> types) {
+            this.types = types;
+        }
+
+        @Override
+        public Status checkInput(final FilterInfo filterInfo) {
+            Class<?> type = filterInfo.serialClass();
+            if (type == null) {
+                return Status.UNDECIDED;
+            }
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            return this.isAllowed(type) ? Status.ALLOWED : Status.REJECTED;
+        }
+
+        private boolean isAllowed(final Class<?> type) {
+            if (type.isPrimitive() || JDK_SERIAL_FORMS.contains(type.getName())) {
+                return true;
+            }
+            for (final Class<?> allowed : this.types) {
+                if (type.isAssignableFrom(allowed)
+                        || allowed != Object.class && allowed != Serializable.class && allowed.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return type.getDeclaringClass() != null && this.isAllowed(type.getDeclaringClass());
+        }
+
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        private ClassLoaderObjectInputStream(final byte[] bytes, final ClassLoader classLoader) throws IOException {
+            super(new ByteArrayInputStream(bytes));
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass description)
+                throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, this.classLoader);
+            } catch (final ClassNotFoundException e) {
+                return super.resolveClass(description);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,414 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+
+/**
+ * Copy the object graphs generated by easy-random, so that a fixture can be generated just once and
+ * handed out to every test that asks for it.
+ *
+ * <p>
+ * Objects are copied field by field, without calling any constructor, the same way easy-random
+ * creates them. The fields to copy are looked up just once per class. Records, whose fields cannot be
+ * set, are created again through their {@link CanonicalConstructor} with copies of their components.
+ * Values known to be immutable (strings, boxed primitives, enumerations, {@code java.time} types...)
+ * are shared rather than copied. Other JDK types cannot be copied field by field: collections, maps,
+ * optionals and arrays are rebuilt, a few mutable types such as {@link StringBuilder} or
+ * {@link AtomicInteger} are copied by value, cloneable ones such as {@link java.util.Date} are cloned,
+ * and any other one fails to be copied rather than being shared by mistake. Objects referenced more
+ * than once are copied just once, so the copy has the same shape as the original graph, cycles
+ * included, except for cycles through a record, which point back to the original.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class DeepCopier {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+            BigDecimal.class, UUID.class, Class.class, Locale.class, Currency.class, URI.class, Pattern.class);
+
+    private static final Map<Class<?>, UnaryOperator<Object>> VALUE_COPIES = Map.of(
+            StringBuilder.class, value -> new StringBuilder((StringBuilder) value),
+            StringBuffer.class, value -> new StringBuffer((StringBuffer) value),
+            AtomicBoolean.class, value -> new AtomicBoolean(((AtomicBoolean) value).get()),
+            AtomicInteger.class, value -> new AtomicInteger(((AtomicInteger) value).get()),
+            AtomicLong.class, value -> new AtomicLong(((AtomicLong) value).get()));
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final Objenesis OBJENESIS = new ObjenesisStd(true);
+
+    private static final ClassValue<List<FieldAccessor>> FIELD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<FieldAccessor> computeValue(final Class<?> type) {
+            return findFieldAccessors(type);
+        }
+    };
+
+    private static final ClassValue<MethodHandle> CLONES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            return findClone(type);
+        }
+    };
+
+    private static final ClassValue<Supplier<Object>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Supplier<Object> computeValue(final Class<?> type) {
+            return findConstructor(type);
+        }
+    };
+
+    private DeepCopier() {
+
+    }
+
+    /**
+     * Copy the given object graph.
+     * @param object the root of the graph, may be {@code null}
+     * @return a copy of the graph
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(final T object) {
+        return (T) copy(object, new IdentityHashMap<>());
+    }
+
+    private static Object copy(final Object object, final Map<Object, Object> copies) {
+        if (object == null || isImmutable(object.getClass())) {
+            return object;
+        }
+        final Object copy = copies.get(object);
+        if (copy != null) {
+            return copy;
+        }
+        final Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return copyArray(object, copies);
+        } else if (object instanceof Collection) {
+            return copyCollection((Collection<?>) object, copies);
+        } else if (object instanceof Map) {
+            return copyMap((Map<?, ?>) object, copies);
+        } else if (object instanceof Optional) {
+            return ((Optional<?>) object).map(value -> copy(value, copies));
+        }
+        final List<FieldAccessor> fields = FIELD_ACCESSORS.get(type);
+        if (fields != null) {
+            return copyObject(object, fields, copies);
+        }
+        final CanonicalConstructor constructor = CanonicalConstructor.of(type);
+        if (constructor != null) {
+            return copyThroughConstructor(object, constructor, copies);
+        }
+        final UnaryOperator<Object> valueCopy = VALUE_COPIES.get(type);
+        final MethodHandle clone = CLONES.get(type);
+        if (valueCopy == null && clone == null) {
+            if (type.getName().startsWith("java.")) {
+                throw new ExtensionConfigurationException("Cannot copy " + type.getName()
+                        + ", share it with @Random(copy = false) or generate it per test instead");
+            }
+            // e.g. lambdas, which hold no state of their own
+            return object;
+        }
+        final Object value = valueCopy != null ? valueCopy.apply(object) : cloneObject(object, clone);
+        copies.put(object, value);
+        return value;
+    }
+
+    /**
+     * Tell whether the values of the given type are immutable, hence shared rather than copied.
+     * @param type the type of the values
+     * @return {@code true} for strings, boxed primitives, enumerations and the like
+     */
+    static boolean isImmutable(final Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+                || type.getName().startsWith("java.time.");
+    }
+
+    private static Object copyArray(final Object array, final Map<Object, Object> copies) {
+        final int length = Array.getLength(array);
+        final Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            final Object copy = Array.newInstance(componentType, length);
+            System.arraycopy(array, 0, copy, 0, length);
+            copies.put(array, copy);
+            return copy;
+        }
+        final Object[] elements = (Object[]) array;
+        final Object[] copy = (Object[]) Array.newInstance(componentType, length);
+        copies.put(array, copy);
+        for (int i = 0; i < length; i++) {
+            copy[i] = copy(elements[i], copies);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object copyCollection(final Collection<?> collection, final Map<Object, Object> copies) {
+        if (collection instanceof EnumSet) {
+            final Object copy = ((EnumSet) collection).clone();
+            copies.put(collection, copy);
+            return copy;
+        }
+        final Collection<Object> copy = (Collection<Object>) newContainer(collection);
+        copies.put(collection, copy);
+        for (final Object element : collection) {
+            copy.add(copy(element, copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyMap(final Map<?, ?> map, final Map<Object, Object> copies) {
+        final Map<Object, Object> copy = map instanceof EnumMap
+                ? new EnumMap<>((EnumMap) map)
+                : (Map<Object, Object>) newContainer(map);
+        copies.put(map, copy);
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+        return copy;
+    }
+
+    /**
+     * Create an empty collection or map to copy the given one into, of the same class if possible.
+     * @param container the collection or map to copy
+     * @return a new, empty and modifiable collection or map
+     */
+    static Object newContainer(final Object container) {
+        final Comparator<?> comparator = container instanceof SortedSet ? ((SortedSet<?>) container).comparator()
+                : container instanceof SortedMap ? ((SortedMap<?, ?>) container).comparator()
+                : null;
+        return newContainer(container.getClass(), comparator);
+    }
+
+    /**
+     * Create an empty collection or map of the given class if possible, or else of a class that
+     * implements the same interface.
+     * @param type the class of the collection or map
+     * @param comparator the comparator of a sorted collection or map, may be {@code null}
+     * @return a new, empty and modifiable collection or map
+     */
+    static Object newContainer(final Class<?> type, final Comparator<?> comparator) {
+        final Supplier<Object> constructor = CONSTRUCTORS.get(type);
+        if (constructor != null) {
+            return constructor.get();
+        } else if (SortedSet.class.isAssignableFrom(type)) {
+            return new TreeSet<>(comparator);
+        } else if (Set.class.isAssignableFrom(type)) {
+            return new LinkedHashSet<>();
+        } else if (Queue.class.isAssignableFrom(type)) {
+            return new ArrayDeque<>();
+        } else if (SortedMap.class.isAssignableFrom(type)) {
+            return new TreeMap<>(comparator);
+        } else if (Map.class.isAssignableFrom(type)) {
+            return new LinkedHashMap<>();
+        }
+        return new ArrayList<>();
+    }
+
+    private static MethodHandle findClone(final Class<?> type) {
+        if (!Cloneable.class.isAssignableFrom(type)) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(type.getMethod("clone")).asType(GETTER_TYPE);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Object cloneObject(final Object object, final MethodHandle clone) {
+        try {
+            return (Object) clone.invokeExact(object);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Cannot clone " + object.getClass().getName(), e);
+        }
+    }
+
+    private static Supplier<Object> findConstructor(final Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || SortedSet.class.isAssignableFrom(type)
+                || SortedMap.class.isAssignableFrom(type)) {
+            return null;
+        }
+        try {
+            final Constructor<?> constructor = type.getConstructor();
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (final ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot copy " + type, e);
+                }
+            };
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The accessors to the instance fields of the given type, including the inherited ones.
+     * @param type the type of the objects to access
+     * @return the accessors, or {@code null} if the objects cannot be accessed field by field
+     */
+    static List<FieldAccessor> getFieldAccessors(final Class<?> type) {
+        return FIELD_ACCESSORS.get(type);
+    }
+
+    /**
+     * Create an object of the given type without calling any constructor, so that its fields can be set
+     * afterwards.
+     * @param type the type of the object
+     * @return a new object with every field set to its default value
+     */
+    static Object newObject(final Class<?> type) {
+        return OBJENESIS.newInstance(type);
+    }
+
+    private static List<FieldAccessor> findFieldAccessors(final Class<?> type) {
+        final List<FieldAccessor> fields = new ArrayList<>();
+        for (Class<?> declaringClass = type; declaringClass != Object.class;
+                declaringClass = declaringClass.getSuperclass()) {
+            if (declaringClass.getName().startsWith("java.")) {
+                return null;
+            }
+            for (final Field field : declaringClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    final FieldAccessor accessor = FieldAccessor.of(field);
+                    if (accessor == null) {
+                        return null;
+                    }
+                    fields.add(accessor);
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    private static Object copyObject(final Object object, final List<FieldAccessor> fields,
+            final Map<Object, Object> copies) {
+        final Object copy = newObject(object.getClass());
+        copies.put(object, copy);
+        for (final FieldAccessor field : fields) {
+            final Object value = field.get(object);
+            field.set(copy, field.isPrimitive() ? value : copy(value, copies));
+        }
+        return copy;
+    }
+
+    private static Object copyThroughConstructor(final Object object, final CanonicalConstructor constructor,
+            final Map<Object, Object> copies) {
+        // the copy cannot exist before its components do, so cycles back to it keep the original
+        copies.put(object, object);
+        final Object[] arguments = constructor.getArguments(object);
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = copy(arguments[i], copies);
+        }
+        final Object copy = constructor.newInstance(arguments);
+        copies.put(object, copy);
+        return copy;
+    }
+
+    /**
+     * Read and write an instance field, whatever its visibility.
+     */
+    static final class FieldAccessor {
+
+        private final Field field;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private FieldAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        static FieldAccessor of(final Field field) {
+            try {
+                field.setAccessible(true);
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                return new FieldAccessor(field, lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                        lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            } catch (final IllegalAccessException | RuntimeException e) {
+                // e.g. the final fields of records, which are copied through their constructor instead
+                return null;
+            }
+        }
+
+        Field getField() {
+            return this.field;
+        }
+
+        boolean isPrimitive() {
+            return this.field.getType().isPrimitive();
+        }
+
+        Object get(final Object object) {
+            try {
+                return (Object) this.getter.invokeExact(object);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Cannot read " + this.field, e);
+            }
+        }
+
+        void set(final Object object, final Object value) {
+            try {
+                this.setter.invokeExact(object, value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Cannot write " + this.field, e);
+            }
+        }
+
+    }
+
+}
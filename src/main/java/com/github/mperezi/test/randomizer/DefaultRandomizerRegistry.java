@@ -0,0 +1,311 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.misc.BooleanRandomizer;
+import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.misc.LocaleRandomizer;
+import org.jeasy.random.randomizers.misc.UUIDRandomizer;
+import org.jeasy.random.randomizers.net.UriRandomizer;
+import org.jeasy.random.randomizers.net.UrlRandomizer;
+import org.jeasy.random.randomizers.number.AtomicIntegerRandomizer;
+import org.jeasy.random.randomizers.number.AtomicLongRandomizer;
+import org.jeasy.random.randomizers.number.BigDecimalRandomizer;
+import org.jeasy.random.randomizers.number.BigIntegerRandomizer;
+import org.jeasy.random.randomizers.number.ByteRandomizer;
+import org.jeasy.random.randomizers.number.DoubleRandomizer;
+import org.jeasy.random.randomizers.number.FloatRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.number.LongRandomizer;
+import org.jeasy.random.randomizers.number.ShortRandomizer;
+import org.jeasy.random.randomizers.range.DateRangeRandomizer;
+import org.jeasy.random.randomizers.range.InstantRangeRandomizer;
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.jeasy.random.randomizers.range.LocalDateRangeRandomizer;
+import org.jeasy.random.randomizers.range.LocalDateTimeRangeRandomizer;
+import org.jeasy.random.randomizers.range.LocalTimeRangeRandomizer;
+import org.jeasy.random.randomizers.range.LongRangeRandomizer;
+import org.jeasy.random.randomizers.range.OffsetDateTimeRangeRandomizer;
+import org.jeasy.random.randomizers.range.OffsetTimeRangeRandomizer;
+import org.jeasy.random.randomizers.range.SqlDateRangeRandomizer;
+import org.jeasy.random.randomizers.range.YearMonthRangeRandomizer;
+import org.jeasy.random.randomizers.range.YearRangeRandomizer;
+import org.jeasy.random.randomizers.range.ZonedDateTimeRangeRandomizer;
+import org.jeasy.random.randomizers.time.CalendarRandomizer;
+import org.jeasy.random.randomizers.time.DurationRandomizer;
+import org.jeasy.random.randomizers.time.GregorianCalendarRandomizer;
+import org.jeasy.random.randomizers.time.MonthDayRandomizer;
+import org.jeasy.random.randomizers.time.PeriodRandomizer;
+import org.jeasy.random.randomizers.time.SqlTimeRandomizer;
+import org.jeasy.random.randomizers.time.SqlTimestampRandomizer;
+import org.jeasy.random.randomizers.time.TimeZoneRandomizer;
+import org.jeasy.random.randomizers.time.ZoneIdRandomizer;
+import org.jeasy.random.randomizers.time.ZoneOffsetRandomizer;
+import org.jeasy.random.util.CharacterUtils;
+
+/**
+ * Registry of the randomizers used by default by the extension.
+ *
+ * <p>
+ * It takes precedence over the built-in registries of easy-random but not over the custom randomizers
+ * registered by a {@link CustomRandomFieldProvider}. Randomizers are seeded upon initialization like
+ * any other easy-random registry. Enumerations are handled here as well, since the randomizers
+ * {@link org.jeasy.random.EasyRandom} keeps for them would never be seeded again.
+ * </p>
+ *
+ * <p>
+ * It also stands in for the built-in registries of easy-random, which create every randomizer of theirs
+ * upon initialization and scan the whole charset twice, hence are too expensive to be initialized again
+ * for every seed. The same randomizers are created here through their public constructors, with the
+ * same arguments, but only the first time they are asked for after each initialization. The letters
+ * characters and strings are made of are collected once and for all.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Priority(-2)
+final class DefaultRandomizerRegistry implements RandomizerRegistry {
+
+    /**
+     * The lowest integral number generated by default.
+     */
+    static final int MIN_VALUE = 1;
+
+    /**
+     * The highest integral number generated by default.
+     */
+    static final int MAX_VALUE = 1000;
+
+    /**
+     * The letters easy-random picks characters from, which are always those of US-ASCII whatever the
+     * charset it is given, since its character randomizer collects them before setting the charset.
+     */
+    private static final char[] LETTERS = collectLetters();
+
+    private static final Map<Class<?>, RandomizerFactory> BUILT_IN_RANDOMIZERS = createBuiltInRandomizers();
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+
+    private EasyRandomParameters parameters;
+
+    private long seed;
+
+    /**
+     * Create a randomizer out of the parameters and seed the registry was initialized with.
+     */
+    @FunctionalInterface
+    private interface RandomizerFactory {
+
+        Randomizer<?> create(EasyRandomParameters parameters, long seed);
+
+    }
+
+    private static Map<Class<?>, RandomizerFactory> createBuiltInRandomizers() {
+        final Map<Class<?>, RandomizerFactory> factories = new HashMap<>();
+        factories.put(String.class, (parameters, seed) -> new LettersRandomizer(
+                parameters.getStringLengthRange().getMin(), parameters.getStringLengthRange().getMax(), seed));
+        factories.put(Character.class, (parameters, seed) -> new LettersRandomizer(seed));
+        factories.put(Boolean.class, (parameters, seed) -> new BooleanRandomizer(seed));
+        factories.put(boolean.class, (parameters, seed) -> new BooleanRandomizer(seed));
+        factories.put(Byte.class, (parameters, seed) -> new ByteRandomizer(seed));
+        factories.put(byte.class, (parameters, seed) -> new ByteRandomizer(seed));
+        factories.put(Short.class, (parameters, seed) -> new ShortRandomizer(seed));
+        factories.put(short.class, (parameters, seed) -> new ShortRandomizer(seed));
+        factories.put(int.class, (parameters, seed) -> new IntegerRandomizer(seed));
+        factories.put(long.class, (parameters, seed) -> new LongRandomizer(seed));
+        factories.put(Double.class, (parameters, seed) -> new DoubleRandomizer(seed));
+        factories.put(double.class, (parameters, seed) -> new DoubleRandomizer(seed));
+        factories.put(Float.class, (parameters, seed) -> new FloatRandomizer(seed));
+        factories.put(float.class, (parameters, seed) -> new FloatRandomizer(seed));
+        factories.put(BigInteger.class, (parameters, seed) -> new BigIntegerRandomizer(seed));
+        factories.put(BigDecimal.class, (parameters, seed) -> new BigDecimalRandomizer(seed));
+        factories.put(AtomicLong.class, (parameters, seed) -> new AtomicLongRandomizer(seed));
+        factories.put(AtomicInteger.class, (parameters, seed) -> new AtomicIntegerRandomizer(seed));
+        factories.put(Date.class, (parameters, seed) -> new DateRangeRandomizer(
+                java.sql.Date.valueOf(parameters.getDateRange().getMin()),
+                java.sql.Date.valueOf(parameters.getDateRange().getMax()), seed));
+        factories.put(java.sql.Date.class, (parameters, seed) -> new SqlDateRangeRandomizer(
+                java.sql.Date.valueOf(parameters.getDateRange().getMin()),
+                java.sql.Date.valueOf(parameters.getDateRange().getMax()), seed));
+        factories.put(Time.class, (parameters, seed) -> new SqlTimeRandomizer(seed));
+        factories.put(Timestamp.class, (parameters, seed) -> new SqlTimestampRandomizer(seed));
+        factories.put(Calendar.class, (parameters, seed) -> new CalendarRandomizer(seed));
+        factories.put(URL.class, (parameters, seed) -> new UrlRandomizer(seed));
+        factories.put(URI.class, (parameters, seed) -> new UriRandomizer(seed));
+        factories.put(Locale.class, (parameters, seed) -> new LocaleRandomizer(seed));
+        factories.put(UUID.class, (parameters, seed) -> new UUIDRandomizer(seed));
+        factories.put(Duration.class, (parameters, seed) -> new DurationRandomizer(seed));
+        factories.put(GregorianCalendar.class, (parameters, seed) -> new GregorianCalendarRandomizer(seed));
+        factories.put(Instant.class, (parameters, seed) -> new InstantRangeRandomizer(
+                parameters.getDateRange().getMin().atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                parameters.getDateRange().getMax().atStartOfDay(ZoneId.systemDefault()).toInstant(), seed));
+        factories.put(LocalDate.class, (parameters, seed) -> new LocalDateRangeRandomizer(
+                parameters.getDateRange().getMin(), parameters.getDateRange().getMax(), seed));
+        factories.put(LocalDateTime.class, (parameters, seed) -> new LocalDateTimeRangeRandomizer(
+                LocalDateTime.of(parameters.getDateRange().getMin(), parameters.getTimeRange().getMin()),
+                LocalDateTime.of(parameters.getDateRange().getMax(), parameters.getTimeRange().getMax()), seed));
+        factories.put(LocalTime.class, (parameters, seed) -> new LocalTimeRangeRandomizer(
+                parameters.getTimeRange().getMin(), parameters.getTimeRange().getMax(), seed));
+        factories.put(MonthDay.class, (parameters, seed) -> new MonthDayRandomizer(seed));
+        factories.put(OffsetDateTime.class, (parameters, seed) -> new OffsetDateTimeRangeRandomizer(
+                LocalDateTime.of(parameters.getDateRange().getMin(), parameters.getTimeRange().getMin())
+                    .atOffset(OffsetDateTime.now().getOffset()),
+                LocalDateTime.of(parameters.getDateRange().getMax(), parameters.getTimeRange().getMax())
+                    .atOffset(OffsetDateTime.now().getOffset()), seed));
+        factories.put(OffsetTime.class, (parameters, seed) -> new OffsetTimeRangeRandomizer(
+                parameters.getTimeRange().getMin().atOffset(OffsetDateTime.now().getOffset()),
+                parameters.getTimeRange().getMax().atOffset(OffsetDateTime.now().getOffset()), seed));
+        factories.put(Period.class, (parameters, seed) -> new PeriodRandomizer(seed));
+        factories.put(TimeZone.class, (parameters, seed) -> new TimeZoneRandomizer(seed));
+        factories.put(YearMonth.class, (parameters, seed) -> new YearMonthRangeRandomizer(
+                YearMonth.from(parameters.getDateRange().getMin()),
+                YearMonth.from(parameters.getDateRange().getMax()), seed));
+        factories.put(Year.class, (parameters, seed) -> new YearRangeRandomizer(
+                Year.of(parameters.getDateRange().getMin().getYear()),
+                Year.of(parameters.getDateRange().getMax().getYear()), seed));
+        factories.put(ZonedDateTime.class, (parameters, seed) -> new ZonedDateTimeRangeRandomizer(
+                LocalDateTime.of(parameters.getDateRange().getMin(), parameters.getTimeRange().getMin())
+                    .atZone(ZoneId.systemDefault()),
+                LocalDateTime.of(parameters.getDateRange().getMax(), parameters.getTimeRange().getMax())
+                    .atZone(ZoneId.systemDefault()), seed));
+        factories.put(ZoneOffset.class, (parameters, seed) -> new ZoneOffsetRandomizer(seed));
+        factories.put(ZoneId.class, (parameters, seed) -> new ZoneIdRandomizer(seed));
+        return factories;
+    }
+
+    private static char[] collectLetters() {
+        final List<Character> letters = CharacterUtils.filterLetters(
+                CharacterUtils.collectPrintableCharactersOf(StandardCharsets.US_ASCII));
+        final char[] array = new char[letters.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = letters.get(i);
+        }
+        return array;
+    }
+
+    @Override
+    public void init(final EasyRandomParameters parameters) {
+        this.parameters = parameters;
+        this.seed = parameters.getSeed();
+        this.randomizers.clear();
+        this.randomizers.put(Long.class, new LongRangeRandomizer((long) MIN_VALUE, (long) MAX_VALUE, this.seed));
+        this.randomizers.put(Integer.class, new IntegerRangeRandomizer(MIN_VALUE, MAX_VALUE, this.seed));
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(final Field field) {
+        return this.getRandomizer(field.getType());
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(final Class<?> type) {
+        if (type.isEnum()) {
+            return this.randomizers.computeIfAbsent(type, this::createEnumRandomizer);
+        } else if (type == char.class) {
+            // characters of both kinds are picked by the same randomizer, as easy-random does
+            return this.getRandomizer(Character.class);
+        }
+        Randomizer<?> randomizer = this.randomizers.get(type);
+        final RandomizerFactory factory = BUILT_IN_RANDOMIZERS.get(type);
+        if (randomizer == null && factory != null) {
+            randomizer = factory.create(this.parameters, this.seed);
+            this.randomizers.put(type, randomizer);
+        }
+        return randomizer;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Randomizer<?> createEnumRandomizer(final Class<?> enumeration) {
+        return new EnumRandomizer(enumeration, this.seed);
+    }
+
+    /**
+     * Pick letters, or strings of them, the same way as the character and string randomizers of
+     * easy-random do, but out of letters collected once and for all.
+     */
+    private static final class LettersRandomizer implements Randomizer<Object> {
+
+        private final int minLength;
+
+        private final int maxLength;
+
+        private final java.util.Random lengthRandom;
+
+        private final java.util.Random letterRandom;
+
+        /**
+         * Pick single characters.
+         */
+        LettersRandomizer(final long seed) {
+            this(-1, -1, seed);
+        }
+
+        /**
+         * Pick strings of a length within the given range.
+         */
+        LettersRandomizer(final int minLength, final int maxLength, final long seed) {
+            if (minLength > maxLength) {
+                throw new IllegalArgumentException("minLength should be less than or equal to maxLength");
+            }
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.lengthRandom = minLength < 0 ? null : new java.util.Random(seed);
+            this.letterRandom = new java.util.Random(seed);
+        }
+
+        private char nextLetter() {
+            return LETTERS[this.letterRandom.nextInt(LETTERS.length)];
+        }
+
+        @Override
+        public Object getRandomValue() {
+            if (this.lengthRandom == null) {
+                return this.nextLetter();
+            }
+            final double length = this.minLength + this.lengthRandom.nextDouble() * (this.maxLength - this.minLength);
+            final char[] string = new char[(int) Math.min(Math.max(length, this.minLength), this.maxLength)];
+            for (int i = 0; i < string.length; i++) {
+                string[i] = this.nextLetter();
+            }
+            return new String(string);
+        }
+
+    }
+
+}
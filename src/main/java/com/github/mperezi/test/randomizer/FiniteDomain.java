@@ -0,0 +1,106 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * The values a type may take when generated by default, for those types that take just a few of them:
+ * enumerations, booleans, and integral numbers between {@value DefaultRandomizerRegistry#MIN_VALUE} and
+ * {@value DefaultRandomizerRegistry#MAX_VALUE}.
+ *
+ * <p>
+ * Knowing the domain of a type, sets of distinct values can be sampled from it without replacement
+ * instead of generating values until enough distinct ones are found, which gets slower and slower as
+ * the set gets close to the size of the domain.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class FiniteDomain {
+
+    private static final FiniteDomain BOOLEANS = new FiniteDomain(Boolean.class, 2);
+
+    private static final FiniteDomain INTEGERS = new FiniteDomain(Integer.class,
+            DefaultRandomizerRegistry.MAX_VALUE - DefaultRandomizerRegistry.MIN_VALUE);
+
+    private static final FiniteDomain LONGS = new FiniteDomain(Long.class,
+            DefaultRandomizerRegistry.MAX_VALUE - DefaultRandomizerRegistry.MIN_VALUE);
+
+    private final Class<?> type;
+
+    private final int size;
+
+    private final Object[] constants;
+
+    private FiniteDomain(final Class<?> type, final int size) {
+        this.type = type;
+        this.size = size;
+        this.constants = null;
+    }
+
+    private FiniteDomain(final Class<?> type, final Object[] constants) {
+        this.type = type;
+        this.size = constants.length;
+        this.constants = constants;
+    }
+
+    /**
+     * The domain of the given type when generated by default.
+     * @param type the type of the values
+     * @return the domain of the type, or {@code null} if it is unknown or too large to care
+     */
+    static FiniteDomain of(final Class<?> type) {
+        if (type.isEnum()) {
+            return new FiniteDomain(type, type.getEnumConstants());
+        } else if (type == Boolean.class) {
+            return BOOLEANS;
+        } else if (type == Integer.class) {
+            return INTEGERS;
+        } else if (type == Long.class) {
+            return LONGS;
+        }
+        return null;
+    }
+
+    /**
+     * The number of distinct values in the domain.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Pick the given number of distinct values from the domain, following Floyd's algorithm so that
+     * every value is picked at most once.
+     * @param count the number of values, which must not be greater than the size of the domain
+     * @param seed the seed to pick the values from
+     * @param values the set to add the values to
+     * @return the same set
+     */
+    Set<Object> sample(final int count, final long seed, final Set<Object> values) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final Set<Integer> indexes = new HashSet<>(HashCapacity.of(count));
+        for (int bound = this.size - count; bound < this.size; bound++) {
+            int index = random.nextInt(bound + 1);
+            if (!indexes.add(index)) {
+                index = bound;
+                indexes.add(index);
+            }
+            values.add(this.get(index));
+        }
+        return values;
+    }
+
+    private Object get(final int index) {
+        if (this.constants != null) {
+            return this.constants[index];
+        } else if (this.type == Boolean.class) {
+            return index == 1;
+        } else if (this.type == Integer.class) {
+            return DefaultRandomizerRegistry.MIN_VALUE + index;
+        }
+        return (long) DefaultRandomizerRegistry.MIN_VALUE + index;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.PACKAGE;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Generate a {@link GeneratedRandomizer} at compile time for each of the given types, so that their
+ * objects are created without reflection.
+ *
+ * <p>
+ * It takes {@link com.github.mperezi.test.randomizer.processor.RandomizerProcessor} to be run by the
+ * compiler, which is not by default. Types are created through their canonical constructor if they are
+ * records or immutable classes, otherwise through their constructor without arguments, and then their
+ * fields are set directly or through their setters. Their randomizers are used as soon as they are on
+ * the classpath, the rest of the types are still created by easy-random.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Target({ TYPE, PACKAGE })
+@Retention(SOURCE)
+@Documented
+public @interface GenerateRandomizer {
+
+    /**
+     * The types to generate a randomizer for.
+     */
+    Class<?>[] value();
+
+}
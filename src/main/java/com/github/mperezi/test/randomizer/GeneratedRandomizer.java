@@ -0,0 +1,134 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+
+/**
+ * The base class of the randomizers generated at compile time for the types listed in
+ * {@link GenerateRandomizer}, which create objects by calling their constructors, setters and fields
+ * directly rather than through reflection.
+ *
+ * <p>
+ * A generated randomizer is named after the type it creates, in the same package, with its nested
+ * classes separated by {@code _} and ending in {@link #SUFFIX}, and it is found by that name. The
+ * values of the fields are generated the same way as those of any other object, so that custom
+ * randomizers, the randomization depth and the rest of the settings apply to them too. Only the type
+ * it creates is not looked up, instantiated or filled by reflection.
+ * </p>
+ *
+ * @param <T> the type of the objects created
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ * @see com.github.mperezi.test.randomizer.processor.RandomizerProcessor
+ */
+public abstract class GeneratedRandomizer<T> implements ContextAwareRandomizer<T> {
+
+    /**
+     * The suffix of the names of generated randomizers.
+     */
+    public static final String SUFFIX = "_Randomizer";
+
+    private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(final Class<?> type) {
+            if (type.getClassLoader() == null || type.isArray() || type.isPrimitive()) {
+                return Optional.empty();
+            }
+            try {
+                final Class<?> randomizerType = Class.forName(getName(type), false, type.getClassLoader());
+                if (!GeneratedRandomizer.class.isAssignableFrom(randomizerType)) {
+                    return Optional.empty();
+                }
+                final Constructor<?> constructor = randomizerType.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return Optional.of(constructor);
+            } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final Field[] fields;
+
+    private final Type[] types;
+
+    private ReseedableEasyRandom easyRandom;
+
+    private RandomizerContext context;
+
+    /**
+     * Create a randomizer setting the given fields of the given type.
+     * @param type the type of the objects created
+     * @param fieldNames the names of the fields set, declared by the type or any of its superclasses, in
+     *        the order their values are given to {@link #create(Object[])}
+     */
+    protected GeneratedRandomizer(final Class<T> type, final String... fieldNames) {
+        this.fields = new Field[fieldNames.length];
+        this.types = new Type[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            this.fields[i] = findField(type, fieldNames[i]);
+            this.types[i] = this.fields[i].getGenericType();
+        }
+    }
+
+    private static Field findField(final Class<?> type, final String name) {
+        for (Class<?> declaringType = type; declaringType != null; declaringType = declaringType.getSuperclass()) {
+            try {
+                return declaringType.getDeclaredField(name);
+            } catch (final NoSuchFieldException e) {
+                // declared by a superclass
+            }
+        }
+        throw new IllegalStateException("No field " + name + " in " + type.getName());
+    }
+
+    static String getName(final Class<?> type) {
+        return type.getName().replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * Find the generated randomizer of the given type.
+     * @param type the type
+     * @param easyRandom the generator of the values of its fields
+     * @return a new randomizer, or {@code null} if the type has none
+     */
+    static GeneratedRandomizer<?> find(final Class<?> type, final ReseedableEasyRandom easyRandom) {
+        final Optional<Constructor<?>> constructor = CONSTRUCTORS.get(type);
+        if (constructor.isEmpty()) {
+            return null;
+        }
+        try {
+            final GeneratedRandomizer<?> randomizer = (GeneratedRandomizer<?>) constructor.get().newInstance();
+            randomizer.easyRandom = easyRandom;
+            return randomizer;
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + getName(type), e);
+        }
+    }
+
+    /**
+     * Create a new object out of the values of its fields.
+     * @param values the values, in the order of the names given upon creation
+     * @return the new object
+     */
+    protected abstract T create(Object[] values);
+
+    @Override
+    public void setRandomizerContext(final RandomizerContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public T getRandomValue() {
+        if (this.easyRandom == null) {
+            throw new IllegalStateException(this.getClass().getName() + " can only be used by the extension");
+        }
+        this.easyRandom.countCreatedObject();
+        return this.create(this.easyRandom.generateArguments(this.fields, this.types, this.context));
+    }
+
+}
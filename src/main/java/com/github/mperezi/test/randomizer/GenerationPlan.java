@@ -0,0 +1,492 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jeasy.random.api.RandomizerRegistry;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static org.jeasy.random.util.ReflectionUtils.getWrapperType;
+
+/**
+ * How to generate a random value for a field or parameter annotated with {@link Random}, worked out
+ * once from its generic type so that generating values over and over skips the type analysis.
+ *
+ * <p>
+ * A plan is a tree whose inner nodes are containers (arrays, lists, sets, maps, optionals, and the lazy
+ * streams, iterators and iterables) and whose leaves are objects generated by easy-random. Suppliers, and
+ * values of interface types marked as {@link Random#lazy()}, defer the generation of the value they wrap
+ * until it is first used. The types of the elements are read from the type arguments of the field or
+ * parameter, unless given by {@link Random#type()}.
+ * </p>
+ *
+ * <p>
+ * Only the outermost container gets the size of {@link Random#size()}. Nested containers get a size
+ * within the collection size range of the {@link RandomizerSettings}, just like the collections nested
+ * in the objects generated by easy-random, so that the number of elements does not grow as a power of
+ * the size. Plans that may take more than ten million elements all the same are rejected.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class GenerationPlan {
+
+    private static final int MAX_RETRIES_PER_ELEMENT = 10;
+
+    private static final long MAX_ELEMENTS = 10_000_000;
+
+    /**
+     * The size of nested containers, picked for each of them from the collection size range of the
+     * settings.
+     */
+    private static final int NESTED_SIZE = Integer.MIN_VALUE;
+
+    private enum Kind {
+        OBJECT, OBJECT_ARRAY, PRIMITIVE_ARRAY, STREAM, ITERATOR, ITERABLE, LIST, SET, MAP, OPTIONAL, SUPPLIER, PROXY
+    }
+
+    private final Kind kind;
+
+    private final Class<?> targetType;
+
+    private final Random annotation;
+
+    private final int size;
+
+    private final GenerationPlan key;
+
+    private final GenerationPlan element;
+
+    private GenerationPlan(final Kind kind, final Class<?> targetType, final Random annotation, final int size,
+            final GenerationPlan key, final GenerationPlan element) {
+        this.kind = kind;
+        this.targetType = targetType;
+        this.annotation = annotation;
+        this.size = size;
+        this.key = key;
+        this.element = element;
+    }
+
+    /**
+     * Work out the plan to generate values for a field or parameter.
+     * @param type the generic type of the field or parameter
+     * @param annotation the annotation of the field or parameter
+     * @return a new plan
+     */
+    static GenerationPlan of(final Type type, final Random annotation) {
+        final Class<?> targetType = rawType(type);
+        final Class<?> elementType = annotation.type();
+        final int size = annotation.size();
+        if (targetType == Supplier.class) {
+            final Type argument = typeArgument(type, 0);
+            return new GenerationPlan(Kind.SUPPLIER, targetType, annotation, size, null,
+                    argument != null ? ofValue(argument, annotation)
+                            : elementType != void.class ? ofValue(elementType, annotation) : null);
+        } else if (annotation.lazy()) {
+            return new GenerationPlan(Kind.PROXY, targetType, annotation, size, null, ofValue(type, annotation));
+        }
+        return ofValue(type, annotation);
+    }
+
+    private static GenerationPlan ofValue(final Type type, final Random annotation) {
+        final Class<?> targetType = rawType(type);
+        final Class<?> elementType = annotation.type();
+        final int size = annotation.size();
+        if (targetType.isArray() && PrimitiveArrays.isSupported(targetType.getComponentType())) {
+            return new GenerationPlan(Kind.PRIMITIVE_ARRAY, targetType, annotation, size, null,
+                    leaf(targetType.getComponentType()));
+        } else if (targetType.isArray() && !targetType.getComponentType().isPrimitive()) {
+            return new GenerationPlan(Kind.OBJECT_ARRAY, targetType, annotation, size, null,
+                    leaf(elementType == void.class ? rawType(componentType(type)) : elementType));
+        } else if (targetType == Stream.class || targetType == Iterator.class || targetType == Iterable.class) {
+            final Kind kind = targetType == Stream.class ? Kind.STREAM
+                    : targetType == Iterator.class ? Kind.ITERATOR : Kind.ITERABLE;
+            final Type argument = typeArgument(type, 0);
+            return new GenerationPlan(kind, targetType, annotation, size, null,
+                    elementType != void.class ? leaf(elementType) : argument == null ? null : leaf(rawType(argument)));
+        }
+        return of(type, elementType, size, annotation);
+    }
+
+    private static GenerationPlan of(final Type type, final Class<?> elementType, final int size,
+            final Random annotation) {
+        final Class<?> targetType = rawType(type);
+        if (targetType.isAssignableFrom(List.class)) {
+            return new GenerationPlan(Kind.LIST, targetType, annotation, size, null,
+                    elementOf(type, 0, elementType));
+        } else if (targetType.isAssignableFrom(Set.class)) {
+            return new GenerationPlan(Kind.SET, targetType, annotation, size, null,
+                    elementOf(type, 0, elementType));
+        } else if (targetType.isAssignableFrom(Map.class)) {
+            final GenerationPlan key = elementOf(type, 0, void.class);
+            final GenerationPlan value = elementOf(type, 1, elementType);
+            return new GenerationPlan(Kind.MAP, targetType, annotation, size, key,
+                    key == null ? null : value);
+        } else if (targetType == Optional.class) {
+            return new GenerationPlan(Kind.OPTIONAL, targetType, annotation, size, null,
+                    elementOf(type, 0, elementType));
+        }
+        return new GenerationPlan(Kind.OBJECT, targetType, annotation, size, null, null);
+    }
+
+    private static GenerationPlan leaf(final Class<?> type) {
+        return new GenerationPlan(Kind.OBJECT, type, null, 0, null, null);
+    }
+
+    private static GenerationPlan elementOf(final Type type, final int index, final Class<?> elementType) {
+        if (elementType != void.class) {
+            return leaf(elementType);
+        }
+        final Type argument = typeArgument(type, index);
+        return argument == null ? null : of(argument, void.class, NESTED_SIZE, null);
+    }
+
+    private static Type typeArgument(final Type type, final int index) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type argument = ((ParameterizedType) type).getActualTypeArguments()[index];
+        if (argument instanceof WildcardType) {
+            argument = ((WildcardType) argument).getUpperBounds()[0];
+        } else if (argument instanceof TypeVariable) {
+            argument = ((TypeVariable<?>) argument).getBounds()[0];
+        }
+        return argument == Object.class ? null : argument;
+    }
+
+    private static Type componentType(final Type type) {
+        return type instanceof GenericArrayType
+                ? ((GenericArrayType) type).getGenericComponentType()
+                : ((Class<?>) type).getComponentType();
+    }
+
+    private static Class<?> rawType(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * The declared type of the value.
+     */
+    Class<?> getTargetType() {
+        return this.targetType;
+    }
+
+    /**
+     * The type of the elements of the value (or its map values), if it is a container whose elements are
+     * typed.
+     */
+    Class<?> getElementType() {
+        return this.kind == Kind.OBJECT || this.element == null ? null : this.element.targetType;
+    }
+
+    /**
+     * The annotation of the field or parameter the plan was worked out for.
+     */
+    Random getAnnotation() {
+        return this.annotation;
+    }
+
+    /**
+     * Tell whether the elements of the value are generated on demand, hence cannot be kept or shared.
+     */
+    boolean isLazy() {
+        return this.kind == Kind.STREAM || this.kind == Kind.ITERATOR || this.kind == Kind.ITERABLE;
+    }
+
+    /**
+     * Tell whether the whole value is generated the first time it is used, see {@link #defer(Supplier)}.
+     */
+    boolean isDeferred() {
+        return this.kind == Kind.SUPPLIER || this.kind == Kind.PROXY;
+    }
+
+    /**
+     * The plan to generate the value whose generation is deferred, if it is.
+     */
+    GenerationPlan getDeferredPlan() {
+        return this.isDeferred() ? this.element : null;
+    }
+
+    /**
+     * Every type of object generated by the plan, containers aside.
+     * @return the types of the leaves of the plan
+     */
+    Set<Class<?>> getObjectTypes() {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        this.collectObjectTypes(types);
+        return types;
+    }
+
+    private void collectObjectTypes(final Set<Class<?>> types) {
+        if (this.kind == Kind.OBJECT) {
+            types.add(this.targetType);
+        }
+        if (this.key != null) {
+            this.key.collectObjectTypes(types);
+        }
+        if (this.element != null) {
+            this.element.collectObjectTypes(types);
+        }
+    }
+
+    /**
+     * A short description of the value, e.g. {@code Map<String, List<Order>>[10]} for a map of 10 lists
+     * of orders.
+     */
+    String describe() {
+        return this.describe(false) + this.describeSize();
+    }
+
+    /**
+     * A description of the value that tells apart values generated differently, e.g. to share them.
+     */
+    String getKey() {
+        return this.describe(true) + this.describeSize();
+    }
+
+    private String describeSize() {
+        return this.kind == Kind.OBJECT || this.kind == Kind.OPTIONAL || this.isDeferred() || this.size < 0
+                ? ""
+                : "[" + this.size + "]";
+    }
+
+    private String describe(final boolean qualified) {
+        final String name = qualified ? this.targetType.getName() : this.targetType.getSimpleName();
+        if (this.kind == Kind.OBJECT || this.element == null) {
+            return name;
+        } else if (this.kind == Kind.PROXY) {
+            return "lazy " + this.element.describe(qualified) + this.element.describeSize();
+        } else if (this.kind == Kind.SUPPLIER) {
+            return name + "<" + this.element.describe(qualified) + this.element.describeSize() + ">";
+        } else if (this.kind == Kind.OBJECT_ARRAY || this.kind == Kind.PRIMITIVE_ARRAY) {
+            return this.element.describe(qualified);
+        } else if (this.kind == Kind.MAP) {
+            return name + "<" + this.key.describe(qualified) + ", " + this.element.describe(qualified) + ">";
+        }
+        return name + "<" + this.element.describe(qualified) + ">";
+    }
+
+    /**
+     * Generate a value following the plan.
+     * @param testClassRandomizer the generation state of the test class
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the value from
+     * @return the generated value
+     * @throws CollectionNotTypedException if the value is a container whose elements are not typed
+     */
+    Object generate(final TestClassRandomizer testClassRandomizer, final RandomizerRegistry registry,
+            final long seed) {
+        this.validate(testClassRandomizer.getSettings());
+        switch (this.kind) {
+            case SUPPLIER:
+            case PROXY:
+                return this.defer(() -> this.element.generate(testClassRandomizer, registry, seed));
+            case OBJECT_ARRAY:
+                return testClassRandomizer.generateObjects(registry, seed, this.element.targetType,
+                        (Object[]) Array.newInstance(this.targetType.getComponentType(), this.size));
+            case PRIMITIVE_ARRAY:
+                return this.generatePrimitiveArray(testClassRandomizer, registry, seed);
+            case STREAM:
+                return StreamSupport.stream(this.spliterate(testClassRandomizer, registry, seed), false);
+            case ITERATOR:
+                return Spliterators.iterator(this.spliterate(testClassRandomizer, registry, seed));
+            case ITERABLE:
+                return (Iterable<Object>) () -> Spliterators.iterator(
+                        this.spliterate(testClassRandomizer, registry, seed));
+            case LIST:
+                return this.generateList(testClassRandomizer, registry, seed);
+            case SET:
+                return this.generateSet(testClassRandomizer, registry, seed);
+            case MAP:
+                return this.generateMap(testClassRandomizer, registry, seed);
+            case OPTIONAL:
+                return Optional.ofNullable(this.element.generate(testClassRandomizer, registry, seed));
+            default:
+                return testClassRandomizer.generateObject(registry, seed, this.targetType);
+        }
+    }
+
+    /**
+     * Wrap a value so that it is generated the first time it is used.
+     * @param generator how to generate the value, following the {@link #getDeferredPlan() deferred plan}
+     * @return a new supplier of the value, or a new proxy of its interface
+     * @throws CollectionNotTypedException if the type of the value, or of its elements, is not given
+     */
+    Object defer(final Supplier<Object> generator) {
+        this.validate();
+        this.element.validate();
+        return this.kind == Kind.PROXY ? LazyValue.proxy(this.targetType, generator) : new LazyValue(generator);
+    }
+
+    private void validate() {
+        if (this.kind != Kind.OBJECT && this.element == null) {
+            throw new CollectionNotTypedException();
+        }
+        if (this.kind == Kind.PROXY && !this.targetType.isInterface()) {
+            throw new ExtensionConfigurationException("Only values of interface types can be lazy, not "
+                    + this.targetType.getName() + ", which can be injected as a Supplier instead");
+        }
+        if (!this.isLazy() && this.kind != Kind.OBJECT && this.kind != Kind.OPTIONAL && !this.isDeferred()
+                && this.size < 0 && this.size != NESTED_SIZE) {
+            throw new ExtensionConfigurationException("Only streams, iterators and iterables can be unbounded");
+        }
+    }
+
+    private void validate(final RandomizerSettings settings) {
+        this.validate();
+        if (this.countElements(settings.getMaxCollectionSize()) > MAX_ELEMENTS) {
+            throw new ExtensionConfigurationException(String.format("%s may take more than %d elements, reduce"
+                    + " its size or the maximum collection size", this.describe(), MAX_ELEMENTS));
+        }
+    }
+
+    /**
+     * The greatest number of elements the value may take, objects and containers alike, or as many as
+     * there are until the first lazy container.
+     */
+    private double countElements(final int maxNestedSize) {
+        if (this.kind == Kind.OBJECT || this.element == null || this.isLazy()) {
+            return 1;
+        } else if (this.kind == Kind.OPTIONAL || this.isDeferred()) {
+            return 1 + this.element.countElements(maxNestedSize);
+        }
+        final double size = this.size == NESTED_SIZE ? maxNestedSize : this.size;
+        final double keys = this.key == null ? 0 : this.key.countElements(maxNestedSize);
+        return 1 + size * (keys + this.element.countElements(maxNestedSize));
+    }
+
+    /**
+     * The number of elements of a container, either its fixed size or, if it is nested, a size picked
+     * out of the given seed.
+     */
+    private int sizeOf(final TestClassRandomizer testClassRandomizer, final long seed) {
+        if (this.size != NESTED_SIZE) {
+            return this.size;
+        }
+        final RandomizerSettings settings = testClassRandomizer.getSettings();
+        final long range = (long) settings.getMaxCollectionSize() - settings.getMinCollectionSize() + 1;
+        return settings.getMinCollectionSize() + (int) Math.floorMod(Seeds.derive(seed, "size"), range);
+    }
+
+    private Spliterator<Object> spliterate(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        return testClassRandomizer.spliterateObjects(registry, seed, this.element.targetType, this.size);
+    }
+
+    private List<Object> generateList(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        final int size = this.sizeOf(testClassRandomizer, seed);
+        final List<Object> list = new ArrayList<>(size);
+        if (this.element.kind == Kind.OBJECT) {
+            Collections.addAll(list,
+                    testClassRandomizer.generateObjects(registry, seed, this.element.targetType, size));
+        } else {
+            for (int i = 0; i < size; i++) {
+                list.add(this.element.generate(testClassRandomizer, registry, Seeds.derive(seed, i)));
+            }
+        }
+        return list;
+    }
+
+    private Object generatePrimitiveArray(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        final Class<?> componentType = this.targetType.getComponentType();
+        final Class<?> customType = registry.getRandomizer(componentType) != null ? componentType
+                : registry.getRandomizer(getWrapperType(componentType)) != null ? getWrapperType(componentType)
+                : null;
+        if (customType == null) {
+            return PrimitiveArrays.create(componentType, this.size, seed);
+        }
+        // custom randomizers are not to be bypassed, so elements are generated one by one and unboxed
+        final Object[] objects = testClassRandomizer.generateObjects(registry, seed, customType, this.size);
+        final Object array = Array.newInstance(componentType, this.size);
+        for (int i = 0; i < this.size; i++) {
+            Array.set(array, i, objects[i]);
+        }
+        return array;
+    }
+
+    private Set<Object> generateSet(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        final int size = this.sizeOf(testClassRandomizer, seed);
+        return this.element.kind == Kind.OBJECT
+                ? testClassRandomizer.generateDistinctObjects(registry, seed, this.element.targetType, size)
+                : this.element.generateDistinct(testClassRandomizer, registry, seed, size,
+                        new HashSet<>(HashCapacity.of(size)));
+    }
+
+    private Map<Object, Object> generateMap(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        final int size = this.sizeOf(testClassRandomizer, seed);
+        final long keysSeed = Seeds.derive(seed, "keys");
+        final long valuesSeed = Seeds.derive(seed, "values");
+        // keys are kept in the order they are generated in, so that they get the same values every time
+        final Set<Object> keys = new LinkedHashSet<>(HashCapacity.of(size));
+        if (this.key.kind == Kind.OBJECT) {
+            testClassRandomizer.generateDistinctObjects(registry, keysSeed, this.key.targetType, size, keys);
+        } else {
+            this.key.generateDistinct(testClassRandomizer, registry, keysSeed, size, keys);
+        }
+        final Object[] values = this.element.kind == Kind.OBJECT
+                ? testClassRandomizer.generateObjects(registry, valuesSeed, this.element.targetType, size)
+                : null;
+        final Map<Object, Object> map = new HashMap<>(HashCapacity.of(size));
+        int i = 0;
+        for (final Object key : keys) {
+            map.put(key, values != null
+                    ? values[i]
+                    : this.element.generate(testClassRandomizer, registry, Seeds.derive(valuesSeed, i)));
+            i++;
+        }
+        return map;
+    }
+
+    private Set<Object> generateDistinct(final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed, final int count, final Set<Object> values) {
+        final long maxAttempts = (long) count * MAX_RETRIES_PER_ELEMENT;
+        for (long i = 0; values.size() < count; i++) {
+            if (i >= maxAttempts) {
+                throw new ExtensionConfigurationException(String.format("Only %d distinct values of %s could be"
+                        + " generated out of the %d required", values.size(), this.describe(), count));
+            }
+            values.add(this.generate(testClassRandomizer, registry, Seeds.derive(seed, i)));
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return this.describe();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.DeepCopier.FieldAccessor;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measure the time and memory spent generating a random value, to be recorded as a
+ * {@link RandomValueEvent} and into the {@link GenerationProfile} of the test run.
+ *
+ * <p>
+ * Nothing is measured unless the event is enabled in a Flight Recorder recording or the profile is
+ * enabled.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class GenerationProbe {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final GenerationProbe DISABLED = new GenerationProbe(null, null, null, null);
+
+    private final Class<?> testClass;
+
+    private final GenerationPlan plan;
+
+    private final GenerationProfile profile;
+
+    private final RandomValueEvent event;
+
+    private final long startNanos;
+
+    private final long startBytes;
+
+    private GenerationProbe(final Class<?> testClass, final GenerationPlan plan, final GenerationProfile profile,
+            final RandomValueEvent event) {
+        this.testClass = testClass;
+        this.plan = plan;
+        this.profile = profile;
+        this.event = event;
+        this.startBytes = allocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start measuring the generation of a random value.
+     * @param testClass the test class the value is generated for
+     * @param plan the plan the value is generated from
+     * @param profile the profile of the test run, or {@code null} if disabled
+     * @return a new probe
+     */
+    static GenerationProbe start(final Class<?> testClass, final GenerationPlan plan,
+            final GenerationProfile profile) {
+        final RandomValueEvent event = new RandomValueEvent();
+        if (profile == null && !event.isEnabled()) {
+            return DISABLED;
+        }
+        event.begin();
+        return new GenerationProbe(testClass, plan, profile, event);
+    }
+
+    /**
+     * Stop measuring once the value is generated.
+     * @param value the generated value
+     * @return the same value
+     */
+    Object stop(final Object value) {
+        if (this == DISABLED) {
+            return value;
+        }
+        final long elapsedNanos = System.nanoTime() - this.startNanos;
+        final long allocated = allocatedBytes() - this.startBytes;
+        if (this.profile != null) {
+            this.profile.record(this.testClass, this.plan.describe(), elapsedNanos, allocated);
+        }
+        this.event.end();
+        if (this.event.shouldCommit()) {
+            this.event.testClass = this.testClass;
+            this.event.targetType = this.plan.getTargetType();
+            this.event.elementType = this.plan.getElementType();
+            this.event.size = this.plan.getAnnotation().size();
+            this.event.scope = this.plan.getAnnotation().scope().name();
+            this.event.allocated = allocated;
+            final ObjectGraph graph = new ObjectGraph(value);
+            this.event.depth = graph.depth;
+            this.event.objectCount = graph.objectCount;
+            this.event.commit();
+        }
+        return value;
+    }
+
+    /**
+     * The bytes allocated so far by the current thread, if the JVM keeps track of them.
+     * @return the allocated bytes, or 0
+     */
+    static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The shape of a generated value: how many objects it is made of, and how deep they are nested.
+     * Collections, maps and arrays are walked through but not counted, nor are immutable values and
+     * other JDK types. Streams, iterators and iterables are not walked at all, since that would
+     * generate their elements.
+     */
+    static final class ObjectGraph {
+
+        final int depth;
+
+        final long objectCount;
+
+        ObjectGraph(final Object value) {
+            final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            final Deque<Object> objects = new ArrayDeque<>();
+            final Deque<Integer> depths = new ArrayDeque<>();
+            int maxDepth = 0;
+            long count = 0;
+            if (value != null) {
+                objects.push(value);
+                depths.push(0);
+            }
+            while (!objects.isEmpty()) {
+                final Object object = objects.pop();
+                int depth = depths.pop();
+                if (DeepCopier.isImmutable(object.getClass()) || !visited.add(object)) {
+                    continue;
+                }
+                final List<FieldAccessor> fields = object instanceof Collection || object instanceof Map
+                        || object.getClass().isArray()
+                        ? null
+                        : DeepCopier.getFieldAccessors(object.getClass());
+                if (fields != null) {
+                    maxDepth = Math.max(maxDepth, ++depth);
+                    count++;
+                    for (final FieldAccessor field : fields) {
+                        final Object fieldValue = field.isPrimitive() ? null : field.get(object);
+                        if (fieldValue != null) {
+                            objects.push(fieldValue);
+                            depths.push(depth);
+                        }
+                    }
+                } else {
+                    for (final Object element : elementsOf(object)) {
+                        if (element != null) {
+                            objects.push(element);
+                            depths.push(depth);
+                        }
+                    }
+                }
+            }
+            this.depth = maxDepth;
+            this.objectCount = count;
+        }
+
+        private static Iterable<?> elementsOf(final Object container) {
+            if (container instanceof Collection) {
+                return (Collection<?>) container;
+            } else if (container instanceof Map) {
+                final Collection<Object> entries = new ArrayList<>();
+                ((Map<?, ?>) container).forEach((key, value) -> {
+                    entries.add(key);
+                    entries.add(value);
+                });
+                return entries;
+            } else if (container.getClass().isArray() && !container.getClass().getComponentType().isPrimitive()) {
+                return Arrays.asList((Object[]) container);
+            }
+            return List.of();
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.github.mperezi.test.randomizer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Time spent generating random values, by test class and type, for the whole test run.
+ *
+ * <p>
+ * Once every test is done, the slowest types of every test class are written to a file, starting from
+ * the test class that spent the most time generating values.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class GenerationProfile implements CloseableResource {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationProfile.class);
+
+    private static final int TYPES_PER_CLASS = 10;
+
+    private final Path file;
+
+    private final Map<Class<?>, Map<String, TypeStats>> statsByTestClass = new ConcurrentHashMap<>();
+
+    GenerationProfile(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Record the generation of a random value.
+     * @param testClass the test class the value is generated for
+     * @param type the description of the type of the value
+     * @param elapsedNanos the time spent generating the value
+     * @param allocatedBytes the bytes allocated generating the value
+     */
+    void record(final Class<?> testClass, final String type, final long elapsedNanos, final long allocatedBytes) {
+        this.statsByTestClass.computeIfAbsent(testClass, c -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, TypeStats::new)
+            .add(elapsedNanos, allocatedBytes);
+    }
+
+    /**
+     * The types whose values took the most time to generate for the given test class.
+     * @param testClass the test class
+     * @param limit the maximum number of types
+     * @return the slowest types, slowest first
+     */
+    List<TypeStats> getSlowest(final Class<?> testClass, final int limit) {
+        return this.statsByTestClass.getOrDefault(testClass, Map.of()).values().stream()
+            .sorted(Comparator.comparingLong(TypeStats::getTotalNanos).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private long getTotalNanos(final Class<?> testClass) {
+        return this.statsByTestClass.get(testClass).values().stream().mapToLong(TypeStats::getTotalNanos).sum();
+    }
+
+    /**
+     * Write the slowest types of every test class once the test run is done.
+     */
+    @Override
+    public void close() {
+        if (this.statsByTestClass.isEmpty()) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>();
+        this.statsByTestClass.keySet().stream()
+            .sorted(Comparator.comparingLong(this::getTotalNanos).reversed())
+            .forEach(testClass -> {
+                lines.add(String.format(Locale.ROOT, "%s (%.1f ms)", testClass.getName(),
+                        this.getTotalNanos(testClass) / 1e6));
+                this.getSlowest(testClass, TYPES_PER_CLASS).forEach(stats -> lines.add("  " + stats));
+            });
+        try {
+            if (this.file.getParent() != null) {
+                Files.createDirectories(this.file.getParent());
+            }
+            Files.write(this.file, lines, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            logger.warn(e, () -> "Generation profile cannot be written to " + this.file);
+        }
+    }
+
+    /**
+     * Time and memory spent generating the values of a type for a test class.
+     */
+    static final class TypeStats {
+
+        private final String type;
+
+        private long count;
+
+        private long totalNanos;
+
+        private long maxNanos;
+
+        private long allocatedBytes;
+
+        TypeStats(final String type) {
+            this.type = type;
+        }
+
+        synchronized void add(final long elapsedNanos, final long allocatedBytes) {
+            this.count++;
+            this.totalNanos += elapsedNanos;
+            this.maxNanos = Math.max(this.maxNanos, elapsedNanos);
+            this.allocatedBytes += allocatedBytes;
+        }
+
+        String getType() {
+            return this.type;
+        }
+
+        synchronized long getCount() {
+            return this.count;
+        }
+
+        synchronized long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format(Locale.ROOT, "%s: %d in %.1f ms (max %.1f ms, %.1f MB)", this.type, this.count,
+                    this.totalNanos / 1e6, this.maxNanos / 1e6, this.allocatedBytes / (1024.0 * 1024.0));
+        }
+
+    }
+
+}
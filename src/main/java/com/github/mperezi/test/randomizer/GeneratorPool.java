@@ -0,0 +1,198 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.api.RandomizerRegistry;
+
+/**
+ * The generators set up with the same {@link RandomizerSettings}, one per thread.
+ *
+ * <p>
+ * Setting up an {@link EasyRandom} is expensive, and generators are reseeded before every use, so test
+ * classes with the same settings can share the same pool across the whole test run as long as they
+ * register no randomizers of their own. Test classes that do get a pool of their own, which is cleared
+ * once they are done.
+ * </p>
+ *
+ * <p>
+ * Generators can also be set up ahead of time, before any test runs, and are then handed over to the
+ * first threads asking for one.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class GeneratorPool {
+
+    private static final Map<RandomizerSettings, GeneratorPool> SHARED_POOLS = new ConcurrentHashMap<>();
+
+    private final RandomizerSettings settings;
+
+    private final BoundRandomizerRegistry boundRegistry;
+
+    private final Map<Thread, ReseedableEasyRandom> easyRandomsByThread;
+
+    private final boolean shared;
+
+    private final Map<Class<?>, GeneratorPool> poolsByType;
+
+    private final Queue<ReseedableEasyRandom> spares;
+
+    GeneratorPool(final RandomizerSettings settings) {
+        this(settings, false);
+    }
+
+    private GeneratorPool(final RandomizerSettings settings, final boolean shared) {
+        this.settings = settings;
+        this.boundRegistry = new BoundRandomizerRegistry();
+        this.easyRandomsByThread = new ConcurrentHashMap<>();
+        this.shared = shared;
+        this.poolsByType = new ConcurrentHashMap<>();
+        this.spares = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * The pool shared by every test class with the given settings.
+     * @param settings the settings of the generators
+     * @return the same pool for equal settings
+     */
+    static GeneratorPool shared(final RandomizerSettings settings) {
+        return SHARED_POOLS.computeIfAbsent(settings, s -> new GeneratorPool(s, true));
+    }
+
+    /**
+     * The pool to generate objects of the given type with when the settings of this pool have a budget.
+     * The first time it is asked for, settings are {@link RandomizerSettings#trim() trimmed} until the
+     * objects of the type fit in the budget, or cannot be trimmed any further. Measuring takes place
+     * outside the map of pools, so that it does not hold up other types, and the first pool published
+     * for a type wins if several threads measure it at once.
+     * @param type the type of the objects
+     * @param fitsBudget whether the objects of the type fit in the budget when generated out of a pool
+     * @return this same pool if the objects already fit, or else a pool with smaller settings
+     */
+    GeneratorPool forType(final Class<?> type, final Predicate<GeneratorPool> fitsBudget) {
+        final GeneratorPool pool = this.poolsByType.get(type);
+        if (pool != null) {
+            return pool;
+        }
+        GeneratorPool fittingPool = this;
+        while (!fitsBudget.test(fittingPool)) {
+            final RandomizerSettings trimmed = fittingPool.settings.trim();
+            if (trimmed == null) {
+                break;
+            }
+            fittingPool = this.withSettings(trimmed);
+        }
+        final GeneratorPool published = this.poolsByType.putIfAbsent(type, fittingPool);
+        return published != null ? published : fittingPool;
+    }
+
+    private GeneratorPool withSettings(final RandomizerSettings settings) {
+        if (settings.equals(this.settings)) {
+            return this;
+        }
+        return this.shared ? shared(settings) : new GeneratorPool(settings);
+    }
+
+    /**
+     * The settings the generators of the pool are set up with.
+     */
+    RandomizerSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Set up a new generator out of the pool, for those who generate values across several calls and
+     * cannot share the generator of the current thread in the meantime.
+     * @return a new generator, to be reseeded before use
+     */
+    ReseedableEasyRandom create() {
+        return new ReseedableEasyRandom(this.settings.toParameters()
+            .randomizerRegistry(new DefaultRandomizerRegistry())
+            .randomizerRegistry(this.boundRegistry));
+    }
+
+    /**
+     * The generator of the current thread, set up the first time it is asked for. The generators of
+     * the threads that are gone by then are released.
+     * @return the generator, to be reseeded before use
+     */
+    ReseedableEasyRandom getForCurrentThread() {
+        final Thread thread = Thread.currentThread();
+        ReseedableEasyRandom easyRandom = this.easyRandomsByThread.get(thread);
+        if (easyRandom == null) {
+            this.easyRandomsByThread.keySet().removeIf(other -> !other.isAlive());
+            easyRandom = this.spares.poll();
+            if (easyRandom == null) {
+                easyRandom = this.create();
+            }
+            this.easyRandomsByThread.put(thread, easyRandom);
+        }
+        return easyRandom;
+    }
+
+    /**
+     * Set up a generator ahead of time, unless there is one already, and generate an object of each of
+     * the given types with it, so that their classes are loaded and analyzed by the time a test asks
+     * for them. Types that cannot be generated without the randomizers of a test instance are skipped.
+     * Preparing the pool for several test classes at once takes turns, so that they share the same
+     * generator.
+     * @param types the types to generate
+     */
+    synchronized void prepare(final Collection<Class<?>> types) {
+        ReseedableEasyRandom easyRandom = this.spares.poll();
+        if (easyRandom == null) {
+            easyRandom = this.create();
+        }
+        try {
+            for (final Class<?> type : types) {
+                try {
+                    easyRandom.reseed(Seeds.derive(0, type.getName()));
+                    easyRandom.nextObject(type);
+                } catch (final RuntimeException e) {
+                    // generated by the tests themselves, maybe failing
+                }
+            }
+        } finally {
+            this.spares.offer(easyRandom);
+        }
+    }
+
+    /**
+     * The number of generators set up ahead of time that no thread has asked for yet.
+     */
+    int countSpares() {
+        return this.spares.size();
+    }
+
+    /**
+     * The number of generators set up, whether handed over to a thread or not.
+     */
+    int countGenerators() {
+        return this.easyRandomsByThread.size() + this.spares.size();
+    }
+
+    /**
+     * Run the given action with the given registry bound to the generators of the current thread.
+     * @see BoundRandomizerRegistry#bind(RandomizerRegistry, Supplier)
+     */
+    <T> T bind(final RandomizerRegistry registry, final Supplier<T> action) {
+        return this.boundRegistry.bind(registry, action);
+    }
+
+    /**
+     * Release the generators of every thread.
+     */
+    void clear() {
+        this.easyRandomsByThread.clear();
+        this.spares.clear();
+        this.poolsByType.values().stream().filter(pool -> pool != this).forEach(GeneratorPool::clear);
+    }
+
+}
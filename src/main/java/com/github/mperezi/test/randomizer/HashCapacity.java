@@ -0,0 +1,25 @@
+package com.github.mperezi.test.randomizer;
+
+/**
+ * Size hash sets and maps up front so that they are not rehashed while they are filled.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class HashCapacity {
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    private HashCapacity() {
+
+    }
+
+    /**
+     * The initial capacity of a hash set or map big enough to hold the given number of elements.
+     * @param size the number of elements
+     * @return the initial capacity
+     */
+    static int of(final int size) {
+        return (int) Math.ceil(size / LOAD_FACTOR);
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.matchers.NamedField;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+
+/**
+ * A {@link CustomRandomizerRegistry} that avoids testing every registered predicate against every
+ * field being populated.
+ *
+ * <ul>
+ * <li>{@link NamedField} registrations are indexed by field type, name and (for qualified names)
+ * declaring class, so they are looked up instead of tested.</li>
+ * <li>Any other predicate is tested as usual.</li>
+ * <li>The randomizer resolved for a field, if any, is remembered so that each field is resolved just
+ * once.</li>
+ * </ul>
+ *
+ * <p>
+ * When more than one registration matches the same field the one registered first wins.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Priority(-1)
+class IndexedRandomizerRegistry extends CustomRandomizerRegistry {
+
+    private static final Randomizer<?> NO_RANDOMIZER = () -> null;
+
+    private final Map<NamedFieldKey, Registration> namedFieldRegistrations = new HashMap<>();
+
+    private final List<Registration> predicateRegistrations = new ArrayList<>();
+
+    private final Map<Field, Randomizer<?>> randomizersByField = new ConcurrentHashMap<>();
+
+    private int registrationCount;
+
+    @Override
+    public Randomizer<?> getRandomizer(final Field field) {
+        final Randomizer<?> randomizer = this.randomizersByField.computeIfAbsent(field, this::resolveRandomizer);
+        return randomizer == NO_RANDOMIZER ? null : randomizer;
+    }
+
+    private Randomizer<?> resolveRandomizer(final Field field) {
+        Registration match = first(
+                this.namedFieldRegistrations.get(NamedFieldKey.ofQualified(field)),
+                this.namedFieldRegistrations.get(NamedFieldKey.of(field)));
+        for (final Registration registration : this.predicateRegistrations) {
+            if (match != null && match.order < registration.order) {
+                break;
+            }
+            if (registration.predicate.test(field)) {
+                match = registration;
+                break;
+            }
+        }
+        if (match != null) {
+            return match.randomizer;
+        }
+        final Randomizer<?> randomizer = this.getRandomizer(field.getType());
+        return randomizer == null ? NO_RANDOMIZER : randomizer;
+    }
+
+    private static Registration first(final Registration r1, final Registration r2) {
+        if (r1 == null || r2 == null) {
+            return r1 == null ? r2 : r1;
+        }
+        return r1.order < r2.order ? r1 : r2;
+    }
+
+    @Override
+    public <T, R> void registerRandomizer(final Class<T> type, final Randomizer<R> randomizer) {
+        super.registerRandomizer(type, randomizer);
+        this.randomizersByField.clear();
+    }
+
+    @Override
+    public void registerRandomizer(final Predicate<Field> predicate, final Randomizer<?> randomizer) {
+        final Registration registration = new Registration(this.registrationCount++, predicate, randomizer);
+        if (predicate instanceof NamedField) {
+            this.index((NamedField) predicate, registration);
+        } else {
+            this.predicateRegistrations.add(registration);
+        }
+        this.randomizersByField.clear();
+    }
+
+    private void index(final NamedField namedField, final Registration registration) {
+        for (final Class<?> type : namedField.getAllowedTypes()) {
+            for (final String name : namedField.getNames()) {
+                this.namedFieldRegistrations.putIfAbsent(NamedFieldKey.of(type, name), registration);
+            }
+        }
+    }
+
+    private static final class Registration {
+
+        private final int order;
+
+        private final Predicate<Field> predicate;
+
+        private final Randomizer<?> randomizer;
+
+        private Registration(final int order, final Predicate<Field> predicate, final Randomizer<?> randomizer) {
+            this.order = order;
+            this.predicate = predicate;
+            this.randomizer = randomizer;
+        }
+
+    }
+
+    private static final class NamedFieldKey {
+
+        private final Class<?> type;
+
+        private final String name;
+
+        private final String declaringClass;
+
+        private NamedFieldKey(final Class<?> type, final String name, final String declaringClass) {
+            this.type = type;
+            this.name = name.toLowerCase(Locale.ROOT);
+            this.declaringClass = declaringClass == null ? null : declaringClass.toLowerCase(Locale.ROOT);
+        }
+
+        static NamedFieldKey of(final Class<?> type, final String name) {
+            final int separator = name.lastIndexOf('.');
+            return separator < 0
+                    ? new NamedFieldKey(type, name, null)
+                    : new NamedFieldKey(type, name.substring(separator + 1), name.substring(0, separator));
+        }
+
+        static NamedFieldKey of(final Field field) {
+            return new NamedFieldKey(field.getType(), field.getName(), null);
+        }
+
+        static NamedFieldKey ofQualified(final Field field) {
+            return new NamedFieldKey(field.getType(), field.getName(), field.getDeclaringClass().getSimpleName());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NamedFieldKey)) {
+                return false;
+            }
+            final NamedFieldKey other = (NamedFieldKey) o;
+            return this.type == other.type && this.name.equals(other.name)
+                    && Objects.equals(this.declaringClass, other.declaringClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.name, this.declaringClass);
+        }
+
+    }
+
+}
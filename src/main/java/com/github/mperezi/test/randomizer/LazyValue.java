@@ -0,0 +1,72 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * A random value generated the first time it is asked for, and kept from then on. It is injected
+ * either as a {@link Supplier} itself, or behind a proxy of an interface that delegates every call to
+ * it, see {@link Random#lazy()}.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class LazyValue implements Supplier<Object>, InvocationHandler {
+
+    private Supplier<Object> generator;
+
+    private Object value;
+
+    LazyValue(final Supplier<Object> generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Create a proxy of the given interface that generates the value on the first call to any of its
+     * methods.
+     * @param type the interface the value implements
+     * @param generator how to generate the value
+     * @return a new proxy
+     */
+    static Object proxy(final Class<?> type, final Supplier<Object> generator) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new LazyValue(generator));
+    }
+
+    /**
+     * Tell whether the value was already generated.
+     */
+    synchronized boolean isGenerated() {
+        return this.generator == null;
+    }
+
+    @Override
+    public synchronized Object get() {
+        if (this.generator != null) {
+            this.value = this.generator.get();
+            // dropped so that the registry and the generator it holds can be collected
+            this.generator = null;
+        }
+        return this.value;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            method.setAccessible(true);
+        }
+        try {
+            return method.invoke(this.get(), args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.isGenerated() ? String.valueOf(this.get()) : "(not generated yet)";
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.Random.Scope;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jeasy.random.api.RandomizerRegistry;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+
+/**
+ * Generate the random parameters of the next tests of a class in the background while the current one
+ * runs, so that they are ready by the time the tests are invoked.
+ *
+ * <p>
+ * The order the tests of each class are run in is read from the test plan as soon as it is known, see
+ * {@link PreparingListener}. Before each test, the parameters of the tests following it are generated
+ * up to the lookahead, hence there are never values for more than that many tests held in memory.
+ * Values are generated out of the same seeds as if they were generated when the test is invoked, and
+ * those that are not ready by then are generated on the spot as usual. Only the parameters generated
+ * anew for each test are generated ahead of time, not lazy or deferred ones nor those shared by several
+ * tests.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class Prefetcher implements CloseableResource {
+
+    /**
+     * The value of a parameter that was not generated ahead of time.
+     */
+    static final Object MISS = new Object();
+
+    private static final Map<String, List<String>> TESTS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private static final Map<String, Method> TEST_METHODS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                final Thread thread = new Thread(runnable, "randomizer-prefetch-" + THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final TestClassRandomizer testClassRandomizer;
+
+    private final RandomizerRegistry registry;
+
+    private final int lookahead;
+
+    private final Map<String, Map<Integer, Future<Object>>> valuesByTest;
+
+    private int nextPosition;
+
+    Prefetcher(final TestClassRandomizer testClassRandomizer, final int lookahead) {
+        this.testClassRandomizer = testClassRandomizer;
+        this.registry = testClassRandomizer.createRegistry(null);
+        this.lookahead = lookahead;
+        this.valuesByTest = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Keep the order the tests of a class are run in.
+     * @param classId the unique id of the test class
+     * @param testIds the unique ids of its test methods, in the order they are run
+     * @param testMethods the test methods, in the same order
+     */
+    static void plan(final String classId, final List<String> testIds, final List<Method> testMethods) {
+        TESTS_BY_CLASS.put(classId, List.copyOf(testIds));
+        for (int i = 0; i < testIds.size(); i++) {
+            TEST_METHODS.put(testIds.get(i), testMethods.get(i));
+        }
+    }
+
+    /**
+     * Forget the order the tests of a class are run in once they are done.
+     * @param classId the unique id of the test class
+     * @param testIds the unique ids of its test methods
+     */
+    static void forget(final String classId, final List<String> testIds) {
+        TESTS_BY_CLASS.remove(classId);
+        testIds.forEach(TEST_METHODS::remove);
+    }
+
+    /**
+     * Start generating the parameters of the tests following the given one, up to the lookahead, and
+     * drop those of the tests before it, e.g. because they were skipped.
+     * @param classId the unique id of the test class
+     * @param testId the unique id of the test about to run
+     */
+    synchronized void prefetchAfter(final String classId, final String testId) {
+        final List<String> testIds = TESTS_BY_CLASS.getOrDefault(classId, List.of());
+        final int position = testIds.indexOf(testId);
+        if (position < 0) {
+            return;
+        }
+        for (int i = 0; i < position; i++) {
+            cancel(this.valuesByTest.remove(testIds.get(i)));
+        }
+        for (int i = Math.max(this.nextPosition, position + 1);
+                i <= position + this.lookahead && i < testIds.size(); i++) {
+            this.prefetch(testIds.get(i), TEST_METHODS.get(testIds.get(i)));
+            this.nextPosition = i + 1;
+        }
+    }
+
+    private void prefetch(final String testId, final Method testMethod) {
+        final TestClassRandomizer methodRandomizer = findAnnotation(testMethod, RandomizerConfig.class)
+            .map(config -> this.testClassRandomizer.withSettings(
+                    this.testClassRandomizer.getSettings().with(config, testMethod)))
+            .orElse(this.testClassRandomizer);
+        final long methodSeed = findAnnotation(testMethod, RandomSeed.class)
+            .map(RandomSeed::value)
+            .orElseGet(this.testClassRandomizer::getSeed);
+        final Parameter[] parameters = testMethod.getParameters();
+        final Map<Integer, Future<Object>> values = new ConcurrentHashMap<>();
+        for (int index = 0; index < parameters.length; index++) {
+            final Optional<GenerationPlan> plan = getPlan(parameters[index]);
+            if (plan.isEmpty() || plan.get().isLazy() || plan.get().isDeferred()
+                    || plan.get().getAnnotation().scope() != Scope.METHOD) {
+                continue;
+            }
+            final long seed = Seeds.derive(methodSeed, testId + "#" + index);
+            values.put(index, EXECUTOR.submit(() -> plan.get().generate(methodRandomizer, this.registry, seed)));
+        }
+        this.valuesByTest.put(testId, values);
+    }
+
+    private static Optional<GenerationPlan> getPlan(final Parameter parameter) {
+        if (!parameter.isAnnotationPresent(Random.class)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(TestClassRandomizer.getPlan(parameter));
+        } catch (final RuntimeException e) {
+            // left for the test to fail on
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Take the value of the given parameter of the given test, waiting for it if it is being generated.
+     * @param testId the unique id of the test
+     * @param index the index of the parameter
+     * @return the value, or {@link #MISS} if it was not generated ahead of time, or its generation has
+     *         not started yet, or failed
+     */
+    Object take(final String testId, final int index) {
+        final Map<Integer, Future<Object>> values = this.valuesByTest.get(testId);
+        final Future<Object> value = values == null ? null : values.remove(index);
+        if (value == null || value.cancel(false)) {
+            return MISS;
+        }
+        try {
+            return value.get();
+        } catch (final ExecutionException | CancellationException e) {
+            return MISS;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return MISS;
+        }
+    }
+
+    private static void cancel(final Map<Integer, Future<Object>> values) {
+        if (values != null) {
+            values.values().forEach(value -> value.cancel(false));
+        }
+    }
+
+    @Override
+    public void close() {
+        this.valuesByTest.values().forEach(Prefetcher::cancel);
+        this.valuesByTest.clear();
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+/**
+ * Prepare the test classes using {@link RandomizerExtension} in the background as soon as the tests are
+ * discovered, so that their first tests find a generator already set up and the types they generate
+ * already loaded and analyzed, instead of each test class doing so on its own on the test threads.
+ *
+ * <p>
+ * It is registered with the launcher as a service, but does nothing unless enabled with the
+ * {@code randomizer.prepare.enabled} configuration parameter, so that projects merely having the
+ * extension on their class path start no threads. Test classes are prepared concurrently, on
+ * virtual threads where available, and those with the same settings share the generator set up for them.
+ * Preparing a test class changes none of the values generated for it, and anything going wrong is left
+ * for its tests to find. Whatever is left to prepare once the tests are done is dropped.
+ * </p>
+ *
+ * <p>
+ * When {@code randomizer.prefetch.lookahead} is given, it also keeps the order the
+ * test methods of each class are run in, for the {@link Prefetcher} to know which tests come next.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+public final class PreparingListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreparingListener.class);
+
+    private final Map<String, List<String>> plannedTests = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    private CompletableFuture<Void> preparation = CompletableFuture.completedFuture(null);
+
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // virtual threads are only available since Java 21
+            final AtomicInteger threads = new AtomicInteger();
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                final Thread thread = new Thread(runnable, "randomizer-prepare-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static boolean isRandomized(final Class<?> testClass) {
+        for (Class<?> type = testClass; type != null; type = type.getEnclosingClass()) {
+            if (findRepeatableAnnotations(type, ExtendWith.class).stream()
+                .anyMatch(extendWith -> Arrays.asList(extendWith.value()).contains(RandomizerExtension.class))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void prepare(final ClassSource source, final ConfigurationParameters parameters) {
+        try {
+            final Class<?> testClass = source.getJavaClass();
+            if (isRandomized(testClass)) {
+                TestClassRandomizer.prepare(testClass, RandomizerSettings.forClass(testClass, parameters::get));
+            }
+        } catch (final RuntimeException | LinkageError e) {
+            logger.debug(e, () -> "Cannot prepare " + source.getClassName() + " ahead of its tests");
+        }
+    }
+
+    private static void plan(final TestIdentifier classIdentifier, final List<TestIdentifier> tests) {
+        try {
+            final List<Method> testMethods = new ArrayList<>();
+            for (final TestIdentifier test : tests) {
+                testMethods.add(((MethodSource) test.getSource().orElseThrow()).getJavaMethod());
+            }
+            Prefetcher.plan(classIdentifier.getUniqueId(), getUniqueIds(tests), testMethods);
+        } catch (final RuntimeException | LinkageError e) {
+            logger.debug(e, () -> "Cannot prefetch the parameters of " + classIdentifier.getDisplayName());
+        }
+    }
+
+    private static List<String> getUniqueIds(final List<TestIdentifier> identifiers) {
+        return identifiers.stream().map(TestIdentifier::getUniqueId).collect(Collectors.toList());
+    }
+
+    private static boolean isTestMethod(final TestIdentifier identifier) {
+        return identifier.isTest() && identifier.getSource().filter(MethodSource.class::isInstance).isPresent();
+    }
+
+    private static boolean isPrefetchEnabled(final ConfigurationParameters parameters) {
+        try {
+            return RandomizerSettings.getPrefetchLookahead(parameters::get) > 0;
+        } catch (final RuntimeException e) {
+            // left for the tests to report
+            return false;
+        }
+    }
+
+    @Override
+    public void testPlanExecutionStarted(final TestPlan testPlan) {
+        final ConfigurationParameters parameters = testPlan.getConfigurationParameters();
+        final boolean prepareEnabled = RandomizerSettings.isPrepareEnabled(parameters::get);
+        final boolean prefetchEnabled = isPrefetchEnabled(parameters);
+        if (!prepareEnabled && !prefetchEnabled) {
+            return;
+        }
+        final Map<TestIdentifier, ClassSource> classes = new LinkedHashMap<>();
+        for (final TestIdentifier root : testPlan.getRoots()) {
+            for (final TestIdentifier descendant : testPlan.getDescendants(root)) {
+                descendant.getSource()
+                    .filter(ClassSource.class::isInstance)
+                    .ifPresent(source -> classes.put(descendant, (ClassSource) source));
+            }
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        this.executor = createExecutor();
+        final List<CompletableFuture<Void>> preparations = new ArrayList<>();
+        for (final Map.Entry<TestIdentifier, ClassSource> testClass : classes.entrySet()) {
+            final List<TestIdentifier> tests = testPlan.getChildren(testClass.getKey())
+                .stream()
+                .filter(PreparingListener::isTestMethod)
+                .collect(Collectors.toList());
+            if (prefetchEnabled) {
+                this.plannedTests.put(testClass.getKey().getUniqueId(), getUniqueIds(tests));
+            }
+            preparations.add(CompletableFuture.runAsync(() -> {
+                if (prefetchEnabled) {
+                    plan(testClass.getKey(), tests);
+                }
+                if (prepareEnabled) {
+                    prepare(testClass.getValue(), parameters);
+                }
+            }, this.executor));
+        }
+        this.preparation = CompletableFuture.allOf(preparations.toArray(new CompletableFuture<?>[0]));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(final TestPlan testPlan) {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+        this.plannedTests.forEach(Prefetcher::forget);
+        this.plannedTests.clear();
+    }
+
+    /**
+     * The preparation of the test classes of the last test plan, done once every one is prepared.
+     */
+    CompletableFuture<Void> getPreparation() {
+        return this.preparation;
+    }
+
+}
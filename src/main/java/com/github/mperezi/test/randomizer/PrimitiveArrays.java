@@ -0,0 +1,122 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fill arrays of primitive types straight from a random number generator, without boxing every
+ * element through the randomizers of easy-random.
+ *
+ * <p>
+ * Elements fall within the same ranges as the boxed values generated by default, e.g. integral numbers
+ * from {@value DefaultRandomizerRegistry#MIN_VALUE} up to, but not including,
+ * {@value DefaultRandomizerRegistry#MAX_VALUE} for {@code int} and {@code long}, and between 0 and 1
+ * for {@code double} and {@code float}. Arrays of {@code byte}, {@code short} and {@code boolean} span
+ * every possible value. Arrays whose elements have a custom randomizer are not created here, but
+ * generated element by element with it.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+
+    }
+
+    /**
+     * Tell whether arrays of the given component type can be created.
+     * @param componentType the component type of the array
+     * @return {@code true} for any primitive type but {@code char}
+     */
+    static boolean isSupported(final Class<?> componentType) {
+        return componentType.isPrimitive() && componentType != char.class;
+    }
+
+    /**
+     * Create an array of random values.
+     * @param componentType a primitive type, as long as it is {@link #isSupported(Class) supported}
+     * @param size the length of the array
+     * @param seed the seed to generate the values from
+     * @return a new array
+     */
+    static Object create(final Class<?> componentType, final int size, final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        if (componentType == int.class) {
+            return ints(random, size);
+        } else if (componentType == long.class) {
+            return longs(random, size);
+        } else if (componentType == double.class) {
+            return doubles(random, size);
+        } else if (componentType == float.class) {
+            return floats(random, size);
+        } else if (componentType == byte.class) {
+            return bytes(random, size);
+        } else if (componentType == short.class) {
+            return shorts(random, size);
+        } else if (componentType == boolean.class) {
+            return booleans(random, size);
+        }
+        throw new IllegalArgumentException("Unsupported array of " + componentType);
+    }
+
+    private static int[] ints(final SplittableRandom random, final int size) {
+        final int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(DefaultRandomizerRegistry.MIN_VALUE, DefaultRandomizerRegistry.MAX_VALUE);
+        }
+        return values;
+    }
+
+    private static long[] longs(final SplittableRandom random, final int size) {
+        final long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextLong(DefaultRandomizerRegistry.MIN_VALUE, DefaultRandomizerRegistry.MAX_VALUE);
+        }
+        return values;
+    }
+
+    private static double[] doubles(final SplittableRandom random, final int size) {
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextDouble();
+        }
+        return values;
+    }
+
+    private static float[] floats(final SplittableRandom random, final int size) {
+        final float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (random.nextInt() >>> 8) * 0x1.0p-24f;
+        }
+        return values;
+    }
+
+    private static byte[] bytes(final SplittableRandom random, final int size) {
+        final byte[] values = new byte[size];
+        int i = 0;
+        while (i < size) {
+            long bits = random.nextLong();
+            for (int n = Math.min(size - i, Long.BYTES); n > 0; n--, bits >>>= Byte.SIZE) {
+                values[i++] = (byte) bits;
+            }
+        }
+        return values;
+    }
+
+    private static short[] shorts(final SplittableRandom random, final int size) {
+        final short[] values = new short[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (short) random.nextInt();
+        }
+        return values;
+    }
+
+    private static boolean[] booleans(final SplittableRandom random, final int size) {
+        final boolean[] values = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextBoolean();
+        }
+        return values;
+    }
+
+}
@@ -19,18 +19,96 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface Random {
 
     /**
-     * Set the number of random objects to be created. Only applicable to collection types.
+     * The size of a {@link java.util.stream.Stream}, {@link java.util.Iterator} or
+     * {@link java.lang.Iterable} whose elements are generated for as long as they are asked for.
+     */
+    int UNBOUNDED = -1;
+
+    /**
+     * Set the number of random objects to be created. Only applicable to collection and array types.
+     * Collections and maps nested in them get a size within the collection size range of the
+     * {@link RandomizerConfig} instead.
+     *
+     * <p>
+     * The elements of a {@link java.util.stream.Stream}, {@link java.util.Iterator} or
+     * {@link java.lang.Iterable} are generated on demand, so they can be as many as needed, even
+     * {@link #UNBOUNDED}, without ever being held in memory at once.
+     * </p>
+     *
+     * <p>
+     * A {@link java.util.Set} always gets this many distinct elements, and fails to be created when its
+     * type of elements does not take that many distinct values.
+     * </p>
      */
     int size() default 10;
 
     /**
-     * Specify the type of the elements in a collection. Only applicable to collection types.
+     * Specify the type of the elements in a collection, or of the values in a map. Only applicable to
+     * collection, map and optional types, and to arrays whose elements are to be of a subtype of their
+     * component type.
      *
      * <p>
-     * In case no type is given for a collection a warning message will be displayed and a null object
-     * will be created.
+     * Unless given, the type is read from the type arguments of the field or parameter, nested ones
+     * included, e.g. {@code Map<String, List<Order>>}. In case no type is given for a raw collection a
+     * warning message will be displayed and a null object will be created.
      * </p>
      */
     Class<?> type() default void.class;
 
+    /**
+     * Set how long a random value lives, i.e. whether it is generated for every test or shared by the
+     * tests of the same class or even of the whole test suite.
+     *
+     * <p>
+     * Shared values are generated just once, with the custom randomizers of the test instance that
+     * first asks for them, and are shared by every field and parameter of the same type, element type
+     * and size. Streams and iterators cannot be shared, since they can be traversed only once.
+     * </p>
+     */
+    Scope scope() default Scope.METHOD;
+
+    /**
+     * Whether a shared value is to be copied before being injected, so that tests can modify it freely.
+     * Otherwise the shared value is injected as is and must not be modified. Only applicable to values
+     * whose {@link #scope()} is other than {@link Scope#METHOD}. Values holding JDK objects that can
+     * neither be copied nor are known to be immutable fail to be injected unless this is {@code false}.
+     */
+    boolean copy() default true;
+
+    /**
+     * Whether the value is to be generated the first time it is used rather than when it is injected.
+     * Only applicable to interface types, whose value is then injected as a proxy that generates it on
+     * the first call to any of its methods and delegates every call to it.
+     *
+     * <p>
+     * Values of type {@link java.util.function.Supplier} are always generated on the first call to
+     * {@link java.util.function.Supplier#get()}, which returns the same value from then on. Either way,
+     * values are the same as if they were generated when injected, but values never used are never
+     * generated.
+     * </p>
+     */
+    boolean lazy() default false;
+
+    /**
+     * How long a random value lives.
+     */
+    enum Scope {
+
+        /**
+         * Generate the value for every test.
+         */
+        METHOD,
+
+        /**
+         * Generate the value once for every test of the same test class.
+         */
+        CLASS,
+
+        /**
+         * Generate the value once for the whole test suite.
+         */
+        SUITE
+
+    }
+
 }
@@ -0,0 +1,107 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
+
+/**
+ * A field annotated with {@link Random} along with everything needed to inject a value into it.
+ *
+ * <p>
+ * Reflection, access checks and the analysis of the generic type of the field happen just once upon
+ * creation, so that injecting values into every test instance only takes generating them from a
+ * cached {@link GenerationPlan} and a call to a cached {@link MethodHandle}.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class RandomField {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+
+    private final GenerationPlan plan;
+
+    private final String qualifiedName;
+
+    private final MethodHandle setter;
+
+    private RandomField(final Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        this.field = field;
+        this.plan = GenerationPlan.of(field.getGenericType(), field.getAnnotation(Random.class));
+        this.qualifiedName = field.getDeclaringClass().getName() + "." + field.getName();
+        this.setter = createSetter(field);
+    }
+
+    private static MethodHandle createSetter(final Field field) throws IllegalAccessException {
+        final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return MethodHandles.dropArguments(setter, 0, Object.class).asType(SETTER_TYPE);
+        }
+        return setter.asType(SETTER_TYPE);
+    }
+
+    /**
+     * Tell whether the given field should be injected with a random value.
+     * @param field the field to check
+     * @return {@code true} if the field is annotated with {@link Random}
+     */
+    static boolean isRandom(final Field field) {
+        return isAnnotated(field, Random.class);
+    }
+
+    /**
+     * Create a new injection point for the given field.
+     * @param field a field annotated with {@link Random}
+     * @return a new injection point
+     */
+    static RandomField of(final Field field) {
+        try {
+            return new RandomField(field);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Random field '" + field.getName() + "' in "
+                    + field.getDeclaringClass() + " cannot be set", e);
+        }
+    }
+
+    Field getField() {
+        return this.field;
+    }
+
+    /**
+     * The plan to generate random values for the field.
+     */
+    GenerationPlan getPlan() {
+        return this.plan;
+    }
+
+    /**
+     * The name of the field qualified by the name of its declaring class, so that fields hidden by a
+     * subclass can be told apart.
+     */
+    String getQualifiedName() {
+        return this.qualifiedName;
+    }
+
+    /**
+     * Set the value of the field in the given test instance.
+     * @param testInstance the instance whose field is to be set
+     * @param value the new value of the field
+     */
+    void inject(final Object testInstance, final Object value) {
+        try {
+            this.setter.invokeExact(testInstance, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.mperezi.test.randomizer;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted every time random values are injected into the fields of a test
+ * instance. Every value injected is recorded on its own as a {@link RandomValueEvent}. It is disabled
+ * unless enabled in the recording settings.
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Name("com.github.mperezi.test.randomizer.RandomFields")
+@Label("Random Fields")
+@Description("Random values injected into the fields of a test instance")
+@Category({ "JUnit", "Randomizer" })
+@StackTrace(false)
+@Enabled(false)
+final class RandomFieldsEvent extends Event {
+
+    @Label("Test Class")
+    Class<?> testClass;
+
+    @Label("Field Count")
+    int fieldCount;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+}
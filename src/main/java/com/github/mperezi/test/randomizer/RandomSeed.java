@@ -0,0 +1,41 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Set the seed random values are generated from, so that tests can be run again with the same data.
+ *
+ * <p>
+ * The seed given to a test method takes precedence over the one given to its test class (or any of
+ * its enclosing classes). In the absence of this annotation the seed is read from the
+ * {@code randomizer.seed} configuration parameter, that can also be given as a
+ * system property, and picked at random once per run otherwise.
+ * </p>
+ *
+ * <p>
+ * Every field and parameter is generated out of its own seed, derived from this one and the unique id
+ * of the test, so the values generated for a test do not depend on which other tests run before it or
+ * concurrently.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+@Inherited
+@Documented
+public @interface RandomSeed {
+
+    /**
+     * The seed to generate random values from.
+     */
+    long value();
+
+}
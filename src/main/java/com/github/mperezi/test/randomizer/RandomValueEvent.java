@@ -0,0 +1,60 @@
+package com.github.mperezi.test.randomizer;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for every random value resolved for a field or parameter annotated with
+ * {@link Random}.
+ *
+ * <p>
+ * The depth and object count are worked out by walking the value once it is generated, which is only
+ * done when the event is actually recorded. Allocations are those of the thread resolving the value,
+ * so they leave out the elements of large collections generated in parallel. It is disabled unless
+ * enabled in the recording settings.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Name("com.github.mperezi.test.randomizer.RandomValue")
+@Label("Random Value")
+@Description("Random value generated for a field or parameter annotated with @Random")
+@Category({ "JUnit", "Randomizer" })
+@StackTrace(false)
+@Enabled(false)
+final class RandomValueEvent extends Event {
+
+    @Label("Test Class")
+    Class<?> testClass;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Element Type")
+    Class<?> elementType;
+
+    @Label("Size")
+    int size;
+
+    @Label("Scope")
+    String scope;
+
+    @Label("Depth")
+    @Description("Number of nested objects from the value down to the deepest one")
+    int depth;
+
+    @Label("Object Count")
+    @Description("Number of distinct objects in the value, leaving out collections and immutable values")
+    long objectCount;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+}
@@ -0,0 +1,99 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PACKAGE;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Configure how random objects are generated, e.g. how deep their object graphs are or how large their
+ * nested collections and strings are.
+ *
+ * <p>
+ * Every setting left out is inherited from the next level up: the test method, its test class, the
+ * enclosing classes of a {@link org.junit.jupiter.api.Nested} test class, the package of the test class,
+ * and the configuration parameters (that can also be given as system properties) named after each
+ * setting, e.g. {@code randomizer.randomizationDepth}.
+ * </p>
+ *
+ * <p>
+ * Setting up a generator is expensive, so test classes with the same configuration share their
+ * generators across the whole test run, unless they are a {@link CustomRandomFieldProvider}.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@Target({ TYPE, METHOD, PACKAGE })
+@Retention(RUNTIME)
+@Inherited
+@Documented
+public @interface RandomizerConfig {
+
+    /**
+     * The value of the settings inherited from the next level up.
+     */
+    int INHERITED = -1;
+
+    /**
+     * The number of objects of each type to generate and reuse when generating others that refer to
+     * them. Defaults to {@code 100}.
+     */
+    int objectPoolSize() default INHERITED;
+
+    /**
+     * How deep the object graphs are generated, deeper objects are left {@code null}. Defaults to
+     * {@code 4}.
+     */
+    int randomizationDepth() default INHERITED;
+
+    /**
+     * The minimum size of the collections nested in random objects. Defaults to {@code 1}.
+     */
+    int minCollectionSize() default INHERITED;
+
+    /**
+     * The maximum size of the collections nested in random objects. Defaults to {@code 10}.
+     */
+    int maxCollectionSize() default INHERITED;
+
+    /**
+     * The minimum length of random strings. Defaults to {@code 5}.
+     */
+    int minStringLength() default INHERITED;
+
+    /**
+     * The maximum length of random strings. Defaults to {@code 20}.
+     */
+    int maxStringLength() default INHERITED;
+
+    /**
+     * The earliest random date, in ISO-8601 format (e.g. {@code 2020-01-31}). Defaults to one month before
+     * {@link #maxDate()}.
+     */
+    String minDate() default "";
+
+    /**
+     * The latest random date, in ISO-8601 format (e.g. {@code 2020-12-31}). Defaults to today.
+     */
+    String maxDate() default "";
+
+    /**
+     * The most objects generating a single random object may take, including those it refers to. Objects
+     * that take more are generated shallower, with smaller nested collections and reusing more objects,
+     * until they fit. Defaults to {@code 0}, i.e. no limit.
+     */
+    int maxObjects() default INHERITED;
+
+    /**
+     * The most milliseconds generating a single random object may take, trimmed like those that take
+     * more than {@link #maxObjects()}. Unlike the number of objects, time varies from run to run, so the
+     * objects generated with a time budget may vary as well. Defaults to {@code 0}, i.e. no limit.
+     */
+    int maxMillis() default INHERITED;
+
+}
@@ -1,30 +1,36 @@
 package com.github.mperezi.test.randomizer;
 
+import com.github.mperezi.test.randomizer.Random.Scope;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.jeasy.random.EasyRandom;
-import org.jeasy.random.EasyRandomParameters;
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
-import org.jeasy.random.randomizers.range.LongRangeRandomizer;
-import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
-
-import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 /**
  * Create objects with random data based on reflection for testing purposes.
@@ -75,15 +81,17 @@ import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
  * </code>
  * </pre>
  *
- * Collection types (more explicitly {@link List} and {@link Set}) are also supported. You just need
- * to provide the type of the elements because of the
- * <a href="https://docs.oracle.com/javase/tutorial/java/generics/erasure.html">type erasure</a>
- * feature of the Java language:
+ * Fields inherited from superclasses are randomized as well, and so are the fields of the enclosing
+ * instances of {@link Nested} test classes.
+ *
+ * Collection types (more explicitly {@link List} and {@link Set}), maps and optionals are also
+ * supported, nested ones included. The types of their elements are read from the type arguments of
+ * the field or parameter:
  *
  * <pre class="code">
  * <code class="java">
  * &#064;Test
- * public void myTest(&#064;Random(type=MyObject.class) List&lt;MyObject&gt; objects) {
+ * public void myTest(&#064;Random Map&lt;String, List&lt;MyObject&gt;&gt; objects) {
  *
  * }
  * </code>
@@ -92,88 +100,225 @@ import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
  * @author Miguel Ibars (mperezibars@gmail.com)
  * @see Random
  * @see CustomRandomFieldProvider
+ * @see RandomizerConfig
  * @see <a href="https://martinfowler.com/bliki/ObjectMother.html">ObjectMother pattern</a>
  */
-public class RandomizerExtension implements ParameterResolver, TestInstancePostProcessor {
+public class RandomizerExtension implements ParameterResolver, TestInstancePostProcessor, BeforeEachCallback,
+        AfterEachCallback, AfterAllCallback, TestExecutionExceptionHandler {
+
+    /**
+     * The report entry the slowest types of a test class are published as when
+     * {@code randomizer.profile.enabled}.
+     */
+    public static final String PROFILE_REPORT_ENTRY = "randomizer.profile";
+
+    /**
+     * The report entry the types whose objects were trimmed to fit in the budget of
+     * {@link RandomizerConfig#maxObjects()} or {@link RandomizerConfig#maxMillis()} are published as.
+     */
+    public static final String BUDGET_REPORT_ENTRY = "randomizer.budget";
+
+    private static final int REPORTED_TYPES = 5;
 
     private static final Logger logger = LoggerFactory.getLogger(RandomizerExtension.class);
 
-    private static EasyRandom getEasyRandomForTestInstance(final ExtensionContext context) {
-        final Object testInstance = context.getRequiredTestInstance();
-        return context.getStore(Namespace.GLOBAL).get(testInstance, EasyRandom.class);
+    private static final Namespace NAMESPACE = Namespace.create(RandomizerExtension.class);
+
+    private static final long DEFAULT_SEED = ThreadLocalRandom.current().nextLong();
+
+    private static TestClassRandomizer getTestClassRandomizer(final ExtensionContext context) {
+        final ExtensionContext classContext = getClassContext(context);
+        return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(classContext.getRequiredTestClass(),
+                testClass -> createTestClassRandomizer(testClass, classContext), TestClassRandomizer.class);
     }
 
-    private static EasyRandom createEasyRandomForTestInstance(final Object testInstance) {
-        final CustomRandomizerRegistry customRandomizerRegistry = new CustomRandomizerRegistry();
+    private static TestClassRandomizer createTestClassRandomizer(final Class<?> testClass,
+            final ExtensionContext classContext) {
+        final OptionalLong seed = findClassSeed(classContext);
+        final Corpus corpus = seed.isPresent() && !CustomRandomFieldProvider.class.isAssignableFrom(testClass)
+                ? RandomizerSettings.getCorpusDirectory(classContext::getConfigurationParameter)
+                    .map(directory -> new Corpus(directory, testClass))
+                    .orElse(null)
+                : null;
+        return new TestClassRandomizer(testClass, seed.orElse(DEFAULT_SEED),
+                RandomizerSettings.getParallelThreshold(classContext::getConfigurationParameter), corpus,
+                RandomizerSettings.forClass(testClass, classContext::getConfigurationParameter));
+    }
 
-        registerDefaultRandomizers(customRandomizerRegistry);
-        registerCustomRandomizersIfAny(customRandomizerRegistry, testInstance);
+    private static TestClassRandomizer getTestMethodRandomizer(final ExtensionContext context,
+            final TestClassRandomizer testClassRandomizer) {
+        return context.getTestMethod()
+            .flatMap(testMethod -> findAnnotation(testMethod, RandomizerConfig.class)
+                .map(config -> testClassRandomizer.withSettings(
+                        testClassRandomizer.getSettings().with(config, testMethod))))
+            .orElse(testClassRandomizer);
+    }
 
-        return new EasyRandom(getDefaultParams().randomizerRegistry(customRandomizerRegistry));
+    private static Prefetcher getPrefetcher(final ExtensionContext context) {
+        final ExtensionContext classContext = getClassContext(context);
+        final int lookahead = RandomizerSettings.getPrefetchLookahead(classContext::getConfigurationParameter);
+        final TestClassRandomizer testClassRandomizer = getTestClassRandomizer(classContext);
+        if (lookahead <= 0 || testClassRandomizer.getCorpus().isPresent()
+                || CustomRandomFieldProvider.class.isAssignableFrom(classContext.getRequiredTestClass())) {
+            return null;
+        }
+        return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(Prefetcher.class,
+                type -> new Prefetcher(testClassRandomizer, lookahead), Prefetcher.class);
     }
 
-    private static void registerDefaultRandomizers(final CustomRandomizerRegistry registry) {
-        registry.registerRandomizer(Long.class, new LongRangeRandomizer(1L, 1000L));
-        registry.registerRandomizer(Integer.class, new IntegerRangeRandomizer(1, 1000));
+    private static GenerationProfile getProfile(final ExtensionContext context) {
+        return RandomizerSettings.getProfileFile(context::getConfigurationParameter)
+            .map(file -> context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(GenerationProfile.class,
+                    type -> new GenerationProfile(file), GenerationProfile.class))
+            .orElse(null);
     }
 
-    private static void registerCustomRandomizersIfAny(final CustomRandomizerRegistry registry,
-            final Object testInstance) {
-        if (testInstance instanceof CustomRandomFieldProvider) {
-            final CustomRandomFieldProvider customRandomFieldProvider = (CustomRandomFieldProvider) testInstance;
-            customRandomFieldProvider.registerCustomRandomizers(registry);
+    private static OptionalLong findClassSeed(final ExtensionContext classContext) {
+        for (Class<?> testClass = classContext.getRequiredTestClass(); testClass != null;
+                testClass = testClass.getEnclosingClass()) {
+            final Optional<RandomSeed> randomSeed = findAnnotation(testClass, RandomSeed.class);
+            if (randomSeed.isPresent()) {
+                return OptionalLong.of(randomSeed.get().value());
+            }
         }
+        return RandomizerSettings.getSeed(classContext::getConfigurationParameter);
+    }
+
+    private static long getRootSeed(final ExtensionContext context) {
+        return RandomizerSettings.getSeed(context::getConfigurationParameter).orElse(DEFAULT_SEED);
     }
 
-    private static EasyRandomParameters getDefaultParams() {
-        return new EasyRandomParameters()
-            .objectPoolSize(100)
-            .randomizationDepth(4)
-            .charset(StandardCharsets.UTF_8)
-            .dateRange(LocalDate.now().minusMonths(1), LocalDate.now())
-            .stringLengthRange(5, 20)
-            .collectionSizeRange(1, 10)
-            .ignoreRandomizationErrors(true);
+    private static long getSeed(final ExtensionContext context, final TestClassRandomizer testClassRandomizer) {
+        return context.getTestMethod()
+            .flatMap(testMethod -> findAnnotation(testMethod, RandomSeed.class))
+            .map(RandomSeed::value)
+            .orElseGet(testClassRandomizer::getSeed);
     }
 
-    private static void attachEasyRandomToTestInstance(final EasyRandom easyRandom, final Object testInstance,
+    private static ExtensionContext getClassContext(final ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent()) {
+            classContext = classContext.getParent().orElseThrow();
+        }
+        return classContext;
+    }
+
+    private static ExtensionContext getClassContext(final ExtensionContext context, final Class<?> testClass) {
+        ExtensionContext classContext = getClassContext(context);
+        while (classContext.getRequiredTestClass() != testClass) {
+            classContext = classContext.getParent().orElseThrow();
+        }
+        return classContext;
+    }
+
+    private static RandomizerRegistry getRegistryForTestInstance(final ExtensionContext context,
+            final TestClassRandomizer testClassRandomizer) {
+        return getRegistryForTestInstance(context.getRequiredTestInstance(), context, testClassRandomizer);
+    }
+
+    private static RandomizerRegistry getRegistryForTestInstance(final Object testInstance,
+            final ExtensionContext context, final TestClassRandomizer testClassRandomizer) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(testInstance,
+                instance -> testClassRandomizer.createRegistry(instance), RandomizerRegistry.class);
+    }
+
+    private static boolean hasRegistryAttached(final Object testInstance, final ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(testInstance) != null;
+    }
+
+    private static void attachRegistryToTestInstance(final RandomizerRegistry registry, final Object testInstance,
             final ExtensionContext extensionContext) {
-        extensionContext.getStore(Namespace.GLOBAL).put(testInstance, easyRandom);
-    }
-
-    private static void randomizeFields(final Object testInstance, final EasyRandom easyRandom)
-            throws IllegalAccessException {
-        for (final Field field : testInstance.getClass().getDeclaredFields()) {
-            if (isAnnotated(field, Random.class)) {
-                final Random annotation = field.getAnnotation(Random.class);
-                try {
-                    final Object randomObject = resolve(field.getType(), annotation, easyRandom);
-                    field.setAccessible(true);
-                    field.set(testInstance, randomObject);
-                } catch (final CollectionNotTypedException e) {
-                    logger.warn(() -> "Random field '" + field.getName()
-                            + "' in " + field.getDeclaringClass()
-                            + " is a collection but is missing a type parameter");
-                }
+        extensionContext.getStore(NAMESPACE).put(testInstance, registry);
+    }
+
+    private static boolean isPerClass(final ExtensionContext classContext) {
+        return classContext.getTestInstanceLifecycle().orElse(Lifecycle.PER_METHOD) == Lifecycle.PER_CLASS;
+    }
+
+    private static void detachRegistriesFromTestInstances(final List<Object> testInstances,
+            final ExtensionContext extensionContext) {
+        for (ExtensionContext context = extensionContext; context.getParent().isPresent();
+                context = context.getParent().get()) {
+            if (context.getTestInstanceLifecycle().orElse(Lifecycle.PER_METHOD) == Lifecycle.PER_METHOD) {
+                final Store store = context.getStore(NAMESPACE);
+                testInstances.forEach(store::remove);
             }
         }
     }
 
-    private static Object resolve(final Class<?> targetType, final Random annotation, final EasyRandom easyRandom) {
-        if (targetType.isAssignableFrom(List.class)) {
-            failOnMissingType(annotation);
-            return easyRandom.objects(annotation.type(), annotation.size()).collect(toList());
-        } else if (targetType.isAssignableFrom(Set.class)) {
-            failOnMissingType(annotation);
-            return easyRandom.objects(annotation.type(), annotation.size()).collect(toSet());
+    private static void randomizeFields(final Object testInstance, final ExtensionContext context,
+            final TestClassRandomizer testClassRandomizer, final RandomizerRegistry registry, final long seed) {
+        final ExtensionContext classContext = getClassContext(context, testInstance.getClass());
+        final RandomFieldsEvent event = new RandomFieldsEvent();
+        final long allocatedBytes = event.isEnabled() ? GenerationProbe.allocatedBytes() : 0;
+        event.begin();
+        for (final RandomField randomField : testClassRandomizer.getRandomFields()) {
+            try {
+                final long fieldSeed = Seeds.derive(seed,
+                        context.getUniqueId() + "/" + randomField.getQualifiedName());
+                final Object randomObject = resolve(randomField.getPlan(), classContext, testClassRandomizer,
+                        registry, fieldSeed);
+                randomField.inject(testInstance, randomObject);
+            } catch (final CollectionNotTypedException e) {
+                final Field field = randomField.getField();
+                logger.warn(() -> "Random field '" + field.getName()
+                        + "' in " + field.getDeclaringClass()
+                        + " is a collection but is missing a type parameter");
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.testClass = testInstance.getClass();
+            event.fieldCount = testClassRandomizer.getRandomFields().size();
+            event.allocated = GenerationProbe.allocatedBytes() - allocatedBytes;
+            event.commit();
         }
+    }
 
-        return easyRandom.nextObject(targetType);
+    private static Object resolve(final GenerationPlan plan, final ExtensionContext classContext,
+            final TestClassRandomizer testClassRandomizer, final RandomizerRegistry registry, final long seed) {
+        if (plan.isDeferred()) {
+            // shared, kept on disk and profiled as if it were not deferred, only later
+            final GenerationPlan deferredPlan = plan.getDeferredPlan();
+            return plan.defer(() -> resolve(deferredPlan, classContext, testClassRandomizer, registry, seed));
+        }
+        final GenerationProbe probe = GenerationProbe.start(classContext.getRequiredTestClass(), plan,
+                getProfile(classContext));
+        return probe.stop(resolveInScope(plan, classContext, testClassRandomizer, registry, seed));
+    }
+
+    private static Object resolveInScope(final GenerationPlan plan, final ExtensionContext classContext,
+            final TestClassRandomizer testClassRandomizer, final RandomizerRegistry registry, final long seed) {
+        final Random annotation = plan.getAnnotation();
+        if (annotation.scope() == Scope.METHOD) {
+            return resolve(plan, testClassRandomizer, registry, seed);
+        }
+        failOnSingleUse(plan.getTargetType());
+        final String key = plan.getKey();
+        final ExtensionContext scopeContext =
+                annotation.scope() == Scope.SUITE ? classContext.getRoot() : classContext;
+        final long sharedSeed = Seeds.derive(
+                annotation.scope() == Scope.SUITE ? getRootSeed(classContext) : testClassRandomizer.getSeed(),
+                scopeContext.getUniqueId() + "/" + key);
+        final Object shared = scopeContext.getStore(NAMESPACE).getOrComputeIfAbsent(
+                key + " {" + testClassRandomizer.getSettings() + "}",
+                k -> resolve(plan, testClassRandomizer, registry, sharedSeed));
+        return annotation.copy() ? DeepCopier.copy(shared) : shared;
     }
 
-    private static void failOnMissingType(final Random annotation) {
-        if (annotation.type().equals(void.class)) {
-            throw new CollectionNotTypedException();
+    private static Object resolve(final GenerationPlan plan, final TestClassRandomizer testClassRandomizer,
+            final RandomizerRegistry registry, final long seed) {
+        final Optional<Corpus> corpus = testClassRandomizer.getCorpus();
+        if (corpus.isPresent() && !plan.isLazy()) {
+            return corpus.get().computeIfAbsent(seed, plan, testClassRandomizer.getSettings(),
+                    () -> plan.generate(testClassRandomizer, registry, seed));
+        }
+        return plan.generate(testClassRandomizer, registry, seed);
+    }
+
+    private static void failOnSingleUse(final Class<?> targetType) {
+        if (targetType == Stream.class || targetType == Iterator.class) {
+            throw new ExtensionConfigurationException("Streams and iterators cannot be shared");
         }
     }
 
@@ -202,10 +347,22 @@ public class RandomizerExtension implements ParameterResolver, TestInstancePostP
     public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext)
             throws ParameterResolutionException {
         final Parameter param = parameterContext.getParameter();
-        final Random annotation = param.getAnnotation(Random.class);
-        final EasyRandom easyRandom = getEasyRandomForTestInstance(extensionContext);
+        final TestClassRandomizer testClassRandomizer =
+                getTestMethodRandomizer(extensionContext, getTestClassRandomizer(extensionContext));
+        final RandomizerRegistry registry = getRegistryForTestInstance(extensionContext, testClassRandomizer);
+        final Prefetcher prefetcher = getPrefetcher(extensionContext);
+        final Object prefetched = prefetcher == null
+                || !extensionContext.getTestMethod().equals(Optional.of(parameterContext.getDeclaringExecutable()))
+                ? Prefetcher.MISS
+                : prefetcher.take(extensionContext.getUniqueId(), parameterContext.getIndex());
+        if (prefetched != Prefetcher.MISS) {
+            return prefetched;
+        }
+        final long seed = Seeds.derive(getSeed(extensionContext, testClassRandomizer),
+                extensionContext.getUniqueId() + "#" + parameterContext.getIndex());
         try {
-            return resolve(param.getType(), annotation, easyRandom);
+            return resolve(TestClassRandomizer.getPlan(param), getClassContext(extensionContext),
+                    testClassRandomizer, registry, seed);
         } catch (final CollectionNotTypedException e) {
             logger.warn(() -> "Random parameter '" + param.getName()
                     + "' in method " + param.getDeclaringExecutable()
@@ -215,17 +372,106 @@ public class RandomizerExtension implements ParameterResolver, TestInstancePostP
     }
 
     /**
-     * Register custom randomizers and inject random values into fields annotated with {@link Random}.
+     * Register custom randomizers and, when the instance is shared by every test of the class, inject
+     * random values into fields annotated with {@link Random}. Otherwise fields are injected before each
+     * test, so that their values can be derived from the test they are generated for.
      * @param testInstance the instance to post-process
      * @param extensionContext the extension context for the Executable about to be invoked; never
      *        {@code null}
      */
     @Override
-    public void postProcessTestInstance(final Object testInstance, final ExtensionContext extensionContext)
-            throws IllegalAccessException {
-        final EasyRandom easyRandom = createEasyRandomForTestInstance(testInstance);
-        attachEasyRandomToTestInstance(easyRandom, testInstance, extensionContext);
-        randomizeFields(testInstance, easyRandom);
+    public void postProcessTestInstance(final Object testInstance, final ExtensionContext extensionContext) {
+        final TestClassRandomizer testClassRandomizer = getTestClassRandomizer(extensionContext);
+        final RandomizerRegistry registry = testClassRandomizer.createRegistry(testInstance);
+        attachRegistryToTestInstance(registry, testInstance, extensionContext);
+        if (isPerClass(extensionContext)) {
+            randomizeFields(testInstance, extensionContext, testClassRandomizer, registry,
+                    testClassRandomizer.getSeed());
+        }
+    }
+
+    /**
+     * Inject random values into the fields of the test instances created for the current test only, as
+     * well as into the fields of the enclosing instances of a {@link Nested} test class when the
+     * extension is not registered for the enclosing classes themselves. Enclosing instances that were
+     * already post-processed are reused as they are. The parameters of the next tests start being
+     * generated in the background if the {@code randomizer.prefetch.lookahead} configuration parameter is
+     * given.
+     * @param extensionContext the current extension context; never {@code null}
+     */
+    @Override
+    public void beforeEach(final ExtensionContext extensionContext) {
+        final Prefetcher prefetcher = getPrefetcher(extensionContext);
+        if (prefetcher != null) {
+            prefetcher.prefetchAfter(getClassContext(extensionContext).getUniqueId(),
+                    extensionContext.getUniqueId());
+        }
+        final long seed = getSeed(extensionContext, getTestClassRandomizer(extensionContext));
+        for (final Object testInstance : extensionContext.getRequiredTestInstances().getAllInstances()) {
+            final ExtensionContext classContext = getClassContext(extensionContext, testInstance.getClass());
+            if (!isPerClass(classContext)) {
+                final TestClassRandomizer testClassRandomizer =
+                        getTestMethodRandomizer(extensionContext, getTestClassRandomizer(classContext));
+                final RandomizerRegistry registry =
+                        getRegistryForTestInstance(testInstance, classContext, testClassRandomizer);
+                randomizeFields(testInstance, extensionContext, testClassRandomizer, registry, seed);
+            } else if (!hasRegistryAttached(testInstance, classContext)) {
+                postProcessTestInstance(testInstance, classContext);
+            }
+        }
+    }
+
+    /**
+     * Release the data attached to the test instances once they are no longer needed, i.e. after each
+     * test when the instances are created per method.
+     * @param extensionContext the current extension context; never {@code null}
+     */
+    @Override
+    public void afterEach(final ExtensionContext extensionContext) {
+        detachRegistriesFromTestInstances(extensionContext.getRequiredTestInstances().getAllInstances(),
+                extensionContext);
+    }
+
+    /**
+     * Publish the types whose values took the most time to generate for the test class when
+     * {@code randomizer.profile.enabled}, and those whose objects were trimmed to fit in the budget of
+     * {@link RandomizerConfig#maxObjects()} or {@link RandomizerConfig#maxMillis()}.
+     * @param extensionContext the current extension context; never {@code null}
+     */
+    @Override
+    public void afterAll(final ExtensionContext extensionContext) {
+        final TestClassRandomizer testClassRandomizer = extensionContext.getStore(NAMESPACE)
+            .get(extensionContext.getRequiredTestClass(), TestClassRandomizer.class);
+        if (testClassRandomizer != null && !testClassRandomizer.getTrimmedTypes().isEmpty()) {
+            extensionContext.publishReportEntry(BUDGET_REPORT_ENTRY, testClassRandomizer.getTrimmedTypes()
+                .entrySet()
+                .stream()
+                .map(trimmed -> trimmed.getKey().getSimpleName() + " (" + trimmed.getValue() + ")")
+                .collect(Collectors.joining("; ")));
+        }
+        final GenerationProfile profile = getProfile(extensionContext);
+        if (profile != null) {
+            final List<GenerationProfile.TypeStats> slowest =
+                    profile.getSlowest(extensionContext.getRequiredTestClass(), REPORTED_TYPES);
+            if (!slowest.isEmpty()) {
+                extensionContext.publishReportEntry(PROFILE_REPORT_ENTRY,
+                        slowest.stream().map(String::valueOf).collect(Collectors.joining("; ")));
+            }
+        }
+    }
+
+    /**
+     * Publish the seed random values were generated from when a test fails, so that the test can be run
+     * again with the same data by setting it as the {@code randomizer.seed} configuration parameter.
+     * @param extensionContext the current extension context; never {@code null}
+     * @param throwable the exception thrown by the test
+     */
+    @Override
+    public void handleTestExecutionException(final ExtensionContext extensionContext, final Throwable throwable)
+            throws Throwable {
+        final long seed = getSeed(extensionContext, getTestClassRandomizer(extensionContext));
+        extensionContext.publishReportEntry(RandomizerSettings.SEED_PARAMETER, String.valueOf(seed));
+        throw throwable;
     }
 
 }
@@ -0,0 +1,471 @@
+package com.github.mperezi.test.randomizer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+
+/**
+ * The effective configuration random objects are generated with, once every level of
+ * {@link RandomizerConfig} and the configuration parameters are taken into account.
+ *
+ * <p>
+ * Settings are values, so that generators set up with the same settings can be shared. Dates left
+ * unset are relative to the current date, hence they are kept unset rather than resolved, so that
+ * settings made on different days are still equal to each other.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class RandomizerSettings {
+
+    /**
+     * The configuration parameter (or system property) to set the seed random values are generated
+     * from, unless given by {@link RandomSeed}.
+     */
+    static final String SEED_PARAMETER = "randomizer.seed";
+
+    /**
+     * The configuration parameter (or system property) to set the minimum size of the collections that
+     * are generated in parallel.
+     */
+    static final String PARALLEL_THRESHOLD_PARAMETER = "randomizer.parallel.threshold";
+
+    /**
+     * The configuration parameter (or system property) to keep the random values generated on disk, so
+     * that later runs with the same seed read them instead of generating them again.
+     */
+    static final String CORPUS_ENABLED_PARAMETER = "randomizer.corpus.enabled";
+
+    /**
+     * The configuration parameter (or system property) to set the directory random values are kept in
+     * when {@value #CORPUS_ENABLED_PARAMETER}.
+     */
+    static final String CORPUS_DIRECTORY_PARAMETER = "randomizer.corpus.directory";
+
+    /**
+     * The configuration parameter (or system property) to keep track of the time spent generating
+     * random values by test class and type. The slowest types of each test class are published as the
+     * {@value RandomizerExtension#PROFILE_REPORT_ENTRY} report entry, and those of every test class are
+     * written to a file once the test run is done.
+     */
+    static final String PROFILE_ENABLED_PARAMETER = "randomizer.profile.enabled";
+
+    /**
+     * The configuration parameter (or system property) to set the file the slowest types of every test
+     * class are written to when {@value #PROFILE_ENABLED_PARAMETER}.
+     */
+    static final String PROFILE_FILE_PARAMETER = "randomizer.profile.file";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#objectPoolSize()}
+     * for every test class.
+     */
+    static final String OBJECT_POOL_SIZE_PARAMETER = "randomizer.objectPoolSize";
+
+    /**
+     * The configuration parameter (or system property) to set
+     * {@link RandomizerConfig#randomizationDepth()} for every test class.
+     */
+    static final String RANDOMIZATION_DEPTH_PARAMETER = "randomizer.randomizationDepth";
+
+    /**
+     * The configuration parameter (or system property) to set
+     * {@link RandomizerConfig#minCollectionSize()} for every test class.
+     */
+    static final String MIN_COLLECTION_SIZE_PARAMETER = "randomizer.minCollectionSize";
+
+    /**
+     * The configuration parameter (or system property) to set
+     * {@link RandomizerConfig#maxCollectionSize()} for every test class.
+     */
+    static final String MAX_COLLECTION_SIZE_PARAMETER = "randomizer.maxCollectionSize";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#minStringLength()}
+     * for every test class.
+     */
+    static final String MIN_STRING_LENGTH_PARAMETER = "randomizer.minStringLength";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#maxStringLength()}
+     * for every test class.
+     */
+    static final String MAX_STRING_LENGTH_PARAMETER = "randomizer.maxStringLength";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#minDate()} for
+     * every test class.
+     */
+    static final String MIN_DATE_PARAMETER = "randomizer.minDate";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#maxDate()} for
+     * every test class.
+     */
+    static final String MAX_DATE_PARAMETER = "randomizer.maxDate";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#maxObjects()} for
+     * every test class.
+     */
+    static final String MAX_OBJECTS_PARAMETER = "randomizer.maxObjects";
+
+    /**
+     * The configuration parameter (or system property) to set {@link RandomizerConfig#maxMillis()} for
+     * every test class.
+     */
+    static final String MAX_MILLIS_PARAMETER = "randomizer.maxMillis";
+
+    /**
+     * The configuration parameter (or system property) to prepare the test classes using the extension
+     * in the background as soon as they are discovered, disabled by default.
+     * @see PreparingListener
+     */
+    static final String PREPARE_ENABLED_PARAMETER = "randomizer.prepare.enabled";
+
+    /**
+     * The configuration parameter (or system property) to generate the random parameters of the next
+     * tests of a class in the background while the current one runs, as many tests ahead as given.
+     * Disabled by default, it only applies to test classes without custom randomizers nor a corpus, run
+     * one test at a time.
+     */
+    static final String PREFETCH_LOOKAHEAD_PARAMETER = "randomizer.prefetch.lookahead";
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    private static final String DEFAULT_CORPUS_DIRECTORY = "target/randomizer-corpus";
+
+    private static final String DEFAULT_PROFILE_FILE = "target/randomizer-profile.txt";
+
+    private final int objectPoolSize;
+
+    private final int randomizationDepth;
+
+    private final int minCollectionSize;
+
+    private final int maxCollectionSize;
+
+    private final int minStringLength;
+
+    private final int maxStringLength;
+
+    private final LocalDate minDate;
+
+    private final LocalDate maxDate;
+
+    private final int maxObjects;
+
+    private final int maxMillis;
+
+    private RandomizerSettings(final int objectPoolSize, final int randomizationDepth, final int minCollectionSize,
+            final int maxCollectionSize, final int minStringLength, final int maxStringLength,
+            final LocalDate minDate, final LocalDate maxDate, final int maxObjects, final int maxMillis) {
+        this.objectPoolSize = objectPoolSize;
+        this.randomizationDepth = randomizationDepth;
+        this.minCollectionSize = minCollectionSize;
+        this.maxCollectionSize = maxCollectionSize;
+        this.minStringLength = minStringLength;
+        this.maxStringLength = maxStringLength;
+        this.minDate = minDate;
+        this.maxDate = maxDate;
+        this.maxObjects = maxObjects;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * The settings used unless configured otherwise.
+     */
+    static RandomizerSettings defaults() {
+        return new RandomizerSettings(100, 4, 1, 10, 5, 20, null, null, 0, 0);
+    }
+
+    /**
+     * The settings of the given test class, given by the {@link RandomizerConfig} of the class, of its
+     * enclosing classes and of its package, and by the configuration parameters.
+     * @param testClass the test class
+     * @param parameters the configuration parameters by name
+     * @return the settings
+     * @throws ExtensionConfigurationException if the settings are not valid
+     */
+    static RandomizerSettings forClass(final Class<?> testClass,
+            final Function<String, Optional<String>> parameters) {
+        RandomizerSettings settings = defaults().withParameters(parameters);
+        final Package testPackage = testClass.getPackage();
+        if (testPackage != null) {
+            settings = settings.with(testPackage.getAnnotation(RandomizerConfig.class), testPackage);
+        }
+        final List<Class<?>> enclosingClasses = new ArrayList<>();
+        for (Class<?> enclosingClass = testClass; enclosingClass != null;
+                enclosingClass = enclosingClass.getEnclosingClass()) {
+            enclosingClasses.add(0, enclosingClass);
+        }
+        for (final Class<?> enclosingClass : enclosingClasses) {
+            settings = settings.with(findAnnotation(enclosingClass, RandomizerConfig.class).orElse(null),
+                    enclosingClass);
+        }
+        return settings;
+    }
+
+    /**
+     * The seed given by the {@value #SEED_PARAMETER} configuration parameter, if any.
+     * @param parameters the configuration parameters by name
+     * @return the seed
+     * @throws ExtensionConfigurationException if the seed is not a number
+     */
+    static OptionalLong getSeed(final Function<String, Optional<String>> parameters) {
+        return parameters.apply(SEED_PARAMETER)
+            .map(seed -> OptionalLong.of(parse(SEED_PARAMETER, seed, Long::parseLong)))
+            .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * The minimum size of the collections generated in parallel.
+     * @param parameters the configuration parameters by name
+     * @return the threshold
+     * @throws ExtensionConfigurationException if the threshold is not a number
+     */
+    static int getParallelThreshold(final Function<String, Optional<String>> parameters) {
+        return parse(parameters, PARALLEL_THRESHOLD_PARAMETER, Integer::parseInt, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * The number of tests ahead whose parameters are generated in the background, none by default.
+     * @param parameters the configuration parameters by name
+     * @return the lookahead
+     * @throws ExtensionConfigurationException if the lookahead is not a number
+     */
+    static int getPrefetchLookahead(final Function<String, Optional<String>> parameters) {
+        return parse(parameters, PREFETCH_LOOKAHEAD_PARAMETER, Integer::parseInt, 0);
+    }
+
+    /**
+     * The directory random values are kept in, if {@value #CORPUS_ENABLED_PARAMETER}.
+     * @param parameters the configuration parameters by name
+     * @return the directory
+     */
+    static Optional<Path> getCorpusDirectory(final Function<String, Optional<String>> parameters) {
+        if (!parse(parameters, CORPUS_ENABLED_PARAMETER, Boolean::parseBoolean, false)) {
+            return Optional.empty();
+        }
+        return Optional.of(Paths.get(parameters.apply(CORPUS_DIRECTORY_PARAMETER).orElse(DEFAULT_CORPUS_DIRECTORY)));
+    }
+
+    /**
+     * The file the slowest types of every test class are written to, if {@value #PROFILE_ENABLED_PARAMETER}.
+     * @param parameters the configuration parameters by name
+     * @return the file
+     */
+    static Optional<Path> getProfileFile(final Function<String, Optional<String>> parameters) {
+        if (!parse(parameters, PROFILE_ENABLED_PARAMETER, Boolean::parseBoolean, false)) {
+            return Optional.empty();
+        }
+        return Optional.of(Paths.get(parameters.apply(PROFILE_FILE_PARAMETER).orElse(DEFAULT_PROFILE_FILE)));
+    }
+
+    /**
+     * Whether the test classes using the extension are prepared in the background, see
+     * {@value #PREPARE_ENABLED_PARAMETER}.
+     * @param parameters the configuration parameters by name
+     * @return {@code true} if they are
+     */
+    static boolean isPrepareEnabled(final Function<String, Optional<String>> parameters) {
+        return parse(parameters, PREPARE_ENABLED_PARAMETER, Boolean::parseBoolean, false);
+    }
+
+    /**
+     * Override these settings with those given as configuration parameters.
+     * @param parameters the configuration parameters by name
+     * @return the new settings
+     * @throws ExtensionConfigurationException if any parameter is invalid
+     */
+    RandomizerSettings withParameters(final Function<String, Optional<String>> parameters) {
+        return new RandomizerSettings(
+                parse(parameters, OBJECT_POOL_SIZE_PARAMETER, Integer::parseInt, this.objectPoolSize),
+                parse(parameters, RANDOMIZATION_DEPTH_PARAMETER, Integer::parseInt, this.randomizationDepth),
+                parse(parameters, MIN_COLLECTION_SIZE_PARAMETER, Integer::parseInt, this.minCollectionSize),
+                parse(parameters, MAX_COLLECTION_SIZE_PARAMETER, Integer::parseInt, this.maxCollectionSize),
+                parse(parameters, MIN_STRING_LENGTH_PARAMETER, Integer::parseInt, this.minStringLength),
+                parse(parameters, MAX_STRING_LENGTH_PARAMETER, Integer::parseInt, this.maxStringLength),
+                parse(parameters, MIN_DATE_PARAMETER, LocalDate::parse, this.minDate),
+                parse(parameters, MAX_DATE_PARAMETER, LocalDate::parse, this.maxDate),
+                parse(parameters, MAX_OBJECTS_PARAMETER, Integer::parseInt, this.maxObjects),
+                parse(parameters, MAX_MILLIS_PARAMETER, Integer::parseInt, this.maxMillis))
+            .validate(RandomizerExtension.class.getSimpleName() + " configuration parameters");
+    }
+
+    /**
+     * Override these settings with those given by the given annotation.
+     * @param config the annotation, or {@code null} to keep these settings as they are
+     * @param annotatedElement the element the annotation is found on, for error messages
+     * @return the new settings
+     * @throws ExtensionConfigurationException if any setting is invalid
+     */
+    RandomizerSettings with(final RandomizerConfig config, final Object annotatedElement) {
+        if (config == null) {
+            return this;
+        }
+        return new RandomizerSettings(
+                inherit(config.objectPoolSize(), this.objectPoolSize),
+                inherit(config.randomizationDepth(), this.randomizationDepth),
+                inherit(config.minCollectionSize(), this.minCollectionSize),
+                inherit(config.maxCollectionSize(), this.maxCollectionSize),
+                inherit(config.minStringLength(), this.minStringLength),
+                inherit(config.maxStringLength(), this.maxStringLength),
+                config.minDate().isEmpty() ? this.minDate : parse("minDate", config.minDate(), LocalDate::parse),
+                config.maxDate().isEmpty() ? this.maxDate : parse("maxDate", config.maxDate(), LocalDate::parse),
+                inherit(config.maxObjects(), this.maxObjects),
+                inherit(config.maxMillis(), this.maxMillis))
+            .validate("@RandomizerConfig of " + annotatedElement);
+    }
+
+    private static int inherit(final int value, final int inherited) {
+        return value == RandomizerConfig.INHERITED ? inherited : value;
+    }
+
+    private static <T> T parse(final Function<String, Optional<String>> parameters, final String parameter,
+            final Function<String, T> parser, final T defaultValue) {
+        return parameters.apply(parameter).map(value -> parse(parameter, value, parser)).orElse(defaultValue);
+    }
+
+    private static <T> T parse(final String parameter, final String value, final Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (final NumberFormatException | DateTimeParseException e) {
+            throw new ExtensionConfigurationException("Invalid " + parameter + " '" + value + "'", e);
+        }
+    }
+
+    private RandomizerSettings validate(final String source) {
+        if (this.objectPoolSize < 1 || this.randomizationDepth < 1 || this.minCollectionSize < 0
+                || this.minCollectionSize > this.maxCollectionSize || this.minStringLength < 0
+                || this.minStringLength > this.maxStringLength || this.getMinDate().isAfter(this.getMaxDate())
+                || this.maxObjects < 0 || this.maxMillis < 0) {
+            throw new ExtensionConfigurationException("Invalid " + source + ": " + this);
+        }
+        return this;
+    }
+
+    private LocalDate getMaxDate() {
+        return this.maxDate != null ? this.maxDate : LocalDate.now();
+    }
+
+    private LocalDate getMinDate() {
+        return this.minDate != null ? this.minDate : this.getMaxDate().minusMonths(1);
+    }
+
+    /**
+     * The least number of elements of the collections nested in generated values.
+     */
+    int getMinCollectionSize() {
+        return this.minCollectionSize;
+    }
+
+    /**
+     * The greatest number of elements of the collections nested in generated values.
+     */
+    int getMaxCollectionSize() {
+        return this.maxCollectionSize;
+    }
+
+    /**
+     * Whether the objects generated with these settings must fit in a budget of objects or time.
+     */
+    boolean hasBudget() {
+        return this.maxObjects > 0 || this.maxMillis > 0;
+    }
+
+    /**
+     * Whether generating an object took no more than the budget of these settings.
+     * @param objects the number of objects created to generate it
+     * @param nanos the time it took to generate it
+     * @return {@code true} if it fits in the budget
+     */
+    boolean fitsBudget(final long objects, final long nanos) {
+        return (this.maxObjects <= 0 || objects <= this.maxObjects)
+                && (this.maxMillis <= 0 || nanos <= TimeUnit.MILLISECONDS.toNanos(this.maxMillis));
+    }
+
+    /**
+     * The next smaller settings to try when objects do not fit in the budget: one level shallower, half
+     * the collection size and half the object pool size, so that more objects are reused.
+     * @return the new settings, or {@code null} if they cannot be any smaller
+     */
+    RandomizerSettings trim() {
+        if (this.randomizationDepth <= 1 && this.maxCollectionSize <= 1 && this.objectPoolSize <= 1) {
+            return null;
+        }
+        final int trimmedMaxCollectionSize = this.maxCollectionSize / 2;
+        return new RandomizerSettings(Math.max(1, this.objectPoolSize / 2), Math.max(1, this.randomizationDepth - 1),
+                Math.min(this.minCollectionSize, trimmedMaxCollectionSize), trimmedMaxCollectionSize,
+                this.minStringLength, this.maxStringLength, this.minDate, this.maxDate, this.maxObjects,
+                this.maxMillis);
+    }
+
+    /**
+     * The parameters to set up a generator with these settings.
+     * @return new parameters
+     */
+    EasyRandomParameters toParameters() {
+        return new EasyRandomParameters()
+            .objectPoolSize(this.objectPoolSize)
+            .randomizationDepth(this.randomizationDepth)
+            .charset(StandardCharsets.UTF_8)
+            .dateRange(this.getMinDate(), this.getMaxDate())
+            .stringLengthRange(this.minStringLength, this.maxStringLength)
+            .collectionSizeRange(this.minCollectionSize, this.maxCollectionSize)
+            .ignoreRandomizationErrors(true);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RandomizerSettings)) {
+            return false;
+        }
+        final RandomizerSettings settings = (RandomizerSettings) other;
+        return this.objectPoolSize == settings.objectPoolSize
+                && this.randomizationDepth == settings.randomizationDepth
+                && this.minCollectionSize == settings.minCollectionSize
+                && this.maxCollectionSize == settings.maxCollectionSize
+                && this.minStringLength == settings.minStringLength
+                && this.maxStringLength == settings.maxStringLength
+                && Objects.equals(this.minDate, settings.minDate)
+                && Objects.equals(this.maxDate, settings.maxDate)
+                && this.maxObjects == settings.maxObjects
+                && this.maxMillis == settings.maxMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.objectPoolSize, this.randomizationDepth, this.minCollectionSize,
+                this.maxCollectionSize, this.minStringLength, this.maxStringLength, this.minDate, this.maxDate,
+                this.maxObjects, this.maxMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "objectPoolSize=" + this.objectPoolSize + ", randomizationDepth=" + this.randomizationDepth
+                + ", collectionSize=" + this.minCollectionSize + ".." + this.maxCollectionSize
+                + ", stringLength=" + this.minStringLength + ".." + this.maxStringLength
+                + ", date=" + (this.minDate != null ? this.minDate : "") + ".."
+                + (this.maxDate != null ? this.maxDate : "")
+                + (this.hasBudget() ? ", maxObjects=" + this.maxObjects + ", maxMillis=" + this.maxMillis : "");
+    }
+
+}
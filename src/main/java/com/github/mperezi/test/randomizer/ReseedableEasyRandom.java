@@ -0,0 +1,299 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.EasyRandomParameters.Range;
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.api.RandomizerProvider;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
+
+/**
+ * An {@link EasyRandom} that can be given a new seed without being set up all over again.
+ *
+ * <p>
+ * Besides the generator itself, the {@link DefaultRandomizerRegistry} is initialized again with the new
+ * seed, so that the values generated from then on only depend on it. It stands in for the built-in
+ * registries of easy-random, which are seeded upon initialization too but are too expensive to be
+ * initialized again for every seed.
+ * </p>
+ *
+ * <p>
+ * It also keeps count of the objects it creates, so that the cost of generating each type can be
+ * measured. Records and immutable classes are created by calling their {@link CanonicalConstructor}
+ * with random arguments, rather than instantiated empty and then filled field by field, which cannot
+ * set the fields of a record. Types with a {@link GeneratedRandomizer} on the classpath are created by
+ * it instead, after any custom randomizer registered for them.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class ReseedableEasyRandom extends EasyRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EasyRandomParameters parameters;
+
+    private final RegistriesRandomizerProvider randomizerProvider;
+
+    private final ConstructingObjectFactory objectFactory;
+
+    private int depth;
+
+    ReseedableEasyRandom(final EasyRandomParameters parameters) {
+        this(parameters, new RegistriesRandomizerProvider(),
+                new ConstructingObjectFactory(parameters.getObjectFactory()));
+    }
+
+    private ReseedableEasyRandom(final EasyRandomParameters parameters,
+            final RegistriesRandomizerProvider randomizerProvider, final ConstructingObjectFactory objectFactory) {
+        super(parameters.randomizerProvider(randomizerProvider)
+            .objectFactory(objectFactory)
+            .excludeField(CanonicalConstructor::isConstructorSet));
+        this.parameters = parameters;
+        this.randomizerProvider = randomizerProvider;
+        this.objectFactory = objectFactory;
+        objectFactory.easyRandom = this;
+        randomizerProvider.easyRandom = this;
+    }
+
+    /**
+     * The number of objects created so far, not counting those generated by randomizers nor those
+     * reused from the object pool.
+     */
+    long getCreatedObjects() {
+        return this.objectFactory.createdObjects;
+    }
+
+    void countCreatedObject() {
+        this.objectFactory.createdObjects++;
+    }
+
+    /**
+     * Generate the arguments to set the given fields of a new object with. They are generated out of
+     * new contexts, hence the depth of the object is carried over from one context to the next. Past
+     * the randomization depth, only the arguments generated by randomizers are, and objects are left
+     * {@code null}.
+     * @param fields the fields to set
+     * @param types the generic types of the arguments
+     * @param context the context the object is created in
+     * @return the arguments, primitive ones never being {@code null}
+     */
+    Object[] generateArguments(final Field[] fields, final Type[] types, final RandomizerContext context) {
+        final Object[] arguments = new Object[fields.length];
+        final int previousDepth = this.depth;
+        this.depth += context.getCurrentRandomizationDepth() + 1;
+        try {
+            final boolean nested = this.depth <= this.parameters.getRandomizationDepth();
+            for (int i = 0; i < fields.length; i++) {
+                arguments[i] = this.generateArgument(fields[i], types[i], context, nested);
+                if (arguments[i] == null && fields[i].getType().isPrimitive()) {
+                    arguments[i] = Array.get(Array.newInstance(fields[i].getType(), 1), 0);
+                }
+            }
+        } finally {
+            this.depth = previousDepth;
+        }
+        return arguments;
+    }
+
+    private Object generateArgument(final Field field, final Type type, final RandomizerContext context,
+            final boolean nested) {
+        final Randomizer<?> randomizer = this.randomizerProvider.getRandomizerByArgument(field);
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        if (randomizer != null) {
+            return randomizer.getRandomValue();
+        }
+        return nested ? this.generate(type) : null;
+    }
+
+    private Object generate(final Type type) {
+        if (type instanceof Class) {
+            return this.nextObject((Class<?>) type);
+        } else if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        final Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        final Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+        if (rawType == Optional.class) {
+            return Optional.ofNullable(this.generate(typeArguments[0]));
+        } else if (rawType.isAssignableFrom(LinkedHashMap.class)) {
+            final int size = this.nextCollectionSize();
+            final Map<Object, Object> map = new LinkedHashMap<>(HashCapacity.of(size));
+            for (int i = 0; i < size; i++) {
+                map.put(this.generate(typeArguments[0]), this.generate(typeArguments[1]));
+            }
+            return map;
+        } else if (rawType.isAssignableFrom(ArrayList.class) || rawType.isAssignableFrom(LinkedHashSet.class)) {
+            final int size = this.nextCollectionSize();
+            final Collection<Object> collection = rawType.isAssignableFrom(ArrayList.class)
+                    ? new ArrayList<>(size)
+                    : new LinkedHashSet<>(HashCapacity.of(size));
+            for (int i = 0; i < size; i++) {
+                collection.add(this.generate(typeArguments[0]));
+            }
+            return collection;
+        }
+        return this.nextObject(rawType);
+    }
+
+    private int nextCollectionSize() {
+        final Range<Integer> range = this.parameters.getCollectionSizeRange();
+        return range.getMin() + this.nextInt(range.getMax() - range.getMin() + 1);
+    }
+
+    /**
+     * Start generating values from the given seed.
+     * @param seed the new seed
+     */
+    void reseed(final long seed) {
+        this.parameters.setSeed(seed);
+        this.setSeed(seed);
+        this.randomizerProvider.reseed(this.parameters);
+    }
+
+    /**
+     * Same as the default provider of easy-random, it gives precedence to the registries with higher
+     * priority. Types no registry has a randomizer for are created by their {@link GeneratedRandomizer},
+     * if any.
+     */
+    private static final class RegistriesRandomizerProvider implements RandomizerProvider {
+
+        private static final Comparator<RandomizerRegistry> BY_PRIORITY =
+                Comparator.comparingInt(RegistriesRandomizerProvider::getPriority).reversed();
+
+        private final List<RandomizerRegistry> registries = new ArrayList<>();
+
+        private final Map<Class<?>, Randomizer<?>> generatedRandomizers = new IdentityHashMap<>();
+
+        private ReseedableEasyRandom easyRandom;
+
+        private static int getPriority(final RandomizerRegistry registry) {
+            final Priority priority = registry.getClass().getAnnotation(Priority.class);
+            return priority == null ? 0 : priority.value();
+        }
+
+        @Override
+        public void setRandomizerRegistries(final Set<RandomizerRegistry> randomizerRegistries) {
+            this.registries.addAll(randomizerRegistries);
+            this.registries.sort(BY_PRIORITY);
+        }
+
+        @Override
+        public Randomizer<?> getRandomizerByField(final Field field, final RandomizerContext context) {
+            for (final RandomizerRegistry registry : this.registries) {
+                final Randomizer<?> randomizer = registry.getRandomizer(field);
+                if (randomizer != null) {
+                    return randomizer;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * The randomizer of a field set by its {@link CanonicalConstructor}, which is excluded from
+         * being set after the object is created, but not from being generated.
+         */
+        Randomizer<?> getRandomizerByArgument(final Field field) {
+            for (final RandomizerRegistry registry : this.registries) {
+                final Randomizer<?> randomizer =
+                        registry instanceof ExclusionRandomizerRegistry ? null : registry.getRandomizer(field);
+                if (randomizer != null) {
+                    return randomizer;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Randomizer<T> getRandomizerByType(final Class<T> type, final RandomizerContext context) {
+            for (final RandomizerRegistry registry : this.registries) {
+                final Randomizer<?> randomizer = registry.getRandomizer(type);
+                if (randomizer != null) {
+                    return (Randomizer<T>) randomizer;
+                }
+            }
+            return (Randomizer<T>) this.generatedRandomizers.computeIfAbsent(type,
+                    generatedType -> GeneratedRandomizer.find(generatedType, this.easyRandom));
+        }
+
+        void reseed(final EasyRandomParameters parameters) {
+            for (final RandomizerRegistry registry : this.registries) {
+                if (registry instanceof DefaultRandomizerRegistry) {
+                    registry.init(parameters);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Keep count of the objects created, and create records and immutable classes through their
+     * canonical constructor.
+     */
+    private static final class ConstructingObjectFactory implements ObjectFactory {
+
+        private final ObjectFactory delegate;
+
+        private ReseedableEasyRandom easyRandom;
+
+        private long createdObjects;
+
+        private ConstructingObjectFactory(final ObjectFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> T createInstance(final Class<T> type, final RandomizerContext context) {
+            this.createdObjects++;
+            final CanonicalConstructor constructor = CanonicalConstructor.of(type);
+            if (constructor == null) {
+                return this.delegate.createInstance(type, context);
+            }
+            final Field[] fields = constructor.getFields();
+            final Object[] arguments =
+                    this.easyRandom.generateArguments(fields, constructor.getParameterTypes(), context);
+            try {
+                return type.cast(constructor.newInstance(arguments));
+            } catch (final RuntimeException e) {
+                return this.setFields(this.delegate.createInstance(type, context), fields, arguments);
+            }
+        }
+
+        private <T> T setFields(final T instance, final Field[] fields, final Object[] values) {
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    fields[i].setAccessible(true);
+                    fields[i].set(instance, values[i]);
+                } catch (final IllegalAccessException | RuntimeException e) {
+                    // records cannot be modified, their fields are left as they are
+                }
+            }
+            return instance;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.mperezi.test.randomizer;
+
+/**
+ * Derive independent seeds out of a root seed.
+ *
+ * <p>
+ * Seeds are derived the same way {@link java.util.SplittableRandom} splits its streams, so that the
+ * derived seeds only depend on the root seed and the index or key given, not on the order they are
+ * asked for.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class Seeds {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private Seeds() {
+
+    }
+
+    /**
+     * Derive the n-th seed out of a root seed.
+     * @param seed the root seed
+     * @param index the index of the derived seed
+     * @return a new seed
+     */
+    static long derive(final long seed, final long index) {
+        return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Derive a seed out of a root seed for the given key.
+     * @param seed the root seed
+     * @param key the key of the derived seed, e.g. the unique id of a test
+     * @return a new seed
+     */
+    static long derive(final long seed, final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return derive(seed, hash);
+    }
+
+    private static long mix64(final long z) {
+        long x = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+}
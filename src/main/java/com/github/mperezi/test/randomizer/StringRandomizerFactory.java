@@ -1,17 +1,14 @@
 package com.github.mperezi.test.randomizer;
 
 import org.jeasy.random.api.Randomizer;
-import org.jeasy.random.randomizers.misc.EnumRandomizer;
-import org.jeasy.random.randomizers.range.DoubleRangeRandomizer;
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
-import org.jeasy.random.randomizers.range.LongRangeRandomizer;
-import org.jeasy.random.randomizers.text.StringDelegatingRandomizer;
-import org.jeasy.random.randomizers.time.InstantRandomizer;
-import org.jeasy.random.randomizers.time.LocalDateRandomizer;
-import org.jeasy.random.randomizers.time.LocalDateTimeRandomizer;
 
 /**
  * Factory class to create randomizers that output a String value from a different type.
+ *
+ * <p>
+ * Every randomizer can be given a seed, in the same way as the randomizers of
+ * {@link com.github.mperezi.test.randomizer.custom}.
+ * </p>
  */
 public final class StringRandomizerFactory {
 
@@ -26,7 +23,23 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link Long} into a String
      */
     public static Randomizer<String> ofLongRange(final Long min, final Long max) {
-        return new StringDelegatingRandomizer(new LongRangeRandomizer(min, max));
+        return ofLongRange(min, max, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link Long} value in the given interval.
+     * @param min min value
+     * @param max max value
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link Long} into a String
+     */
+    public static Randomizer<String> ofLongRange(final Long min, final Long max, final long seed) {
+        return ofLongRange(min, max, Long.valueOf(seed));
+    }
+
+    private static Randomizer<String> ofLongRange(final Long min, final Long max, final Long seed) {
+        return new StringRandomizers.LongRangeRandomizer(min == null ? Long.MIN_VALUE : min,
+                max == null ? Long.MAX_VALUE : max, seed);
     }
 
     /**
@@ -36,7 +49,23 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link Double} into a String
      */
     public static Randomizer<String> ofDoubleRange(final Double min, final Double max) {
-        return new StringDelegatingRandomizer(new DoubleRangeRandomizer(min, max));
+        return ofDoubleRange(min, max, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link Double} value in the given interval.
+     * @param min min value
+     * @param max max value
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link Double} into a String
+     */
+    public static Randomizer<String> ofDoubleRange(final Double min, final Double max, final long seed) {
+        return ofDoubleRange(min, max, Long.valueOf(seed));
+    }
+
+    private static Randomizer<String> ofDoubleRange(final Double min, final Double max, final Long seed) {
+        return new StringRandomizers.DoubleRangeRandomizer(min == null ? Double.MIN_VALUE : min,
+                max == null ? Double.MAX_VALUE : max, seed);
     }
 
     /**
@@ -46,7 +75,23 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link Integer} into a String
      */
     public static Randomizer<String> ofIntRange(final Integer min, final Integer max) {
-        return new StringDelegatingRandomizer(new IntegerRangeRandomizer(min, max));
+        return ofIntRange(min, max, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from an {@link Integer} value in the given interval.
+     * @param min min value
+     * @param max max value
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link Integer} into a String
+     */
+    public static Randomizer<String> ofIntRange(final Integer min, final Integer max, final long seed) {
+        return ofIntRange(min, max, Long.valueOf(seed));
+    }
+
+    private static Randomizer<String> ofIntRange(final Integer min, final Integer max, final Long seed) {
+        return new StringRandomizers.LongRangeRandomizer(min == null ? Integer.MIN_VALUE : min,
+                max == null ? Integer.MAX_VALUE : max, seed);
     }
 
     /**
@@ -54,7 +99,16 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link java.time.Instant} into a String
      */
     public static Randomizer<String> ofInstant() {
-        return new StringDelegatingRandomizer(new InstantRandomizer());
+        return new StringRandomizers.InstantRandomizer(null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from an {@link java.time.Instant} value.
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.time.Instant} into a String
+     */
+    public static Randomizer<String> ofInstant(final long seed) {
+        return new StringRandomizers.InstantRandomizer(seed);
     }
 
     /**
@@ -62,7 +116,86 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link java.time.LocalDate} into a String
      */
     public static Randomizer<String> ofLocalDate() {
-        return new StringDelegatingRandomizer(new LocalDateRandomizer());
+        return new StringRandomizers.LocalDateRandomizer(null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link java.time.LocalDate} value.
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.time.LocalDate} into a String
+     */
+    public static Randomizer<String> ofLocalDate(final long seed) {
+        return new StringRandomizers.LocalDateRandomizer(seed);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link java.time.LocalDate} value written
+     * following the given pattern, e.g. {@code dd/MM/yyyy}. Only the year ({@code yyyy}, {@code yy}),
+     * month ({@code MM}, {@code M}) and day of the month ({@code dd}, {@code d}) fields are supported.
+     * @param pattern the pattern, as understood by {@link java.time.format.DateTimeFormatter}
+     * @return a new randomizer that transforms a random {@link java.time.LocalDate} into a String
+     * @throws IllegalArgumentException if the pattern has unsupported fields
+     */
+    public static Randomizer<String> ofLocalDate(final String pattern) {
+        return new StringRandomizers.LocalDateRandomizer(pattern, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link java.time.LocalDate} value written
+     * following the given pattern, see {@link #ofLocalDate(String)}.
+     * @param pattern the pattern, as understood by {@link java.time.format.DateTimeFormatter}
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.time.LocalDate} into a String
+     * @throws IllegalArgumentException if the pattern has unsupported fields
+     */
+    public static Randomizer<String> ofLocalDate(final String pattern, final long seed) {
+        return new StringRandomizers.LocalDateRandomizer(pattern, seed);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a decimal value in the given interval, with a fixed
+     * number of digits after the decimal point.
+     * @param min min value
+     * @param max max value
+     * @param scale the number of digits after the decimal point
+     * @return a new randomizer that transforms a random {@link java.math.BigDecimal} into a plain String
+     */
+    public static Randomizer<String> ofDecimal(final long min, final long max, final int scale) {
+        return new StringRandomizers.DecimalRandomizer(min, max, scale, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a decimal value in the given interval, with a fixed
+     * number of digits after the decimal point.
+     * @param min min value
+     * @param max max value
+     * @param scale the number of digits after the decimal point
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.math.BigDecimal} into a plain String
+     */
+    public static Randomizer<String> ofDecimal(final long min, final long max, final int scale, final long seed) {
+        return new StringRandomizers.DecimalRandomizer(min, max, scale, seed);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a decimal value with a fixed number of digits after
+     * the decimal point, in the same interval as the numbers generated by default.
+     * @param scale the number of digits after the decimal point
+     * @return a new randomizer that transforms a random {@link java.math.BigDecimal} into a plain String
+     */
+    public static Randomizer<String> ofDecimal(final int scale) {
+        return ofDecimal(DefaultRandomizerRegistry.MIN_VALUE, DefaultRandomizerRegistry.MAX_VALUE, scale);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a decimal value with a fixed number of digits after
+     * the decimal point, in the same interval as the numbers generated by default.
+     * @param scale the number of digits after the decimal point
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.math.BigDecimal} into a plain String
+     */
+    public static Randomizer<String> ofDecimal(final int scale, final long seed) {
+        return ofDecimal(DefaultRandomizerRegistry.MIN_VALUE, DefaultRandomizerRegistry.MAX_VALUE, scale, seed);
     }
 
     /**
@@ -70,7 +203,16 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random {@link java.time.LocalDateTime} into a String
      */
     public static Randomizer<String> ofLocalDateTime() {
-        return new StringDelegatingRandomizer(new LocalDateTimeRandomizer());
+        return new StringRandomizers.LocalDateTimeRandomizer(null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from a {@link java.time.LocalDateTime} value.
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random {@link java.time.LocalDateTime} into a String
+     */
+    public static Randomizer<String> ofLocalDateTime(final long seed) {
+        return new StringRandomizers.LocalDateTimeRandomizer(seed);
     }
 
     /**
@@ -79,7 +221,17 @@ public final class StringRandomizerFactory {
      * @return a new randomizer that transforms a random enum constant into a String
      */
     public static <E extends Enum<E>> Randomizer<String> ofEnum(final Class<E> enumeration) {
-        return new StringDelegatingRandomizer(new EnumRandomizer<>(enumeration));
+        return new StringRandomizers.EnumNameRandomizer(enumeration, null);
+    }
+
+    /**
+     * Create a randomizer that outputs a String from the name of an enum constant.
+     * @param enumeration the enumeration from which this randomizer will generate random values
+     * @param seed initial seed
+     * @return a new randomizer that transforms a random enum constant into a String
+     */
+    public static <E extends Enum<E>> Randomizer<String> ofEnum(final Class<E> enumeration, final long seed) {
+        return new StringRandomizers.EnumNameRandomizer(enumeration, seed);
     }
 
 }
@@ -0,0 +1,526 @@
+package com.github.mperezi.test.randomizer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jeasy.random.api.Randomizer;
+
+/**
+ * The randomizers created by {@link StringRandomizerFactory}.
+ *
+ * <p>
+ * Rather than generating a value of some other type and calling {@code toString()} on it, they draw
+ * primitive values from a random number generator and write their digits straight into a buffer of the
+ * current thread, so that the only object allocated per value is the resulting string. They draw them
+ * from a seeded {@link java.util.Random} or from {@link ThreadLocalRandom} just like the randomizers of
+ * {@link com.github.mperezi.test.randomizer.custom}.
+ * </p>
+ *
+ * <p>
+ * Values fall within the same ranges, and are written in the same format, as those of the easy-random
+ * randomizers they replace, e.g. dates within ten years of today written in ISO-8601.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class StringRandomizers {
+
+    private static final int BUFFER_SIZE = 64;
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private static final int YEARS_AROUND_TODAY = 10;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private StringRandomizers() {
+
+    }
+
+    private static String toString(final byte[] buffer, final int length) {
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Write the decimal digits of a number.
+     * @return the position in the buffer right after the last digit
+     */
+    private static int writeLong(final byte[] buffer, final int position, final long value) {
+        if (value < 0) {
+            buffer[position] = '-';
+            return writeUnsigned(buffer, position + 1, value);
+        }
+        return writeUnsigned(buffer, position, -value);
+    }
+
+    /**
+     * Write the decimal digits of the absolute value of a number, given as a negative number so that
+     * {@link Long#MIN_VALUE} is handled as well.
+     */
+    private static int writeUnsigned(final byte[] buffer, final int position, final long negativeValue) {
+        int length = 1;
+        for (long value = negativeValue / 10; value != 0; value /= 10) {
+            length++;
+        }
+        long value = negativeValue;
+        for (int i = position + length - 1; i >= position; i--, value /= 10) {
+            buffer[i] = (byte) ('0' - value % 10);
+        }
+        return position + length;
+    }
+
+    /**
+     * Write the decimal digits of a non-negative number, padded with leading zeros to the given width.
+     */
+    private static int writePadded(final byte[] buffer, final int position, final long value, final int width) {
+        long remaining = value;
+        for (int i = position + width - 1; i >= position; i--, remaining /= 10) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+        }
+        return position + width;
+    }
+
+    private static int writeDate(final byte[] buffer, final int position, final int year, final int month,
+            final int day) {
+        int end = writePadded(buffer, position, year, 4);
+        buffer[end++] = '-';
+        end = writePadded(buffer, end, month, 2);
+        buffer[end++] = '-';
+        return writePadded(buffer, end, day, 2);
+    }
+
+    private static int writeTime(final byte[] buffer, final int position, final int hour, final int minute,
+            final int second) {
+        int end = writePadded(buffer, position, hour, 2);
+        buffer[end++] = ':';
+        end = writePadded(buffer, end, minute, 2);
+        buffer[end++] = ':';
+        return writePadded(buffer, end, second, 2);
+    }
+
+    /**
+     * A random number in the range {@code [min, max)}, following the same algorithm as
+     * {@link ThreadLocalRandom#nextLong(long, long)}, which {@link java.util.Random} lacks before Java 17.
+     */
+    private static long nextLong(final java.util.Random random, final long min, final long max) {
+        if (min == max) {
+            return min;
+        } else if (random instanceof ThreadLocalRandom) {
+            return ((ThreadLocalRandom) random).nextLong(min, max);
+        }
+        final long bound = max - min;
+        if (bound > 0) {
+            long bits = random.nextLong() >>> 1;
+            long value = bits % bound;
+            while (bits + bound - 1 - value < 0) {
+                bits = random.nextLong() >>> 1;
+                value = bits % bound;
+            }
+            return min + value;
+        }
+        // the range is wider than Long.MAX_VALUE, hence more than half of the values fall within it
+        long value = random.nextLong();
+        while (value < min || value >= max) {
+            value = random.nextLong();
+        }
+        return value;
+    }
+
+    private static int nextInt(final java.util.Random random, final int min, final int max) {
+        return (int) nextLong(random, min, max);
+    }
+
+    /**
+     * A randomizer drawing its values from a {@link java.util.Random} of its own when given a seed, or
+     * else from {@link ThreadLocalRandom}.
+     */
+    abstract static class SeedableRandomizer implements Randomizer<String> {
+
+        private final java.util.Random seeded;
+
+        SeedableRandomizer(final Long seed) {
+            this.seeded = seed == null ? null : new java.util.Random(seed);
+        }
+
+        final java.util.Random random() {
+            return this.seeded != null ? this.seeded : ThreadLocalRandom.current();
+        }
+
+    }
+
+    /**
+     * Random numbers in the range {@code [min, max)}.
+     */
+    static final class LongRangeRandomizer extends SeedableRandomizer {
+
+        private final long min;
+
+        private final long max;
+
+        LongRangeRandomizer(final long min, final long max, final Long seed) {
+            super(seed);
+            if (min > max) {
+                throw new IllegalArgumentException("max must be greater than min");
+            }
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public String getRandomValue() {
+            final byte[] buffer = BUFFERS.get();
+            final long value = nextLong(this.random(), this.min, this.max);
+            return StringRandomizers.toString(buffer, writeLong(buffer, 0, value));
+        }
+
+    }
+
+    /**
+     * Random numbers in the range {@code [min, max)}, written the same way as {@link Double#toString(double)}.
+     */
+    static final class DoubleRangeRandomizer extends SeedableRandomizer {
+
+        private final double min;
+
+        private final double max;
+
+        DoubleRangeRandomizer(final double min, final double max, final Long seed) {
+            super(seed);
+            if (min > max) {
+                throw new IllegalArgumentException("max must be greater than min");
+            }
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public String getRandomValue() {
+            // the shortest representation of a double is not worth writing by hand, it is not boxed though
+            return Double.toString(this.min + this.random().nextDouble() * (this.max - this.min));
+        }
+
+    }
+
+    /**
+     * Random decimal numbers in the range {@code [min, max)} with a fixed number of digits after the
+     * decimal point, written the same way as {@link java.math.BigDecimal#toPlainString()}.
+     */
+    static final class DecimalRandomizer extends SeedableRandomizer {
+
+        private final long minUnscaled;
+
+        private final long maxUnscaled;
+
+        private final int scale;
+
+        DecimalRandomizer(final long min, final long max, final int scale, final Long seed) {
+            super(seed);
+            if (min > max) {
+                throw new IllegalArgumentException("max must be greater than min");
+            }
+            if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+                throw new IllegalArgumentException("scale must be between 0 and " + (POWERS_OF_TEN.length - 1));
+            }
+            try {
+                this.minUnscaled = Math.multiplyExact(min, POWERS_OF_TEN[scale]);
+                this.maxUnscaled = Math.multiplyExact(max, POWERS_OF_TEN[scale]);
+            } catch (final ArithmeticException e) {
+                throw new IllegalArgumentException("Range too wide for scale " + scale, e);
+            }
+            this.scale = scale;
+        }
+
+        @Override
+        public String getRandomValue() {
+            final long unscaled = nextLong(this.random(), this.minUnscaled, this.maxUnscaled);
+            final byte[] buffer = BUFFERS.get();
+            if (this.scale == 0) {
+                return StringRandomizers.toString(buffer, writeLong(buffer, 0, unscaled));
+            }
+            int position = 0;
+            if (unscaled < 0) {
+                buffer[position++] = '-';
+            }
+            // kept negative, like in writeLong, so that there is no absolute value to overflow
+            final long negative = unscaled < 0 ? unscaled : -unscaled;
+            position = writeUnsigned(buffer, position, negative / POWERS_OF_TEN[this.scale]);
+            buffer[position++] = '.';
+            position = writePadded(buffer, position, -(negative % POWERS_OF_TEN[this.scale]), this.scale);
+            return StringRandomizers.toString(buffer, position);
+        }
+
+    }
+
+    /**
+     * Random instants within ten years of today, with millisecond precision, written the same way as
+     * {@link java.time.Instant#toString()}. The range starts at midnight, so that the same seed gives the
+     * same instants all day long.
+     */
+    static final class InstantRandomizer extends SeedableRandomizer {
+
+        private static final long MILLIS_PER_DAY = 86_400_000L;
+
+        private final long minEpochMilli;
+
+        private final long maxEpochMilli;
+
+        InstantRandomizer(final Long seed) {
+            super(seed);
+            final ZonedDateTime now = ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS);
+            this.minEpochMilli = now.minusYears(YEARS_AROUND_TODAY).toInstant().toEpochMilli();
+            this.maxEpochMilli = now.plusYears(YEARS_AROUND_TODAY).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public String getRandomValue() {
+            final long epochMilli = nextLong(this.random(), this.minEpochMilli, this.maxEpochMilli);
+            final long epochDay = Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+            final int millisOfDay = (int) Math.floorMod(epochMilli, MILLIS_PER_DAY);
+            final byte[] buffer = BUFFERS.get();
+            int position = writeEpochDay(buffer, 0, epochDay);
+            buffer[position++] = 'T';
+            position = writeTime(buffer, position, millisOfDay / 3_600_000, millisOfDay / 60_000 % 60,
+                    millisOfDay / 1000 % 60);
+            if (millisOfDay % 1000 != 0) {
+                buffer[position++] = '.';
+                position = writePadded(buffer, position, millisOfDay % 1000, 3);
+            }
+            buffer[position++] = 'Z';
+            return StringRandomizers.toString(buffer, position);
+        }
+
+        /**
+         * Write the date of a day since the epoch, see http://howardhinnant.github.io/date_algorithms.html.
+         */
+        private static int writeEpochDay(final byte[] buffer, final int position, final long epochDay) {
+            final long days = epochDay + 719_468;
+            final long era = Math.floorDiv(days, 146_097);
+            final long dayOfEra = days - era * 146_097;
+            final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+            final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+            final int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+            final int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+            final int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+            return writeDate(buffer, position, year, month, day);
+        }
+
+    }
+
+    /**
+     * Random dates within ten years of today, written following a pattern made of the fields
+     * {@code yyyy}, {@code uuuu}, {@code yy}, {@code MM}, {@code M}, {@code dd} and {@code d}, any
+     * other character but letters, and text between single quotes. The day of the month is never
+     * after the 28th, so any month and year can be picked.
+     */
+    static final class LocalDateRandomizer extends SeedableRandomizer {
+
+        private static final String ISO_PATTERN = "yyyy-MM-dd";
+
+        private static final int MAX_DAY = 28;
+
+        private static final int YEAR = -1;
+
+        private static final int YEAR_OF_CENTURY = -2;
+
+        private static final int PADDED_MONTH = -3;
+
+        private static final int MONTH = -4;
+
+        private static final int PADDED_DAY = -5;
+
+        private static final int DAY = -6;
+
+        private final int minYear;
+
+        private final int maxYear;
+
+        /**
+         * The fields of the pattern, as negative codes, and its literal characters.
+         */
+        private final int[] pattern;
+
+        LocalDateRandomizer(final Long seed) {
+            this(ISO_PATTERN, seed);
+        }
+
+        LocalDateRandomizer(final String pattern, final Long seed) {
+            super(seed);
+            final int year = ZonedDateTime.now().getYear();
+            this.minYear = year - YEARS_AROUND_TODAY;
+            this.maxYear = year + YEARS_AROUND_TODAY;
+            this.pattern = compile(pattern);
+        }
+
+        private static int[] compile(final String pattern) {
+            final List<Integer> compiled = new ArrayList<>();
+            int length = 0;
+            for (int i = 0; i < pattern.length();) {
+                final char c = pattern.charAt(i);
+                int end = i + 1;
+                if (Character.isLetter(c)) {
+                    while (end < pattern.length() && pattern.charAt(end) == c) {
+                        end++;
+                    }
+                    compiled.add(toFieldCode(pattern, pattern.substring(i, end)));
+                    length += Math.max(end - i, 2);
+                } else if (c == '\'' && end < pattern.length() && pattern.charAt(end) == '\'') {
+                    compiled.add((int) c);
+                    length++;
+                    end++;
+                } else if (c == '\'') {
+                    end = pattern.indexOf('\'', end);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unterminated quote in pattern '" + pattern + "'");
+                    }
+                    for (int j = i + 1; j < end; j++) {
+                        compiled.add(toLiteral(pattern, pattern.charAt(j)));
+                        length++;
+                    }
+                    end++;
+                } else {
+                    compiled.add(toLiteral(pattern, c));
+                    length++;
+                }
+                i = end;
+            }
+            if (length > BUFFER_SIZE) {
+                throw new IllegalArgumentException("Pattern '" + pattern + "' is too long");
+            }
+            return compiled.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static int toFieldCode(final String pattern, final String field) {
+            switch (field) {
+                case "yyyy":
+                case "uuuu":
+                    return YEAR;
+                case "yy":
+                case "uu":
+                    return YEAR_OF_CENTURY;
+                case "MM":
+                    return PADDED_MONTH;
+                case "M":
+                    return MONTH;
+                case "dd":
+                    return PADDED_DAY;
+                case "d":
+                    return DAY;
+                default:
+                    throw new IllegalArgumentException("Unsupported field '" + field + "' in pattern '" + pattern
+                            + "'");
+            }
+        }
+
+        private static int toLiteral(final String pattern, final char c) {
+            if (c > 0xff) {
+                throw new IllegalArgumentException("Unsupported character '" + c + "' in pattern '" + pattern + "'");
+            }
+            return c;
+        }
+
+        @Override
+        public String getRandomValue() {
+            final java.util.Random random = this.random();
+            final int year = nextInt(random, this.minYear, this.maxYear);
+            final int month = nextInt(random, 1, 13);
+            final int day = nextInt(random, 1, MAX_DAY + 1);
+            final byte[] buffer = BUFFERS.get();
+            int position = 0;
+            for (final int code : this.pattern) {
+                switch (code) {
+                    case YEAR:
+                        position = writePadded(buffer, position, year, 4);
+                        break;
+                    case YEAR_OF_CENTURY:
+                        position = writePadded(buffer, position, year % 100, 2);
+                        break;
+                    case PADDED_MONTH:
+                        position = writePadded(buffer, position, month, 2);
+                        break;
+                    case MONTH:
+                        position = writePadded(buffer, position, month, month < 10 ? 1 : 2);
+                        break;
+                    case PADDED_DAY:
+                        position = writePadded(buffer, position, day, 2);
+                        break;
+                    case DAY:
+                        position = writePadded(buffer, position, day, day < 10 ? 1 : 2);
+                        break;
+                    default:
+                        buffer[position++] = (byte) code;
+                }
+            }
+            return StringRandomizers.toString(buffer, position);
+        }
+
+    }
+
+    /**
+     * Random date-times within ten years of today, written the same way as
+     * {@link java.time.LocalDateTime#toString()}, i.e. without seconds when they are zero.
+     */
+    static final class LocalDateTimeRandomizer extends SeedableRandomizer {
+
+        private final LocalDateRandomizer dates = new LocalDateRandomizer(null);
+
+        LocalDateTimeRandomizer(final Long seed) {
+            super(seed);
+        }
+
+        @Override
+        public String getRandomValue() {
+            final java.util.Random random = this.random();
+            final int year = nextInt(random, this.dates.minYear, this.dates.maxYear);
+            final int month = nextInt(random, 1, 13);
+            final int day = nextInt(random, 1, LocalDateRandomizer.MAX_DAY + 1);
+            final int hour = random.nextInt(24);
+            final int minute = random.nextInt(60);
+            final int second = random.nextInt(60);
+            final byte[] buffer = BUFFERS.get();
+            int position = writeDate(buffer, 0, year, month, day);
+            buffer[position++] = 'T';
+            position = writeTime(buffer, position, hour, minute, second);
+            return StringRandomizers.toString(buffer, second == 0 ? position - 3 : position);
+        }
+
+    }
+
+    /**
+     * Random names of the constants of an enumeration.
+     */
+    static final class EnumNameRandomizer extends SeedableRandomizer {
+
+        private final String[] names;
+
+        EnumNameRandomizer(final Class<? extends Enum<?>> enumeration, final Long seed) {
+            super(seed);
+            final Enum<?>[] constants = enumeration.getEnumConstants();
+            if (constants.length == 0) {
+                throw new IllegalArgumentException("No constants in " + enumeration);
+            }
+            this.names = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                this.names[i] = constants[i].name();
+            }
+        }
+
+        @Override
+        public String getRandomValue() {
+            return this.names[this.random().nextInt(this.names.length)];
+        }
+
+    }
+
+}
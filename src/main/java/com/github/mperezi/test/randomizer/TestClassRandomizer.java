@@ -0,0 +1,569 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+import static org.junit.platform.commons.support.HierarchyTraversalMode.TOP_DOWN;
+import static org.junit.platform.commons.support.ReflectionSupport.findFields;
+import static org.junit.platform.commons.support.ReflectionSupport.findMethods;
+
+/**
+ * Generation state shared by every instance of a test class.
+ *
+ * <p>
+ * Setting up an {@link EasyRandom} is expensive, so it's done just once per thread and
+ * {@link RandomizerSettings}, and shared by every test class with the same settings unless it is a
+ * {@link CustomRandomFieldProvider}. Every thread gets its own {@link EasyRandom}, so that tests running
+ * concurrently never contend for the same generator, and it is reseeded before generating every field
+ * or parameter so that values only depend on the seed they are generated from. Randomizers provided by
+ * a {@link CustomRandomFieldProvider} may depend on instance state, hence they are still registered per
+ * test instance and bound to the {@link EasyRandom} only while generating values for that instance.
+ * </p>
+ *
+ * <p>
+ * Collections are generated in chunks of fixed size, each one out of its own seed derived from the
+ * seed of the collection. Large collections have their chunks generated in parallel in the common
+ * {@link ForkJoinPool}, yet the values generated do not depend on whether they were generated in
+ * parallel or not. Elements generated on demand follow the same chunks, hence a lazy sequence holds
+ * the same values as the collection of the same seed. Test classes with custom randomizers always
+ * generate their collections sequentially, as their randomizers may hold state that is not safe to
+ * use from several threads.
+ * </p>
+ *
+ * <p>
+ * When the settings have a budget, the cost of generating each type is measured the first time it is
+ * generated, and its objects are generated with smaller settings from then on if they do not fit.
+ * </p>
+ *
+ * <p>
+ * Sets get as many distinct objects as requested. Duplicates are replaced by further objects, unless
+ * the type only takes a few values, in which case the values are sampled without replacement instead.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+final class TestClassRandomizer implements CloseableResource {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final int MIN_RETRIES = 16;
+
+    private static final int MAX_RETRIES_PER_OBJECT = 10;
+
+    private static final int BUDGET_SAMPLES = 3;
+
+    private static final Logger logger = LoggerFactory.getLogger(TestClassRandomizer.class);
+
+    private static final ClassValue<List<RandomField>> RANDOM_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<RandomField> computeValue(final Class<?> testClass) {
+            return findRandomFields(testClass);
+        }
+    };
+
+    private static final ClassValue<Map<Parameter, GenerationPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Parameter, GenerationPlan> computeValue(final Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<RandomField> randomFields;
+
+    private final RandomizerRegistry noCustomRandomizers;
+
+    private final boolean customRandomizers;
+
+    private final GeneratorPool generators;
+
+    private final long seed;
+
+    private final int parallelThreshold;
+
+    private final Corpus corpus;
+
+    private final Map<RandomizerSettings, TestClassRandomizer> derivedBySettings;
+
+    private final Map<Class<?>, RandomizerSettings> trimmedTypes;
+
+    TestClassRandomizer(final Class<?> testClass, final long seed, final int parallelThreshold) {
+        this(testClass, seed, parallelThreshold, null, RandomizerSettings.defaults());
+    }
+
+    TestClassRandomizer(final Class<?> testClass, final long seed, final int parallelThreshold,
+            final Corpus corpus, final RandomizerSettings settings) {
+        this.randomFields = RANDOM_FIELDS.get(testClass);
+        this.noCustomRandomizers = new IndexedRandomizerRegistry();
+        this.customRandomizers = CustomRandomFieldProvider.class.isAssignableFrom(testClass);
+        this.generators = createGenerators(this.customRandomizers, settings);
+        this.seed = seed;
+        this.parallelThreshold = parallelThreshold;
+        this.corpus = corpus;
+        this.derivedBySettings = new ConcurrentHashMap<>();
+        this.trimmedTypes = new ConcurrentHashMap<>();
+    }
+
+    private TestClassRandomizer(final TestClassRandomizer base, final RandomizerSettings settings) {
+        this.randomFields = base.randomFields;
+        this.noCustomRandomizers = base.noCustomRandomizers;
+        this.customRandomizers = base.customRandomizers;
+        this.generators = createGenerators(base.customRandomizers, settings);
+        this.seed = base.seed;
+        this.parallelThreshold = base.parallelThreshold;
+        this.corpus = base.corpus;
+        this.derivedBySettings = base.derivedBySettings;
+        this.trimmedTypes = base.trimmedTypes;
+    }
+
+    private static List<RandomField> findRandomFields(final Class<?> testClass) {
+        final List<RandomField> fields = new ArrayList<>();
+        for (final Field field : findFields(testClass, RandomField::isRandom, TOP_DOWN)) {
+            fields.add(RandomField.of(field));
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Do ahead of the first test of the given class the work that does not depend on its tests: find
+     * its random fields, work out the plans for them and for the parameters of its methods, and, unless
+     * it provides its own randomizers, load and generate the types of their objects once.
+     * @param testClass the test class
+     * @param settings the settings of the test class
+     */
+    static void prepare(final Class<?> testClass, final RandomizerSettings settings) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        RANDOM_FIELDS.get(testClass).forEach(field -> types.addAll(field.getPlan().getObjectTypes()));
+        for (final Method method : findMethods(testClass, method -> method.getParameterCount() > 0, TOP_DOWN)) {
+            for (final Parameter parameter : method.getParameters()) {
+                if (parameter.isAnnotationPresent(Random.class)) {
+                    types.addAll(getPlan(parameter).getObjectTypes());
+                }
+            }
+        }
+        if (!CustomRandomFieldProvider.class.isAssignableFrom(testClass)) {
+            GeneratorPool.shared(settings).prepare(types);
+        }
+    }
+
+    private static GeneratorPool createGenerators(final boolean customRandomizers,
+            final RandomizerSettings settings) {
+        return customRandomizers ? new GeneratorPool(settings) : GeneratorPool.shared(settings);
+    }
+
+    /**
+     * The same generation state, but generating values with the given settings instead, e.g. those of
+     * a test method configured on its own.
+     * @param settings the settings to generate values with
+     * @return this same instance if the settings are the same, or else one sharing everything else with
+     *         it, created the first time it is asked for
+     */
+    TestClassRandomizer withSettings(final RandomizerSettings settings) {
+        if (settings.equals(this.getSettings())) {
+            return this;
+        }
+        return this.derivedBySettings.computeIfAbsent(settings, s -> new TestClassRandomizer(this, s));
+    }
+
+    /**
+     * The settings values are generated with.
+     */
+    RandomizerSettings getSettings() {
+        return this.generators.getSettings();
+    }
+
+    /**
+     * The types whose objects had to be generated with smaller settings than configured to fit in the
+     * budget, along with the settings they were generated with.
+     */
+    Map<Class<?>, RandomizerSettings> getTrimmedTypes() {
+        return Collections.unmodifiableMap(this.trimmedTypes);
+    }
+
+    private GeneratorPool getGenerators(final RandomizerRegistry registry, final Class<?> type) {
+        if (!this.generators.getSettings().hasBudget()) {
+            return this.generators;
+        }
+        final GeneratorPool pool = this.generators.forType(type, candidate -> fitsBudget(candidate, registry, type));
+        if (pool != this.generators) {
+            this.trimmedTypes.putIfAbsent(type, pool.getSettings());
+        }
+        return pool;
+    }
+
+    private static boolean fitsBudget(final GeneratorPool pool, final RandomizerRegistry registry,
+            final Class<?> type) {
+        final ReseedableEasyRandom easyRandom = pool.create();
+        long objects = 0;
+        long nanos = Long.MAX_VALUE;
+        for (int sample = 0; sample < BUDGET_SAMPLES; sample++) {
+            easyRandom.reseed(Seeds.derive(sample, type.getName()));
+            final long createdObjects = easyRandom.getCreatedObjects();
+            final long start = System.nanoTime();
+            pool.bind(registry, () -> easyRandom.nextObject(type));
+            nanos = Math.min(nanos, System.nanoTime() - start);
+            objects = Math.max(objects, easyRandom.getCreatedObjects() - createdObjects);
+        }
+        final RandomizerSettings settings = pool.getSettings();
+        if (settings.fitsBudget(objects, nanos)) {
+            return true;
+        }
+        final long sampledObjects = objects;
+        final long sampledMillis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        logger.info(() -> "Random " + type.getName() + " takes " + sampledObjects + " objects and "
+                + sampledMillis + " ms with " + settings + ", trimming it to fit in the budget");
+        return false;
+    }
+
+    /**
+     * The seed of the test class, all the values are generated from seeds derived from this one.
+     */
+    long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * The number of generators set up for the test class alone, released once it is done.
+     */
+    int countOwnGenerators() {
+        return this.customRandomizers ? this.generators.countGenerators() : 0;
+    }
+
+    /**
+     * The corpus the values generated for the test class are kept in, if any.
+     */
+    Optional<Corpus> getCorpus() {
+        return Optional.ofNullable(this.corpus);
+    }
+
+    /**
+     * The plan to inject random values into the fields of the test class annotated with {@link Random},
+     * including those inherited from its superclasses.
+     */
+    List<RandomField> getRandomFields() {
+        return this.randomFields;
+    }
+
+    /**
+     * The plan to generate random values for the given parameter of a test method of the class, worked
+     * out the first time it is asked for and kept along with the class declaring the method.
+     * @param parameter a parameter annotated with {@link Random}
+     * @return the plan for the parameter
+     */
+    static GenerationPlan getPlan(final Parameter parameter) {
+        return PLANS.get(parameter.getDeclaringExecutable().getDeclaringClass()).computeIfAbsent(parameter,
+                p -> GenerationPlan.of(p.getParameterizedType(), p.getAnnotation(Random.class)));
+    }
+
+    /**
+     * Build the registry of custom randomizers for the given test instance.
+     * @param testInstance the test instance, which may or may not provide its own randomizers
+     * @return an empty registry unless the instance is a {@link CustomRandomFieldProvider}
+     */
+    RandomizerRegistry createRegistry(final Object testInstance) {
+        if (!(testInstance instanceof CustomRandomFieldProvider)) {
+            return this.noCustomRandomizers;
+        }
+        final CustomRandomizerRegistry registry = new IndexedRandomizerRegistry();
+        ((CustomRandomFieldProvider) testInstance).registerCustomRandomizers(registry);
+        return registry;
+    }
+
+    /**
+     * Generate random data using the custom randomizers of the given registry.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the data from
+     * @param generator the function that generates the data out of the {@link EasyRandom} of the
+     *        current thread
+     * @return the generated data
+     * @see #createRegistry(Object)
+     * @see Seeds
+     */
+    <T> T generate(final RandomizerRegistry registry, final long seed, final Function<EasyRandom, T> generator) {
+        return generate(this.generators, registry, seed, generator);
+    }
+
+    private static <T> T generate(final GeneratorPool generators, final RandomizerRegistry registry,
+            final long seed, final Function<EasyRandom, T> generator) {
+        final ReseedableEasyRandom easyRandom = generators.getForCurrentThread();
+        easyRandom.reseed(seed);
+        return generators.bind(registry, () -> generator.apply(easyRandom));
+    }
+
+    /**
+     * Generate a random object using the custom randomizers of the given registry, within the budget of
+     * the settings if any.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the object from
+     * @param type the type of the object
+     * @return the generated object
+     */
+    Object generateObject(final RandomizerRegistry registry, final long seed, final Class<?> type) {
+        return generate(this.getGenerators(registry, type), registry, seed, easyRandom -> easyRandom.nextObject(type));
+    }
+
+    /**
+     * Generate the given number of random objects using the custom randomizers of the given registry.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the objects from
+     * @param type the type of the objects
+     * @param size the number of objects
+     * @return the generated objects
+     */
+    Object[] generateObjects(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final int size) {
+        return this.generateObjects(registry, seed, type, new Object[size]);
+    }
+
+    /**
+     * Fill the given array with random objects using the custom randomizers of the given registry.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the objects from
+     * @param type the type of the objects, which must be assignable to the component type of the array
+     * @param objects the array to fill
+     * @return the same array, filled
+     */
+    Object[] generateObjects(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final Object[] objects) {
+        final int size = objects.length;
+        final int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (this.customRandomizers || size < this.parallelThreshold) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                this.generateChunk(registry, seed, type, objects, chunk);
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunksGeneration(registry, seed, type, objects, 0, chunks));
+        }
+        return objects;
+    }
+
+    /**
+     * Generate the given number of distinct random objects using the custom randomizers of the given
+     * registry. Objects are generated until there are enough distinct ones, or sampled without
+     * replacement when their type has a {@link FiniteDomain} and they are more than half of it.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the objects from
+     * @param type the type of the objects
+     * @param size the number of distinct objects
+     * @return a new set with the generated objects
+     * @throws ExtensionConfigurationException if there are not that many distinct objects of the type
+     */
+    Set<Object> generateDistinctObjects(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final int size) {
+        return this.generateDistinctObjects(registry, seed, type, size,
+                new HashSet<>(HashCapacity.of(size)));
+    }
+
+    /**
+     * Add the given number of distinct random objects to the given set, which must be empty.
+     * @see #generateDistinctObjects(RandomizerRegistry, long, Class, int)
+     */
+    Set<Object> generateDistinctObjects(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final int size, final Set<Object> objects) {
+        final FiniteDomain domain = registry.getRandomizer(type) == null ? FiniteDomain.of(type) : null;
+        if (domain != null && size > domain.size()) {
+            throw new ExtensionConfigurationException(String.format("%d distinct values of %s cannot be generated,"
+                    + " there are only %d", size, type.getSimpleName(), domain.size()));
+        } else if (domain != null && size > domain.size() / 2) {
+            return domain.sample(size, seed, objects);
+        }
+        Collections.addAll(objects, this.generateObjects(registry, seed, type, size));
+        final long maxRetries = (long) Math.max(size, MIN_RETRIES) * MAX_RETRIES_PER_OBJECT;
+        long retries = 0;
+        for (int round = 1; objects.size() < size; round++) {
+            if (retries >= maxRetries) {
+                throw new ExtensionConfigurationException(String.format("Only %d distinct values of %s could be"
+                        + " generated out of the %d required", objects.size(), type.getSimpleName(), size));
+            }
+            final int missing = size - objects.size();
+            final Object[] retried = this.generateObjects(registry, Seeds.derive(seed, "distinct#" + round), type,
+                    Math.max(missing, MIN_RETRIES));
+            for (int i = 0; i < retried.length && objects.size() < size; i++) {
+                objects.add(retried[i]);
+            }
+            retries += retried.length;
+        }
+        return objects;
+    }
+
+    /**
+     * Generate random objects on demand using the custom randomizers of the given registry.
+     * @param registry the registry created for the current test instance
+     * @param seed the seed to generate the objects from
+     * @param type the type of the objects
+     * @param size the number of objects, or {@link Random#UNBOUNDED}
+     * @return a new spliterator over the objects, which are not generated until traversed
+     */
+    Spliterator<Object> spliterateObjects(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final long size) {
+        return new ObjectsSpliterator(registry, seed, type, 0, size == Random.UNBOUNDED ? Long.MAX_VALUE : size);
+    }
+
+    private void generateChunk(final RandomizerRegistry registry, final long seed, final Class<?> type,
+            final Object[] objects, final int chunk) {
+        final int from = chunk * CHUNK_SIZE;
+        final int to = Math.min(from + CHUNK_SIZE, objects.length);
+        generate(this.getGenerators(registry, type), registry, Seeds.derive(seed, chunk), easyRandom -> {
+            for (int i = from; i < to; i++) {
+                objects[i] = easyRandom.nextObject(type);
+            }
+            return objects;
+        });
+    }
+
+    /**
+     * Release the generators of every thread once the test class is done, unless they are shared with
+     * other test classes.
+     */
+    @Override
+    public void close() {
+        if (this.customRandomizers) {
+            this.generators.clear();
+            this.derivedBySettings.values().forEach(derived -> derived.generators.clear());
+        }
+        this.derivedBySettings.clear();
+    }
+
+    /**
+     * Generate a range of chunks, splitting it in halves until there is a single chunk left.
+     */
+    private final class ChunksGeneration extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RandomizerRegistry registry;
+
+        private final long seed;
+
+        private final Class<?> type;
+
+        private final Object[] objects;
+
+        private final int fromChunk;
+
+        private final int toChunk;
+
+        private ChunksGeneration(final RandomizerRegistry registry, final long seed, final Class<?> type,
+                final Object[] objects, final int fromChunk, final int toChunk) {
+            this.registry = registry;
+            this.seed = seed;
+            this.type = type;
+            this.objects = objects;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.toChunk - this.fromChunk <= 1) {
+                if (this.fromChunk < this.toChunk) {
+                    TestClassRandomizer.this.generateChunk(this.registry, this.seed, this.type, this.objects,
+                            this.fromChunk);
+                }
+                return;
+            }
+            final int middleChunk = (this.fromChunk + this.toChunk) >>> 1;
+            invokeAll(new ChunksGeneration(this.registry, this.seed, this.type, this.objects, this.fromChunk,
+                    middleChunk),
+                    new ChunksGeneration(this.registry, this.seed, this.type, this.objects, middleChunk,
+                            this.toChunk));
+        }
+
+    }
+
+    /**
+     * Generate objects one at a time out of its own {@link EasyRandom}, since the thread traversing the
+     * objects may generate other values in between. Splits are aligned to chunks, so that each one can
+     * start from the seed of its first chunk, and never made when there are custom randomizers.
+     */
+    private final class ObjectsSpliterator implements Spliterator<Object> {
+
+        private final RandomizerRegistry registry;
+
+        private final long seed;
+
+        private final Class<?> type;
+
+        private final long end;
+
+        private long index;
+
+        private GeneratorPool generators;
+
+        private ReseedableEasyRandom easyRandom;
+
+        private ObjectsSpliterator(final RandomizerRegistry registry, final long seed, final Class<?> type,
+                final long index, final long end) {
+            this.registry = registry;
+            this.seed = seed;
+            this.type = type;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Object> action) {
+            if (this.index >= this.end) {
+                return false;
+            }
+            if (this.easyRandom == null) {
+                this.generators = TestClassRandomizer.this.getGenerators(this.registry, this.type);
+                this.easyRandom = this.generators.create();
+            }
+            if (this.index % CHUNK_SIZE == 0) {
+                this.easyRandom.reseed(Seeds.derive(this.seed, this.index / CHUNK_SIZE));
+            }
+            this.index++;
+            action.accept(this.generators.bind(this.registry,
+                    () -> this.easyRandom.nextObject(this.type)));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            final long chunks = (this.end - this.index) / CHUNK_SIZE;
+            if (TestClassRandomizer.this.customRandomizers || this.end == Long.MAX_VALUE
+                    || this.index % CHUNK_SIZE != 0 || chunks < 2) {
+                return null;
+            }
+            final long from = this.index;
+            this.index += chunks / 2 * CHUNK_SIZE;
+            return new ObjectsSpliterator(this.registry, this.seed, this.type, from, this.index);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return this.end == Long.MAX_VALUE ? ORDERED | IMMUTABLE : ORDERED | IMMUTABLE | SIZED | SUBSIZED;
+        }
+
+    }
+
+}
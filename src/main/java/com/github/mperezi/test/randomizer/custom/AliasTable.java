@@ -0,0 +1,124 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Table to pick indexes, either uniformly or with given weights, in constant time whatever the number
+ * of indexes, following Vose's alias method. The choice randomizers of this package are typed
+ * front-ends that pick their values by the indexes of this table.
+ *
+ * <p>
+ * Every index gets a column of the table, holding the probability of picking the index itself and the
+ * index picked otherwise (its alias). Picking an index takes just a random column and a random number
+ * to choose between the index of the column and its alias. Indexes picked uniformly need no table at
+ * all, just the random column.
+ * </p>
+ *
+ * <p>
+ * Indexes are picked with the {@link Random} the table is given, if any, or else with
+ * {@link ThreadLocalRandom}, see {@link com.github.mperezi.test.randomizer.custom}.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins</a>
+ */
+final class AliasTable {
+
+    private final int size;
+
+    private final double[] probabilities;
+
+    private final int[] aliases;
+
+    private final Random seeded;
+
+    private AliasTable(final int size, final double[] probabilities, final int[] aliases, final Random seeded) {
+        this.size = size;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+        this.seeded = seeded;
+    }
+
+    /**
+     * Build the table to pick every index with the same probability.
+     * @param size the number of indexes
+     * @param seeded the source of randomness of a seeded randomizer, {@code null} to use
+     *               {@link ThreadLocalRandom}
+     */
+    static AliasTable uniform(final int size, final Random seeded) {
+        return new AliasTable(size, null, null, seeded);
+    }
+
+    /**
+     * Build the table for the given weights.
+     * @param weights the weights of the indexes, which must be non-negative and not all zero
+     * @param size the number of indexes
+     * @param seeded the source of randomness of a seeded randomizer, {@code null} to use
+     *               {@link ThreadLocalRandom}
+     */
+    static AliasTable weighted(final double[] weights, final int size, final Random seeded) {
+        if (weights == null || weights.length != size) {
+            throw new IllegalArgumentException("there must be as many weights as values");
+        }
+        double total = 0;
+        for (final double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be non-negative numbers");
+            }
+            total += weight;
+        }
+        if (!(total > 0) || Double.isInfinite(total)) {
+            throw new IllegalArgumentException("weights must add up to a positive number");
+        }
+        final double[] probabilities = new double[size];
+        final int[] aliases = new int[size];
+        final double[] scaled = new double[size];
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // whatever is left is (up to rounding errors) exactly 1
+        while (largeCount > 0) {
+            probabilities[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probabilities[small[--smallCount]] = 1;
+        }
+        return new AliasTable(size, probabilities, aliases, seeded);
+    }
+
+    /**
+     * Pick an index.
+     * @return an index between 0 (inclusive) and the number of indexes (exclusive)
+     */
+    int next() {
+        final Random random = this.seeded != null ? this.seeded : ThreadLocalRandom.current();
+        final int column = random.nextInt(this.size);
+        if (this.probabilities == null) {
+            return column;
+        }
+        return random.nextDouble() < this.probabilities[column] ? column : this.aliases[column];
+    }
+
+}
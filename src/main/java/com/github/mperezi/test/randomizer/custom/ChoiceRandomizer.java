@@ -8,12 +8,18 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  * For a randomizer that always generates the same constant value see
  * {@link org.jeasy.random.randomizers.misc.ConstantRandomizer}
  *
+ * <p>
+ * See {@link com.github.mperezi.test.randomizer.custom} on seeds and concurrency.
+ * </p>
+ *
  * @author Miguel Ibars (mperezibars@gmail.com)
  */
 public class ChoiceRandomizer<T> extends AbstractRandomizer<T> {
 
     private final T[] values;
 
+    private final AliasTable table;
+
     /**
      * Create a new ChoiceRandomizer with the given values as input.
      * @param values the list of values to choose from (must not be empty)
@@ -22,12 +28,14 @@ public class ChoiceRandomizer<T> extends AbstractRandomizer<T> {
     public ChoiceRandomizer(final T... values) {
         this.assertValidInputArgs(values);
         this.values = values;
+        this.table = AliasTable.uniform(values.length, null);
     }
 
     public ChoiceRandomizer(final T[] values, final long seed) {
         super(seed);
         this.assertValidInputArgs(values);
         this.values = values;
+        this.table = AliasTable.uniform(values.length, this.random);
     }
 
     @SafeVarargs
@@ -37,8 +45,7 @@ public class ChoiceRandomizer<T> extends AbstractRandomizer<T> {
 
     @Override
     public T getRandomValue() {
-        final int randomIndex = this.random.nextInt(this.values.length);
-        return this.values[randomIndex];
+        return this.values[this.table.next()];
     }
 
     private void assertValidInputArgs(final T[] values) {
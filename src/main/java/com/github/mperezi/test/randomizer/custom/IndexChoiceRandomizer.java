@@ -0,0 +1,52 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import org.jeasy.random.randomizers.AbstractRandomizer;
+
+/**
+ * Base of the choice randomizers that keep their values in a primitive array, which picks the index of
+ * the next value out of an {@link AliasTable} and leaves the storage of the values to its subclasses.
+ *
+ * @param <T> the boxed type of the values
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+abstract class IndexChoiceRandomizer<T> extends AbstractRandomizer<T> {
+
+    private final AliasTable table;
+
+    IndexChoiceRandomizer(final int size) {
+        assertValidSize(size);
+        this.table = AliasTable.uniform(size, null);
+    }
+
+    IndexChoiceRandomizer(final int size, final long seed) {
+        super(seed);
+        assertValidSize(size);
+        this.table = AliasTable.uniform(size, this.random);
+    }
+
+    IndexChoiceRandomizer(final int size, final double[] weights) {
+        assertValidSize(size);
+        this.table = AliasTable.weighted(weights, size, null);
+    }
+
+    IndexChoiceRandomizer(final int size, final double[] weights, final long seed) {
+        super(seed);
+        assertValidSize(size);
+        this.table = AliasTable.weighted(weights, size, this.random);
+    }
+
+    private static void assertValidSize(final int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("input values must not be null nor empty");
+        }
+    }
+
+    /**
+     * Pick the index of the next value.
+     * @return an index between 0 (inclusive) and the number of values (exclusive)
+     */
+    final int nextIndex() {
+        return this.table.next();
+    }
+
+}
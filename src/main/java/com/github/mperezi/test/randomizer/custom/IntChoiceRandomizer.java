@@ -0,0 +1,65 @@
+package com.github.mperezi.test.randomizer.custom;
+
+/**
+ * A randomizer that picks one random int from a fixed list each time, either uniformly or according
+ * to the given weights.
+ *
+ * <p>
+ * Use {@link #getRandomInt()} to get the values without boxing them. Weighted values are picked in
+ * constant time just like {@link WeightedChoiceRandomizer}. See
+ * {@link com.github.mperezi.test.randomizer.custom} on seeds and concurrency.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+public class IntChoiceRandomizer extends IndexChoiceRandomizer<Integer> {
+
+    private final int[] values;
+
+    /**
+     * Create a new IntChoiceRandomizer with the given values as input.
+     * @param values the list of values to choose from (must not be empty)
+     */
+    public IntChoiceRandomizer(final int... values) {
+        super(values == null ? 0 : values.length);
+        this.values = values;
+    }
+
+    public IntChoiceRandomizer(final int[] values, final long seed) {
+        super(values == null ? 0 : values.length, seed);
+        this.values = values;
+    }
+
+    /**
+     * Create a new IntChoiceRandomizer with the given values as input.
+     * @param values the list of values to choose from (must not be empty)
+     * @param weights the weight of each value, in the same order (must be non-negative and not all zero)
+     */
+    public IntChoiceRandomizer(final int[] values, final double[] weights) {
+        super(values == null ? 0 : values.length, weights);
+        this.values = values;
+    }
+
+    public IntChoiceRandomizer(final int[] values, final double[] weights, final long seed) {
+        super(values == null ? 0 : values.length, weights, seed);
+        this.values = values;
+    }
+
+    public static IntChoiceRandomizer aNewIntChoiceRandomizer(final int... values) {
+        return new IntChoiceRandomizer(values);
+    }
+
+    /**
+     * Pick a random value without boxing it.
+     * @return one of the values
+     */
+    public int getRandomInt() {
+        return this.values[this.nextIndex()];
+    }
+
+    @Override
+    public Integer getRandomValue() {
+        return this.getRandomInt();
+    }
+
+}
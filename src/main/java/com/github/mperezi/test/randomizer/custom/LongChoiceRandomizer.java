@@ -0,0 +1,65 @@
+package com.github.mperezi.test.randomizer.custom;
+
+/**
+ * A randomizer that picks one random long from a fixed list each time, either uniformly or according
+ * to the given weights.
+ *
+ * <p>
+ * Use {@link #getRandomLong()} to get the values without boxing them. Weighted values are picked in
+ * constant time just like {@link WeightedChoiceRandomizer}. See
+ * {@link com.github.mperezi.test.randomizer.custom} on seeds and concurrency.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+public class LongChoiceRandomizer extends IndexChoiceRandomizer<Long> {
+
+    private final long[] values;
+
+    /**
+     * Create a new LongChoiceRandomizer with the given values as input.
+     * @param values the list of values to choose from (must not be empty)
+     */
+    public LongChoiceRandomizer(final long... values) {
+        super(values == null ? 0 : values.length);
+        this.values = values;
+    }
+
+    public LongChoiceRandomizer(final long[] values, final long seed) {
+        super(values == null ? 0 : values.length, seed);
+        this.values = values;
+    }
+
+    /**
+     * Create a new LongChoiceRandomizer with the given values as input.
+     * @param values the list of values to choose from (must not be empty)
+     * @param weights the weight of each value, in the same order (must be non-negative and not all zero)
+     */
+    public LongChoiceRandomizer(final long[] values, final double[] weights) {
+        super(values == null ? 0 : values.length, weights);
+        this.values = values;
+    }
+
+    public LongChoiceRandomizer(final long[] values, final double[] weights, final long seed) {
+        super(values == null ? 0 : values.length, weights, seed);
+        this.values = values;
+    }
+
+    public static LongChoiceRandomizer aNewLongChoiceRandomizer(final long... values) {
+        return new LongChoiceRandomizer(values);
+    }
+
+    /**
+     * Pick a random value without boxing it.
+     * @return one of the values
+     */
+    public long getRandomLong() {
+        return this.values[this.nextIndex()];
+    }
+
+    @Override
+    public Long getRandomValue() {
+        return this.getRandomLong();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import java.util.Map;
+
+import org.jeasy.random.randomizers.AbstractRandomizer;
+
+/**
+ * A randomizer that picks one random value from a fixed list each time, some values more often than
+ * others according to their weights.
+ *
+ * <p>
+ * Values are picked in constant time however many there are, by means of an alias table built once
+ * when the randomizer is created. See {@link com.github.mperezi.test.randomizer.custom} on seeds and
+ * concurrency.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+public class WeightedChoiceRandomizer<T> extends AbstractRandomizer<T> {
+
+    private final T[] values;
+
+    private final AliasTable table;
+
+    /**
+     * Create a new WeightedChoiceRandomizer with the given values as input.
+     * @param values the list of values to choose from (must not be empty)
+     * @param weights the weight of each value, in the same order (must be non-negative and not all zero)
+     */
+    public WeightedChoiceRandomizer(final T[] values, final double[] weights) {
+        this.assertValidInputArgs(values);
+        this.values = values;
+        this.table = AliasTable.weighted(weights, values.length, null);
+    }
+
+    public WeightedChoiceRandomizer(final T[] values, final double[] weights, final long seed) {
+        super(seed);
+        this.assertValidInputArgs(values);
+        this.values = values;
+        this.table = AliasTable.weighted(weights, values.length, this.random);
+    }
+
+    /**
+     * Create a new WeightedChoiceRandomizer with the given values as input, e.g.
+     * {@code Map.of("ACTIVE", 90, "SUSPENDED", 10)}.
+     * @param weights the weight of each value to choose from (must not be empty)
+     */
+    public WeightedChoiceRandomizer(final Map<T, ? extends Number> weights) {
+        this(valuesOf(weights), weightsOf(weights));
+    }
+
+    public WeightedChoiceRandomizer(final Map<T, ? extends Number> weights, final long seed) {
+        this(valuesOf(weights), weightsOf(weights), seed);
+    }
+
+    public static <T> WeightedChoiceRandomizer<T> aNewWeightedChoiceRandomizer(
+            final Map<T, ? extends Number> weights) {
+        return new WeightedChoiceRandomizer<>(weights);
+    }
+
+    @Override
+    public T getRandomValue() {
+        return this.values[this.table.next()];
+    }
+
+    private void assertValidInputArgs(final T[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("input values must not be null nor empty");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] valuesOf(final Map<T, ? extends Number> weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("input values must not be null nor empty");
+        }
+        return (T[]) weights.keySet().toArray();
+    }
+
+    private static double[] weightsOf(final Map<?, ? extends Number> weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("input values must not be null nor empty");
+        }
+        // same iteration order as the keys, as long as the map is not modified in between
+        return weights.values().stream().mapToDouble(Number::doubleValue).toArray();
+    }
+
+}
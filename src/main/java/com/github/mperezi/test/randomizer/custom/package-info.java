@@ -0,0 +1,12 @@
+/**
+ * Randomizers that pick their values from a fixed list, to be registered by a
+ * {@link com.github.mperezi.test.randomizer.CustomRandomFieldProvider}.
+ *
+ * <p>
+ * Unless a seed is given, values are picked using {@link java.util.concurrent.ThreadLocalRandom} so
+ * that a randomizer can be shared by tests running concurrently without contention. Randomizers given a
+ * seed pick their values from a {@link java.util.Random} of their own instead, so that they pick the
+ * same values every time.
+ * </p>
+ */
+package com.github.mperezi.test.randomizer.custom;
@@ -2,6 +2,7 @@ package com.github.mperezi.test.randomizer.matchers;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -19,12 +20,15 @@ import java.util.stream.Stream;
  */
 public abstract class NamedField implements Predicate<Field> {
 
+    private final List<String> names;
+
     private final Predicate<Field> nameMatcher;
 
     NamedField(final String... names) {
         if (names.length == 0) {
             throw new IllegalArgumentException("Field number must be greater than 0");
         }
+        this.names = List.of(names);
         this.nameMatcher = buildNameMatcher(names);
     }
 
@@ -65,6 +69,23 @@ public abstract class NamedField implements Predicate<Field> {
         return Arrays.asList(this.getTypes()).contains(f.getType()) && this.nameMatcher.test(f);
     }
 
+    /**
+     * Return the list of allowed names given upon creation. Qualified names are prefixed by the simple
+     * name of the declaring class, e.g. {@code Order.id}.
+     * @return an unmodifiable list with one or more names
+     */
+    public List<String> getNames() {
+        return this.names;
+    }
+
+    /**
+     * Return the list of allowed types that a {@link Field} must have in order to match the criteria.
+     * @return an unmodifiable list with one or more types
+     */
+    public List<Class<?>> getAllowedTypes() {
+        return List.of(this.getTypes());
+    }
+
     /**
      * Define the list of allowed types that a {@link Field} must have in order to match the criteria.
      * @return a list with one or more types
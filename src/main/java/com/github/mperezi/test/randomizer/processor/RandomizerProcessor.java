@@ -0,0 +1,311 @@
+package com.github.mperezi.test.randomizer.processor;
+
+import com.github.mperezi.test.randomizer.GenerateRandomizer;
+import com.github.mperezi.test.randomizer.GeneratedRandomizer;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generate a {@link GeneratedRandomizer} for each of the types listed in {@link GenerateRandomizer}.
+ *
+ * <p>
+ * It is not registered as a service, so that it is only run by the compiler when asked to, e.g. by
+ * listing it in the {@code annotationProcessors} of the {@code maven-compiler-plugin} or through the
+ * {@code -processor} option of {@code javac}. Records, and final classes whose fields are all final, are
+ * created through the constructor taking a parameter named after each field, of the same type. Fields of
+ * any other class are set through their setters if they have any, otherwise directly. Types that cannot
+ * be created without reflection, i.e. abstract, generic, private or inner classes, and classes without an
+ * accessible constructor, are reported as errors. Fields that can be neither set directly nor through a
+ * setter are reported as warnings and left as they are.
+ * </p>
+ *
+ * @author Miguel Ibars (mperezibars@gmail.com)
+ */
+@SupportedAnnotationTypes("com.github.mperezi.test.randomizer.GenerateRandomizer")
+public final class RandomizerProcessor extends AbstractProcessor {
+
+    private final Set<String> generatedTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(GenerateRandomizer.class)) {
+            for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                if (!annotation.getAnnotationType().toString().equals(GenerateRandomizer.class.getName())) {
+                    continue;
+                }
+                annotation.getElementValues().forEach((name, value) -> {
+                    for (final Object type : (List<?>) value.getValue()) {
+                        this.generate(element, (TypeElement) ((DeclaredType) ((AnnotationValue) type).getValue())
+                            .asElement());
+                    }
+                });
+            }
+        }
+        return true;
+    }
+
+    private void generate(final Element origin, final TypeElement type) {
+        final String name = this.processingEnv.getElementUtils().getBinaryName(type).toString().replace('$', '_')
+                + GeneratedRandomizer.SUFFIX;
+        if (!this.generatedTypes.add(name) || !this.canCreate(origin, type)) {
+            return;
+        }
+        final List<VariableElement> fields = new ArrayList<>();
+        final List<String> statements = new ArrayList<>();
+        if (!this.createThroughConstructor(type, fields, statements)
+                && !this.createThroughSetters(type, fields, statements)) {
+            this.error(origin, type + " has no accessible constructor");
+            return;
+        }
+        try {
+            this.write(origin, type, name, fields, statements);
+        } catch (final IOException e) {
+            this.error(origin, "Cannot write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private boolean canCreate(final Element origin, final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && !type.getKind().name().equals("RECORD")) {
+            this.error(origin, type + " is not a class");
+        } else if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            this.error(origin, type + " is abstract");
+        } else if (!type.getTypeParameters().isEmpty()) {
+            this.error(origin, type + " is generic");
+        } else if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            this.error(origin, type + " is an inner class");
+        } else {
+            for (Element enclosing = type; enclosing instanceof TypeElement;
+                    enclosing = enclosing.getEnclosingElement()) {
+                if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                    this.error(origin, type + " is private");
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Create records and final immutable classes through the constructor taking a parameter named after
+     * each of their fields, of the same type.
+     */
+    private boolean createThroughConstructor(final TypeElement type, final List<VariableElement> fields,
+            final List<String> statements) {
+        final Map<String, VariableElement> declaredFields = new HashMap<>();
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                declaredFields.put(field.getSimpleName().toString(), field);
+            }
+        }
+        final boolean record = type.getKind().name().equals("RECORD");
+        if (declaredFields.isEmpty() || !record && (!this.isObject(type.getSuperclass())
+                || !type.getModifiers().contains(Modifier.FINAL) || declaredFields.values()
+                    .stream()
+                    .anyMatch(field -> !field.getModifiers().contains(Modifier.FINAL)))) {
+            return false;
+        }
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            final List<VariableElement> parameterFields = this.getParameterFields(constructor, declaredFields);
+            if (this.isAccessible(type, constructor) && parameterFields != null) {
+                fields.addAll(parameterFields);
+                final List<String> arguments = new ArrayList<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    arguments.add(this.value(type, fields.get(i), i));
+                }
+                statements.add("return new " + type.getQualifiedName() + "(" + String.join(", ", arguments) + ");");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The fields the given constructor takes a parameter for, matched by name and type.
+     * @return the fields in the order of the parameters, or {@code null} if the constructor does not
+     *         take every field
+     */
+    private List<VariableElement> getParameterFields(final ExecutableElement constructor,
+            final Map<String, VariableElement> fields) {
+        if (constructor.getParameters().size() != fields.size()) {
+            return null;
+        }
+        final List<VariableElement> parameterFields = new ArrayList<>();
+        for (final VariableElement parameter : constructor.getParameters()) {
+            final VariableElement field = fields.get(parameter.getSimpleName().toString());
+            if (field == null || !this.processingEnv.getTypeUtils().isSameType(this.erasure(parameter),
+                    this.erasure(field))) {
+                return null;
+            }
+            parameterFields.add(field);
+        }
+        return parameterFields;
+    }
+
+    /**
+     * Create any other class through its constructor without arguments, and then set its fields
+     * directly or through their setters.
+     */
+    private boolean createThroughSetters(final TypeElement type, final List<VariableElement> fields,
+            final List<String> statements) {
+        final boolean constructible = ElementFilter.constructorsIn(type.getEnclosedElements())
+            .stream()
+            .anyMatch(constructor -> constructor.getParameters().isEmpty() && this.isAccessible(type, constructor));
+        if (!constructible) {
+            return false;
+        }
+        statements.add("final " + type.getQualifiedName() + " instance = new " + type.getQualifiedName() + "();");
+        final Set<String> names = new HashSet<>();
+        for (TypeElement declaringType = type; declaringType != null;
+                declaringType = this.getSuperclass(declaringType)) {
+            for (final VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+                final String name = field.getSimpleName().toString();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || !names.add(name)) {
+                    continue;
+                }
+                final String value = this.value(type, field, fields.size());
+                final ExecutableElement setter = this.findSetter(type, field);
+                if (setter != null) {
+                    statements.add("instance." + setter.getSimpleName() + "(" + value + ");");
+                } else if (this.isAccessible(type, field)) {
+                    statements.add("instance." + name + " = " + value + ";");
+                } else {
+                    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "Field " + name + " of " + type + " can be neither set nor randomized", field);
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        statements.add("return instance;");
+        return true;
+    }
+
+    private ExecutableElement findSetter(final TypeElement type, final VariableElement field) {
+        final String name = "set" + Character.toUpperCase(field.getSimpleName().charAt(0))
+                + field.getSimpleName().subSequence(1, field.getSimpleName().length());
+        for (final ExecutableElement method : ElementFilter.methodsIn(
+                this.processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) && !method.getModifiers().contains(Modifier.STATIC)
+                    && this.isAccessible(type, method) && this.takes(method, List.of(field))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean takes(final ExecutableElement executable, final List<VariableElement> fields) {
+        if (executable.getParameters().size() != fields.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!this.processingEnv.getTypeUtils().isSameType(this.erasure(executable.getParameters().get(i)),
+                    this.erasure(fields.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TypeMirror erasure(final Element element) {
+        return this.processingEnv.getTypeUtils().erasure(element.asType());
+    }
+
+    private boolean isObject(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && type.toString().equals(Object.class.getName());
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED && !this.isObject(superclass)
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    /**
+     * Whether the given member can be accessed from the package of the given type, where its randomizer
+     * is generated.
+     */
+    private boolean isAccessible(final TypeElement type, final Element member) {
+        final Set<Modifier> modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.PRIVATE)
+                && this.processingEnv.getElementUtils().getPackageOf(member)
+                    .equals(this.processingEnv.getElementUtils().getPackageOf(type));
+    }
+
+    private String value(final TypeElement type, final VariableElement field, final int index) {
+        final TypeMirror fieldType = this.processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(),
+                field);
+        return "(" + fieldType + ") values[" + index + "]";
+    }
+
+    private void write(final Element origin, final TypeElement type, final String name,
+            final List<VariableElement> fields, final List<String> statements) throws IOException {
+        final String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+            .toString();
+        final String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        final String superclass = GeneratedRandomizer.class.getName() + "<" + type.getQualifiedName() + ">";
+        final String fieldNames = fields.stream()
+            .map(field -> ", \"" + field.getSimpleName() + "\"")
+            .collect(Collectors.joining());
+        try (PrintWriter writer = new PrintWriter(
+                this.processingEnv.getFiler().createSourceFile(name, origin, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.println("package " + packageName + ";");
+                writer.println();
+            }
+            if (this.processingEnv.getElementUtils().getTypeElement("javax.annotation.processing.Generated") != null) {
+                writer.println("@javax.annotation.processing.Generated(\"" + this.getClass().getName() + "\")");
+            }
+            writer.println("final class " + simpleName + " extends " + superclass + " {");
+            writer.println();
+            writer.println("    " + simpleName + "() {");
+            writer.println("        super(" + type.getQualifiedName() + ".class" + fieldNames + ");");
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    @SuppressWarnings(\"unchecked\")");
+            writer.println("    protected " + type.getQualifiedName() + " create(final Object[] values) {");
+            statements.forEach(statement -> writer.println("        " + statement));
+            writer.println("    }");
+            writer.println();
+            writer.println("}");
+        }
+    }
+
+    private void error(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(RandomizerExtension.class)
+class CanonicalConstructorTest {
+
+    private static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+    static final class Money {
+
+        private final Long amount;
+
+        private final String currency;
+
+        Money(final Long amount, final String currency) {
+            CONSTRUCTED.incrementAndGet();
+            this.amount = amount;
+            this.currency = currency.toUpperCase();
+        }
+
+    }
+
+    static final class Invoice {
+
+        private final String id;
+
+        private final Money total;
+
+        private final List<Money> lines;
+
+        Invoice(final String id, final Money total, final List<Money> lines) {
+            this.id = id;
+            this.total = total;
+            this.lines = List.copyOf(lines);
+        }
+
+    }
+
+    static final class Rejecting {
+
+        private final String id;
+
+        Rejecting(final String id) {
+            throw new IllegalArgumentException("invalid id " + id);
+        }
+
+    }
+
+    static final class Swapped {
+
+        private final String name;
+
+        private final String code;
+
+        Swapped(final String code, final String name) {
+            this.code = code.toUpperCase();
+            this.name = name;
+        }
+
+    }
+
+    static class Base {
+
+        final String id;
+
+        Base(final String id) {
+            this.id = id;
+        }
+
+    }
+
+    static final class Derived extends Base {
+
+        private final String name;
+
+        Derived(final String id, final String name) {
+            super(id);
+            this.name = name;
+        }
+
+    }
+
+    static class Mutable {
+
+        String id;
+
+        Mutable() {
+
+        }
+
+    }
+
+    @Test
+    void shouldCreateImmutableObjectsThroughTheirConstructor(@Random final Invoice invoice) {
+        assertThat(CONSTRUCTED).hasPositiveValue();
+        assertThat(invoice.id).isNotEmpty();
+        assertThat(invoice.total.amount).isBetween(1L, 1000L);
+        assertThat(invoice.total.currency).isUpperCase();
+        assertThat(invoice.lines).isNotEmpty().allSatisfy(line -> assertThat(line.currency).isUpperCase());
+    }
+
+    @Test
+    void shouldSetFieldsWhenConstructorRejectsArguments(@Random final Rejecting rejecting) {
+        assertThat(rejecting.id).isNotEmpty();
+    }
+
+    @Test
+    void shouldMatchConstructorParametersWithFieldsByName(@Random final Swapped swapped) {
+        assertThat(CanonicalConstructor.of(Swapped.class).getFields())
+            .extracting(Field::getName)
+            .containsExactly("code", "name");
+        assertThat(swapped.code).isUpperCase();
+        assertThat(swapped.name).isNotEmpty();
+    }
+
+    @Test
+    void shouldPopulateFieldsOfClassesNotCreatedThroughTheirConstructor(@Random final Derived derived) {
+        assertThat(derived.id).isNotEmpty();
+        assertThat(derived.name).isNotEmpty();
+    }
+
+    @Test
+    void shouldFindConstructorOfImmutableClassesOnly() {
+        assertThat(CanonicalConstructor.of(Money.class)).isNotNull();
+        assertThat(CanonicalConstructor.of(Money.class)).isSameAs(CanonicalConstructor.of(Money.class));
+        assertThat(CanonicalConstructor.of(Base.class)).isNull();
+        assertThat(CanonicalConstructor.of(Derived.class)).isNull();
+        assertThat(CanonicalConstructor.of(Mutable.class)).isNull();
+        assertThat(CanonicalConstructor.of(String.class)).isNull();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.github.mperezi.test.randomizer;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.jeasy.random.FieldPredicates.named;
+
+class CorpusCodecTest {
+
+    enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    static class Customer {
+
+        String name;
+
+        Status status;
+
+        EnumSet<Status> history;
+
+        LocalDate since;
+
+        LocalDateTime lastLogin;
+
+        Instant created;
+
+        ZonedDateTime updated;
+
+        UUID id;
+
+        List<Order> orders;
+
+        Map<String, Order> ordersById;
+
+        Set<Integer> scores;
+
+        int[] ratings;
+
+        byte[] avatar;
+
+        Order[] favorites;
+
+        boolean active;
+
+        double balance;
+
+    }
+
+    static class Order {
+
+        String id;
+
+        long amount;
+
+        Customer customer;
+
+    }
+
+    private static Object roundTrip(final Object value, final Class<?>... types) {
+        return CorpusCodec.decode(ByteBuffer.wrap(CorpusCodec.encode(value)), CorpusCodecTest.class.getClassLoader(),
+                List.of(types));
+    }
+
+    @Test
+    void shouldDecodeGeneratedObjectGraph() {
+        final Customer customer = new EasyRandom(new EasyRandomParameters().excludeField(named("history")))
+            .nextObject(Customer.class);
+        customer.history = EnumSet.of(Status.ACTIVE);
+
+        assertThat(roundTrip(customer, Customer.class)).usingRecursiveComparison().isEqualTo(customer);
+    }
+
+    @Test
+    void shouldKeepSharedReferencesAndCycles() {
+        final Customer customer = new Customer();
+        final Order order = new Order();
+        order.customer = customer;
+        customer.orders = new ArrayList<>(List.of(order, order));
+        customer.favorites = new Order[] { order };
+
+        final Customer decoded = (Customer) roundTrip(customer, Customer.class);
+
+        assertThat(decoded.orders.get(0)).isSameAs(decoded.orders.get(1)).isSameAs(decoded.favorites[0]);
+        assertThat(decoded.orders.get(0).customer).isSameAs(decoded);
+    }
+
+    @Test
+    void shouldDecodeOptionals() {
+        final Order order = new Order();
+        order.id = "a";
+
+        assertThat(roundTrip(List.of(Optional.of(order), Optional.empty()), Order.class))
+            .usingRecursiveComparison().isEqualTo(List.of(Optional.of(order), Optional.empty()));
+    }
+
+    @Test
+    void shouldNotDecodeSerializedObjectsOfOtherTypes() {
+        final SortedSet<Integer> scores = new TreeSet<>(Comparator.reverseOrder());
+        scores.add(1);
+
+        assertThat(roundTrip(scores, SortedSet.class, Integer.class, Comparator.class)).isEqualTo(scores);
+        assertThatIllegalStateException().isThrownBy(() -> roundTrip(scores, Integer.class));
+    }
+
+    @Test
+    void shouldNotEncodeObjectsOfOtherJdkTypes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CorpusCodec.encode(List.of(OptionalInt.of(1))));
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class CorpusTest {
+
+    private static final Map<String, Order> INJECTED = new ConcurrentHashMap<>();
+
+    @TempDir
+    Path directory;
+
+    static class Order {
+
+        String id;
+
+        List<String> tags;
+
+    }
+
+    static class Invoice {
+
+        String id;
+
+    }
+
+    static class OrderProvider {
+
+        @Random
+        Order order;
+
+        @Random
+        Invoice invoice;
+
+        @Random(type = Order.class, size = 3)
+        List<Order> orders;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class CorpusTestCase {
+
+        @Random
+        private Order order;
+
+        @Test
+        void test(@Random final Order order) {
+            INJECTED.put("field", this.order);
+            INJECTED.put("param", order);
+        }
+
+    }
+
+    static class ProviderCorpusTestCase extends CorpusTestCase implements CustomRandomFieldProvider {
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("id"), () -> "ID");
+        }
+
+    }
+
+    private Map<String, Order> run() {
+        return this.run(CorpusTestCase.class);
+    }
+
+    private Map<String, Order> run(final Class<?> testCase) {
+        INJECTED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .configurationParameter(RandomizerSettings.SEED_PARAMETER, "42")
+            .configurationParameter(RandomizerSettings.CORPUS_ENABLED_PARAMETER, "true")
+            .configurationParameter(RandomizerSettings.CORPUS_DIRECTORY_PARAMETER, this.directory.toString())
+            .selectors(selectClass(testCase))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(1));
+        return Map.copyOf(INJECTED);
+    }
+
+    @Test
+    void shouldKeepValuesInjectedByExtension() throws Exception {
+        final Map<String, Order> generated = this.run();
+        final Map<String, Order> decoded = this.run();
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(generated);
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertThat(files).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldKeepNoValuesOfCustomRandomizers() throws Exception {
+        final Map<String, Order> generated = this.run(ProviderCorpusTestCase.class);
+
+        assertThat(generated.values()).extracting(order -> order.id).containsOnly("ID");
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static GenerationPlan plan(final String field) throws NoSuchFieldException {
+        return RandomField.of(OrderProvider.class.getDeclaredField(field)).getPlan();
+    }
+
+    private Order newOrder(final String id) {
+        final Order order = new Order();
+        order.id = id;
+        order.tags = List.of("a", "b");
+        return order;
+    }
+
+    @Test
+    void shouldReadValuesGeneratedBefore() throws Exception {
+        final AtomicInteger generations = new AtomicInteger();
+        final Order order = (Order) new Corpus(this.directory, OrderProvider.class)
+            .computeIfAbsent(42, plan("order"), () -> {
+                generations.incrementAndGet();
+                return this.newOrder("first");
+            });
+        final Order decoded = (Order) new Corpus(this.directory, OrderProvider.class)
+            .computeIfAbsent(42, plan("order"), () -> {
+                generations.incrementAndGet();
+                return this.newOrder("second");
+            });
+
+        assertThat(generations).hasValue(1);
+        assertThat(decoded).isNotSameAs(order).usingRecursiveComparison().isEqualTo(order);
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertThat(files).hasSize(1).allSatisfy(file -> assertThat(file.getFileName().toString())
+                .startsWith("Order-").endsWith(".bin"));
+        }
+    }
+
+    @Test
+    void shouldGenerateValuesOfOtherSeedsTypesOrSizes() throws Exception {
+        final Corpus corpus = new Corpus(this.directory, OrderProvider.class);
+        final AtomicInteger generations = new AtomicInteger();
+
+        corpus.computeIfAbsent(42, plan("order"), generations::incrementAndGet);
+        corpus.computeIfAbsent(43, plan("order"), generations::incrementAndGet);
+        corpus.computeIfAbsent(42, plan("invoice"), generations::incrementAndGet);
+        corpus.computeIfAbsent(42, plan("orders"), generations::incrementAndGet);
+
+        assertThat(generations).hasValue(4);
+    }
+
+    @Test
+    void shouldGenerateValuesAgainWhenCorrupted() throws Exception {
+        final Corpus corpus = new Corpus(this.directory, OrderProvider.class);
+        corpus.computeIfAbsent(42, plan("order"), () -> this.newOrder("first"));
+        try (Stream<Path> files = Files.list(this.directory)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[] { 1, 2, 3 });
+        }
+
+        final Order order = (Order) corpus.computeIfAbsent(42, plan("order"),
+                () -> this.newOrder("second"));
+
+        assertThat(order.id).isEqualTo("second");
+    }
+
+}
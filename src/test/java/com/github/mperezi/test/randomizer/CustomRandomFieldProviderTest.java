@@ -9,13 +9,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.jeasy.random.randomizers.misc.ConstantRandomizer.aNewConstantRandomizer;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ExtendWith(RandomizerExtension.class)
@@ -29,6 +32,10 @@ class CustomRandomFieldProviderTest implements CustomRandomFieldProvider {
 
     private static final LocalDateTime RANDOM_LOCAL_DATETIME = LocalDateTime.ofEpochSecond(432324L, 0, ZoneOffset.UTC);
 
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+    private final int instanceId = INSTANCE_COUNTER.incrementAndGet();
+
     static class MyObject {
 
         int intVar;
@@ -45,6 +52,8 @@ class CustomRandomFieldProviderTest implements CustomRandomFieldProvider {
 
         LocalDateTime localDateTimeVar;
 
+        int instanceVar;
+
     }
 
     @Override
@@ -56,6 +65,8 @@ class CustomRandomFieldProviderTest implements CustomRandomFieldProvider {
         registry.registerRandomizer(DateField.named("dateVar"), aNewConstantRandomizer(RANDOM_DATE));
         registry.registerRandomizer(DateField.named("localDateVar"), aNewConstantRandomizer(RANDOM_LOCAL_DATE));
         registry.registerRandomizer(DateField.named("localDateTimeVar"), aNewConstantRandomizer(RANDOM_LOCAL_DATETIME));
+        registry.registerRandomizer(IntField.named("instanceVar"), aNewConstantRandomizer(this.instanceId));
+        registry.registerRandomizer(Long.class, aNewConstantRandomizer(-1L));
     }
 
     @Test
@@ -70,4 +81,14 @@ class CustomRandomFieldProviderTest implements CustomRandomFieldProvider {
                 () -> assertEquals(RANDOM_LOCAL_DATETIME, myObject.localDateTimeVar));
     }
 
+    @Test
+    void shouldGiveCustomValuesToPrimitiveArrays(@Random(size = 3) final long[] longs) {
+        assertArrayEquals(new long[] { -1L, -1L, -1L }, longs);
+    }
+
+    @RepeatedTest(3)
+    void shouldRegisterCustomValuesPerTestInstance(@Random final MyObject myObject) {
+        assertEquals(this.instanceId, myObject.instanceVar);
+    }
+
 }
@@ -0,0 +1,101 @@
+package com.github.mperezi.test.randomizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jeasy.random.EasyRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeepCopierTest {
+
+    enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    static class Customer {
+
+        String name;
+
+        final LocalDate since;
+
+        Status status;
+
+        List<Order> orders;
+
+        Map<String, Order> ordersById;
+
+        int[] scores;
+
+        Customer(final LocalDate since) {
+            this.since = since;
+        }
+
+    }
+
+    static class Order {
+
+        String id;
+
+        long amount;
+
+        Customer customer;
+
+    }
+
+    @Test
+    void shouldCopyGeneratedObjectGraph() {
+        final Customer customer = new EasyRandom().nextObject(Customer.class);
+
+        final Customer copy = DeepCopier.copy(customer);
+
+        assertThat(copy).isNotSameAs(customer).usingRecursiveComparison().isEqualTo(customer);
+        assertThat(copy.orders).isNotSameAs(customer.orders);
+        assertThat(copy.orders.get(0)).isNotSameAs(customer.orders.get(0));
+        assertThat(copy.ordersById).isNotSameAs(customer.ordersById);
+        assertThat(copy.scores).isNotSameAs(customer.scores);
+        assertThat(copy.name).isSameAs(customer.name);
+        assertThat(copy.since).isSameAs(customer.since);
+    }
+
+    @Test
+    void shouldKeepSharedReferencesAndCycles() {
+        final Customer customer = new Customer(LocalDate.now());
+        final Order order = new Order();
+        order.customer = customer;
+        customer.orders = new ArrayList<>(List.of(order, order));
+        customer.ordersById = new TreeMap<>(Map.of("1", order));
+
+        final Customer copy = DeepCopier.copy(customer);
+
+        assertThat(copy.orders.get(0)).isNotSameAs(order).isSameAs(copy.orders.get(1));
+        assertThat(copy.orders.get(0).customer).isSameAs(copy);
+        assertThat(copy.ordersById).isInstanceOf(TreeMap.class).containsEntry("1", copy.orders.get(0));
+    }
+
+    @Test
+    void shouldCopyUnmodifiableCollectionsAsModifiable() {
+        final List<Set<String>> copy = DeepCopier.copy(List.of(Set.of("a")));
+
+        assertThat(copy).containsExactly(Set.of("a"));
+        copy.add(Set.of());
+        copy.get(0).add("b");
+    }
+
+    @Test
+    void shouldCopyContentsOfOptionals() {
+        final Order order = new Order();
+
+        final Optional<Order> copy = DeepCopier.copy(Optional.of(order));
+
+        assertThat(copy).get().isNotSameAs(order);
+        assertThat(DeepCopier.copy(Optional.empty())).isEmpty();
+    }
+
+}
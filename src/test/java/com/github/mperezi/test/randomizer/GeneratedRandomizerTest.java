@@ -0,0 +1,210 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import com.github.mperezi.test.randomizer.processor.RandomizerProcessor;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.randomizers.misc.ConstantRandomizer.aNewConstantRandomizer;
+
+class GeneratedRandomizerTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "fixtures/Customer.java", String.join("\n",
+                "package fixtures;",
+                "public class Customer {",
+                "    private String name;",
+                "    int age;",
+                "    private String secret;",
+                "    public void setName(String name) { this.name = name.toUpperCase(); }",
+                "}"),
+            "fixtures/Money.java", String.join("\n",
+                "package fixtures;",
+                "public final class Money {",
+                "    private final Long amount;",
+                "    private final String currency;",
+                "    Money(Long amount, String currency) { this.amount = amount; this.currency = currency; }",
+                "}"),
+            "fixtures/Order.java", String.join("\n",
+                "package fixtures;",
+                "@com.github.mperezi.test.randomizer.GenerateRandomizer({ Order.class, Order.Line.class,",
+                "        Customer.class, Money.class })",
+                "public class Order {",
+                "    String id;",
+                "    Customer customer;",
+                "    java.util.List<Line> lines;",
+                "    Order next;",
+                "    static class Line { String product; int quantity; Money price; }",
+                "}"));
+
+    @TempDir
+    Path directory;
+
+    static class NameProvider implements CustomRandomFieldProvider {
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("first"), aNewConstantRandomizer("FIRST"));
+            registry.registerRandomizer(StringField.named("last"), aNewConstantRandomizer("LAST"));
+        }
+
+    }
+
+    private static String classPath(final Class<?>... types) throws URISyntaxException {
+        final StringBuilder classPath = new StringBuilder();
+        for (final Class<?> type : types) {
+            classPath.append(Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()))
+                .append(File.pathSeparator);
+        }
+        return classPath.toString();
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(final Map<String, String> sources)
+            throws IOException, URISyntaxException {
+        for (final Map.Entry<String, String> source : sources.entrySet()) {
+            Files.createDirectories(this.directory.resolve(source.getKey()).getParent());
+            Files.writeString(this.directory.resolve(source.getKey()), source.getValue());
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final Iterable<? extends JavaFileObject> files = fileManager.getJavaFileObjectsFromPaths(
+                    sources.keySet().stream().map(this.directory::resolve).collect(Collectors.toList()));
+            final List<String> options = List.of("-d", this.directory.toString(), "-classpath",
+                    classPath(GeneratedRandomizer.class, Randomizer.class), "-processor",
+                    RandomizerProcessor.class.getName());
+            compiler.getTask(null, fileManager, diagnostics, options, null, files).call();
+        }
+        return diagnostics;
+    }
+
+    private static Object get(final Object object, final String name) throws ReflectiveOperationException {
+        final Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    private static ReseedableEasyRandom createGenerator(final long seed) {
+        final ReseedableEasyRandom easyRandom = GeneratorPool.shared(RandomizerSettings.defaults()).create();
+        easyRandom.reseed(seed);
+        return easyRandom;
+    }
+
+    @Test
+    void shouldCreateObjectsThroughGeneratedRandomizers() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = this.compile(SOURCES);
+
+        assertThat(diagnostics.getDiagnostics())
+            .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+            .singleElement()
+            .satisfies(diagnostic -> assertThat(diagnostic.getMessage(Locale.ROOT)).contains("secret"));
+        assertThat(this.directory.resolve("fixtures/Order_Randomizer.class")).exists();
+        assertThat(this.directory.resolve("fixtures/Order_Line_Randomizer.class")).exists();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.directory.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            final Class<?> orderType = classLoader.loadClass("fixtures.Order");
+            final ReseedableEasyRandom easyRandom = createGenerator(42);
+            final Object order = easyRandom.nextObject(orderType);
+
+            assertThat((String) get(order, "id")).isNotEmpty();
+            final Object customer = get(order, "customer");
+            assertThat((String) get(customer, "name")).isUpperCase();
+            assertThat((int) get(customer, "age")).isNotZero();
+            assertThat(get(customer, "secret")).isNull();
+            assertThat((List<?>) get(order, "lines")).isNotEmpty().allSatisfy(line -> {
+                assertThat((int) get(line, "quantity")).isNotZero();
+                assertThat(get(get(line, "price"), "currency")).isNotNull();
+            });
+            assertThat(get(order, "next")).isNotNull();
+            assertThat(easyRandom.getCreatedObjects()).isGreaterThan(3);
+            assertThat(get(createGenerator(42).nextObject(orderType), "id")).isEqualTo(get(order, "id"));
+        }
+    }
+
+    @Test
+    void shouldStopRecursiveTypesAtRandomizationDepth() throws Exception {
+        this.compile(SOURCES);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.directory.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            int depth = 0;
+            for (Object order = createGenerator(42).nextObject(classLoader.loadClass("fixtures.Order"));
+                    order != null; order = get(order, "next")) {
+                assertThat((String) get(order, "id")).isNotEmpty();
+                depth++;
+            }
+            assertThat(depth).isBetween(2, 6);
+        }
+    }
+
+    @Test
+    void shouldMatchConstructorParametersWithFieldsByName() throws Exception {
+        this.compile(Map.of(
+                "fixtures/Person.java", String.join("\n",
+                    "package fixtures;",
+                    "@com.github.mperezi.test.randomizer.GenerateRandomizer(Person.class)",
+                    "public final class Person {",
+                    "    private final String first;",
+                    "    private final String last;",
+                    "    Person(String last, String first) { this.last = last; this.first = first; }",
+                    "}")));
+
+        assertThat(this.directory.resolve("fixtures/Person_Randomizer.class")).exists();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.directory.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(NameProvider.class, 42, 0);
+            final Object person = testClassRandomizer.generateObjects(
+                    testClassRandomizer.createRegistry(new NameProvider()), 7,
+                    classLoader.loadClass("fixtures.Person"), 1)[0];
+
+            assertThat(get(person, "first")).isEqualTo("FIRST");
+            assertThat(get(person, "last")).isEqualTo("LAST");
+        }
+    }
+
+    @Test
+    void shouldReportTypesThatCannotBeCreated() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = this.compile(Map.of(
+                "fixtures/Unsupported.java", String.join("\n",
+                    "package fixtures;",
+                    "@com.github.mperezi.test.randomizer.GenerateRandomizer({ Unsupported.Shape.class,",
+                    "        Unsupported.Singleton.class, Unsupported.Inner.class, Unsupported.Open.class })",
+                    "public class Unsupported {",
+                    "    abstract static class Shape { }",
+                    "    static class Singleton { private Singleton() { } }",
+                    "    class Inner { }",
+                    "    static class Open { final String id; Open(String id) { this.id = id; } }",
+                    "}")));
+
+        assertThat(diagnostics.getDiagnostics())
+            .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .extracting(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+            .hasSize(4)
+            .anySatisfy(message -> assertThat(message).contains("Open has no accessible constructor"))
+            .anySatisfy(message -> assertThat(message).endsWith("is abstract"))
+            .anySatisfy(message -> assertThat(message).endsWith("has no accessible constructor"))
+            .anySatisfy(message -> assertThat(message).endsWith("is an inner class"));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(RandomizerExtension.class)
+class GenerationPlanTest {
+
+    @Random
+    private Optional<Order> order;
+
+    @Random(size = 2)
+    private List<Map<String, Optional<Order>>> orderBooks;
+
+    enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    static class Order {
+
+        String id;
+
+        Status status;
+
+    }
+
+    static class Fixture {
+
+        void test(@Random(size = 3) final Map<String, List<Order>> ordersByCustomer,
+                @Random(type = Long.class, size = 3) final Map<Status, ? extends Number> amounts,
+                @Random(size = 1_000_000) final List<List<List<Integer>>> cube) {
+
+        }
+
+    }
+
+    private static GenerationPlan plan(final int index) throws NoSuchMethodException {
+        final Parameter parameter = Fixture.class.getDeclaredMethod("test", Map.class, Map.class, List.class)
+            .getParameters()[index];
+        return TestClassRandomizer.getPlan(parameter);
+    }
+
+    @Test
+    void shouldCreateOptionalField() {
+        assertThat(this.order).get().extracting(order -> order.id).isNotNull();
+    }
+
+    @Test
+    void shouldCreateNestedField() {
+        assertThat(this.orderBooks).hasSize(2).allSatisfy(orderBook -> assertThat(orderBook).hasSizeBetween(1, 10)
+            .allSatisfy((id, order) -> assertThat(order).isPresent()));
+    }
+
+    @Test
+    @RandomizerConfig(minCollectionSize = 4, maxCollectionSize = 4)
+    void shouldCreateMapOfCollections(@Random(size = 3) final Map<String, List<Order>> ordersByCustomer) {
+        assertThat(ordersByCustomer).hasSize(3).allSatisfy((customer, orders) -> {
+            assertThat(customer).isNotNull();
+            assertThat(orders).hasSize(4).doesNotContainNull();
+        });
+    }
+
+    @Test
+    void shouldCreateMapWithGivenTypeOfValues(
+            @Random(type = Long.class, size = 2) final Map<Status, ? extends Number> amounts) {
+        assertThat(amounts).containsOnlyKeys(Status.values()).allSatisfy((status, amount) ->
+            assertThat(amount).isInstanceOf(Long.class));
+    }
+
+    @Test
+    void shouldCreateSetOfCollections(@Random(size = 3) final Set<List<Integer>> s) {
+        assertThat(s).hasSize(3).allSatisfy(l -> assertThat(l).hasSizeBetween(1, 10));
+    }
+
+    @Test
+    void shouldNotCreateCollectionsWithTooManyElements() throws Exception {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(Fixture.class, 42, 0);
+        final GenerationPlan plan = plan(2);
+
+        assertThatThrownBy(() -> plan.generate(testClassRandomizer, testClassRandomizer.createRegistry(null), 7))
+            .isInstanceOf(ExtensionConfigurationException.class)
+            .hasMessageContaining("List<List<List<Integer>>>[1000000]");
+    }
+
+    @Test
+    void shouldDescribeGenericTypes() throws Exception {
+        assertThat(plan(0).describe()).isEqualTo("Map<String, List<Order>>[3]");
+        assertThat(plan(0).getElementType()).isEqualTo(List.class);
+        assertThat(plan(0).getObjectTypes()).containsExactly(String.class, Order.class);
+        assertThat(plan(1).getKey()).isEqualTo("java.util.Map<" + Status.class.getName() + ", java.lang.Long>[3]");
+    }
+
+    @Test
+    void shouldGenerateSameValuesFromSameSeed() throws Exception {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(Fixture.class, 42, 0);
+        final GenerationPlan plan = plan(0);
+
+        final Object value = plan.generate(testClassRandomizer, testClassRandomizer.createRegistry(null), 7);
+
+        assertThat(value).usingRecursiveComparison()
+            .isEqualTo(plan.generate(testClassRandomizer, testClassRandomizer.createRegistry(null), 7));
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.github.mperezi.test.randomizer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class GenerationProfileTest {
+
+    @TempDir
+    Path directory;
+
+    static class Order {
+
+        String id;
+
+        Customer customer;
+
+    }
+
+    static class Customer {
+
+        String name;
+
+        Order lastOrder;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class ProfiledTestCase {
+
+        @Random
+        private Order order;
+
+        @Test
+        void test(@Random(type = Order.class, size = 3) final List<Order> orders) {
+
+        }
+
+    }
+
+    private Events run(final String... configurationParameters) {
+        final EngineTestKit.Builder builder = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(ProfiledTestCase.class));
+        for (int i = 0; i < configurationParameters.length; i += 2) {
+            builder.configurationParameter(configurationParameters[i], configurationParameters[i + 1]);
+        }
+        final Events events = builder.execute().allEvents();
+        events.assertStatistics(stats -> stats.failed(0));
+        return events;
+    }
+
+    @Test
+    void shouldPublishSlowestTypes() throws Exception {
+        final Path file = this.directory.resolve("profile.txt");
+
+        final Events events = this.run(
+                RandomizerSettings.PROFILE_ENABLED_PARAMETER, "true",
+                RandomizerSettings.PROFILE_FILE_PARAMETER, file.toString());
+
+        assertThat(events.reportingEntryPublished().stream()
+            .map(event -> event.getPayload(ReportEntry.class).orElseThrow().getKeyValuePairs())
+            .filter(entry -> entry.containsKey(RandomizerExtension.PROFILE_REPORT_ENTRY))
+            .map(entry -> entry.get(RandomizerExtension.PROFILE_REPORT_ENTRY)))
+            .singleElement().asString()
+            .contains("Order: 1 in ", "List<Order>[3]: 1 in ");
+        assertThat(Files.readAllLines(file))
+            .first().asString().startsWith(ProfiledTestCase.class.getName());
+        assertThat(Files.readAllLines(file)).hasSize(3);
+    }
+
+    @Test
+    void shouldNotProfileByDefault() {
+        final Events events = this.run();
+
+        assertThat(events.reportingEntryPublished().count()).isZero();
+    }
+
+    @Test
+    void shouldRecordFlightRecorderEvents() throws Exception {
+        final Path file = this.directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RandomValueEvent.class);
+            recording.enable(RandomFieldsEvent.class);
+            recording.start();
+            this.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final List<RecordedEvent> values = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.github.mperezi.test.randomizer.RandomValue"))
+            .collect(Collectors.toList());
+        assertThat(values).hasSize(2).allSatisfy(event -> {
+            assertThat(event.getClass("testClass").getName()).isEqualTo(ProfiledTestCase.class.getName());
+            assertThat(event.getLong("objectCount")).isPositive();
+        });
+        assertThat(values).anySatisfy(event -> {
+            assertThat(event.getClass("targetType").getName()).isEqualTo(List.class.getName());
+            assertThat(event.getClass("elementType").getName()).isEqualTo(Order.class.getName());
+            assertThat(event.getInt("size")).isEqualTo(3);
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.github.mperezi.test.randomizer.RandomFields");
+            assertThat(event.getInt("fieldCount")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldMeasureObjectGraphs() {
+        final Order order = new Order();
+        order.customer = new Customer();
+        order.customer.lastOrder = order;
+        final Order other = new Order();
+
+        final GenerationProbe.ObjectGraph graph = new GenerationProbe.ObjectGraph(List.of(order, other));
+
+        assertThat(graph.objectCount).isEqualTo(3);
+        assertThat(graph.depth).isEqualTo(2);
+    }
+
+}
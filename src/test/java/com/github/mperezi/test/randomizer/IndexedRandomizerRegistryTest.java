@@ -0,0 +1,103 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.matchers.IntField;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.jeasy.random.api.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.randomizers.misc.ConstantRandomizer.aNewConstantRandomizer;
+
+class IndexedRandomizerRegistryTest {
+
+    private final IndexedRandomizerRegistry registry = new IndexedRandomizerRegistry();
+
+    static class Order {
+
+        String id;
+
+        String status;
+
+        int amount;
+
+    }
+
+    static class Customer {
+
+        String id;
+
+    }
+
+    private static Field field(final Class<?> type, final String name) throws NoSuchFieldException {
+        return type.getDeclaredField(name);
+    }
+
+    @Test
+    void shouldMatchFieldByTypeAndNameIgnoringCase() throws NoSuchFieldException {
+        final Randomizer<String> randomizer = aNewConstantRandomizer("ACTIVE");
+        this.registry.registerRandomizer(StringField.named("STATUS"), randomizer);
+
+        assertThat(this.registry.getRandomizer(field(Order.class, "status"))).isSameAs(randomizer);
+        assertThat(this.registry.getRandomizer(field(Order.class, "id"))).isNull();
+        assertThat(this.registry.getRandomizer(field(Order.class, "amount"))).isNull();
+    }
+
+    @Test
+    void shouldMatchQualifiedFieldNames() throws NoSuchFieldException {
+        final Randomizer<String> randomizer = aNewConstantRandomizer("ORD-1");
+        this.registry.registerRandomizer(StringField.named("order.id"), randomizer);
+
+        assertThat(this.registry.getRandomizer(field(Order.class, "id"))).isSameAs(randomizer);
+        assertThat(this.registry.getRandomizer(field(Customer.class, "id"))).isNull();
+    }
+
+    @Test
+    void shouldPreferFirstRegistration() throws NoSuchFieldException {
+        final Randomizer<String> first = aNewConstantRandomizer("first");
+        this.registry.registerRandomizer(f -> f.getName().equals("id"), first);
+        this.registry.registerRandomizer(StringField.named("Order.id"), aNewConstantRandomizer("second"));
+        this.registry.registerRandomizer(StringField.named("id"), aNewConstantRandomizer("third"));
+
+        assertThat(this.registry.getRandomizer(field(Order.class, "id"))).isSameAs(first);
+    }
+
+    @Test
+    void shouldFallBackToArbitraryPredicatesAndTypes() throws NoSuchFieldException {
+        final Randomizer<Integer> byType = aNewConstantRandomizer(42);
+        final Randomizer<String> byPredicate = aNewConstantRandomizer("customer");
+        this.registry.registerRandomizer(IntField.named("quantity"), aNewConstantRandomizer(1));
+        this.registry.registerRandomizer(f -> f.getDeclaringClass() == Customer.class, byPredicate);
+        this.registry.registerRandomizer(Integer.class, byType);
+
+        assertThat(this.registry.getRandomizer(field(Order.class, "amount"))).isSameAs(byType);
+        assertThat(this.registry.getRandomizer(field(Customer.class, "id"))).isSameAs(byPredicate);
+        assertThat(this.registry.getRandomizer(field(Order.class, "id"))).isNull();
+    }
+
+    @Test
+    void shouldResolveEachFieldOnlyOnce() throws NoSuchFieldException {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Predicate<Field> countingPredicate = f -> evaluations.incrementAndGet() < 0;
+        this.registry.registerRandomizer(countingPredicate, aNewConstantRandomizer("never"));
+
+        this.registry.getRandomizer(field(Order.class, "status"));
+        this.registry.getRandomizer(field(Order.class, "status"));
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldResolveAgainAfterNewRegistrations() throws NoSuchFieldException {
+        assertThat(this.registry.getRandomizer(field(Order.class, "status"))).isNull();
+
+        final Randomizer<String> randomizer = aNewConstantRandomizer("ACTIVE");
+        this.registry.registerRandomizer(StringField.named("status"), randomizer);
+
+        assertThat(this.registry.getRandomizer(field(Order.class, "status"))).isSameAs(randomizer);
+    }
+
+}
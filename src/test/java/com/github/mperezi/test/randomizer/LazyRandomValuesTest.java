@@ -0,0 +1,118 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.Random.Scope;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+
+class LazyRandomValuesTest {
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    private static final Map<String, Object> INJECTED = new ConcurrentHashMap<>();
+
+    static final class Counted {
+
+        private final String name;
+
+        Counted(final String name) {
+            this.name = name;
+            CREATED.incrementAndGet();
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @TestMethodOrder(OrderAnnotation.class)
+    @RandomSeed(42)
+    static class LazyTestCase {
+
+        @Random
+        private Supplier<Counted> counted;
+
+        @Random(size = 3, lazy = true)
+        private List<Counted> counteds;
+
+        @Test
+        @Order(1)
+        void unused() {
+            INJECTED.put("unused.created", CREATED.get());
+        }
+
+        @Test
+        @Order(2)
+        void used(@Random final Supplier<Counted> counted) {
+            INJECTED.put("used.field", this.counted.get());
+            INJECTED.put("used.fieldAgain", this.counted.get());
+            INJECTED.put("used.param", counted.get());
+            INJECTED.put("used.size", this.counteds.size());
+            INJECTED.put("used.created", CREATED.get());
+        }
+
+        @Test
+        @Order(3)
+        void shared(@Random(scope = Scope.CLASS, copy = false) final Supplier<Counted> lazy,
+                @Random(scope = Scope.CLASS, copy = false) final Counted eager) {
+            INJECTED.put("shared.lazy", lazy.get());
+            INJECTED.put("shared.eager", eager);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class LazyClassTestCase {
+
+        @Random(lazy = true)
+        private Counted counted;
+
+        @Test
+        void test() {
+        }
+
+    }
+
+    @Test
+    void shouldGenerateValuesOnFirstUse() {
+        CREATED.set(0);
+        INJECTED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(LazyTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(3));
+
+        assertThat(INJECTED.get("unused.created")).isEqualTo(0);
+        assertThat(INJECTED.get("used.field")).isNotNull().isSameAs(INJECTED.get("used.fieldAgain"));
+        assertThat(((Counted) INJECTED.get("used.param")).name)
+            .isNotEqualTo(((Counted) INJECTED.get("used.field")).name);
+        assertThat(INJECTED.get("used.size")).isEqualTo(3);
+        assertThat(INJECTED.get("used.created")).isEqualTo(5);
+        assertThat(INJECTED.get("shared.lazy")).isSameAs(INJECTED.get("shared.eager"));
+    }
+
+    @Test
+    void shouldFailOnLazyValuesOfClasses() {
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(LazyClassTestCase.class))
+            .execute()
+            .testEvents()
+            .assertThatEvents()
+            .haveExactly(1, finishedWithFailure(instanceOf(ExtensionConfigurationException.class)));
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class PrefetcherTest {
+
+    private static final Map<String, Traced> GENERATED = new ConcurrentHashMap<>();
+
+    static final class Traced {
+
+        private final String name;
+
+        private final String thread;
+
+        Traced(final String name, final String thread) {
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @TestMethodOrder(OrderAnnotation.class)
+    @RandomSeed(42)
+    static class PrefetchedTestCase {
+
+        @Test
+        @Order(1)
+        void first(@Random final Traced traced) throws InterruptedException {
+            GENERATED.put("first", traced);
+            // long enough for the next tests to be prefetched
+            Thread.sleep(500);
+        }
+
+        @Test
+        @Order(2)
+        void second(@Random final Traced traced) {
+            GENERATED.put("second", traced);
+        }
+
+        @Test
+        @Order(3)
+        @RandomSeed(7)
+        @RandomizerConfig(minStringLength = 3, maxStringLength = 3)
+        void third(@Random final Traced traced) {
+            GENERATED.put("third", traced);
+        }
+
+    }
+
+    private static Map<String, Traced> run(final String lookahead) throws Exception {
+        GENERATED.clear();
+        final TestPlan testPlan = LauncherFactory.create()
+            .discover(LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(PrefetchedTestCase.class))
+                .configurationParameter(RandomizerSettings.PREFETCH_LOOKAHEAD_PARAMETER, lookahead)
+                .build());
+        final PreparingListener listener = new PreparingListener();
+        listener.testPlanExecutionStarted(testPlan);
+        listener.getPreparation().get(10, TimeUnit.SECONDS);
+        EngineTestKit.engine("junit-jupiter")
+            .configurationParameter(RandomizerSettings.PREFETCH_LOOKAHEAD_PARAMETER, lookahead)
+            .selectors(selectClass(PrefetchedTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(3));
+        listener.testPlanExecutionFinished(testPlan);
+        return Map.copyOf(GENERATED);
+    }
+
+    @Test
+    void shouldGenerateParametersOfNextTestsAhead() throws Exception {
+        final Map<String, Traced> prefetched = run("2");
+
+        assertThat(prefetched.get("first").thread).isEqualTo(Thread.currentThread().getName());
+        assertThat(prefetched.get("second").thread).startsWith("randomizer-prefetch-");
+        assertThat(prefetched.get("third").thread).startsWith("randomizer-prefetch-");
+        assertThat(prefetched.get("third").name).hasSize(3);
+    }
+
+    @Test
+    void shouldGenerateSameParametersAheadAsOnTheSpot() throws Exception {
+        final Map<String, Traced> prefetched = run("1");
+        final Map<String, Traced> generated = run("0");
+
+        assertThat(generated.values()).allSatisfy(traced ->
+                assertThat(traced.thread).isEqualTo(Thread.currentThread().getName()));
+        assertThat(generated).allSatisfy((test, traced) ->
+                assertThat(traced.name).isEqualTo(prefetched.get(test).name));
+    }
+
+}
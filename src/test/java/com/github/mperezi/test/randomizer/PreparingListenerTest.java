@@ -0,0 +1,100 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class PreparingListenerTest {
+
+    static class Customer {
+
+        String name;
+
+        List<String> tags;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomizerConfig(objectPoolSize = 7)
+    static class PreparedTestCase {
+
+        @Random
+        private Customer field;
+
+        @Test
+        void test(@Random final Customer customer) {
+            assertThat(this.field.name).isNotEmpty();
+            assertThat(customer.tags).isNotEmpty();
+        }
+
+    }
+
+    private static GeneratorPool getGenerators() {
+        return GeneratorPool.shared(
+                RandomizerSettings.forClass(PreparedTestCase.class, parameter -> Optional.empty()));
+    }
+
+    private static TestPlan discover(final Map<String, String> parameters) {
+        return LauncherFactory.create()
+            .discover(LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(PreparedTestCase.class), selectClass(PreparingListenerTest.class))
+                .configurationParameters(parameters)
+                .build());
+    }
+
+    private static void prepare(final TestPlan testPlan) throws Exception {
+        final PreparingListener listener = new PreparingListener();
+        listener.testPlanExecutionStarted(testPlan);
+        listener.getPreparation().get(10, TimeUnit.SECONDS);
+        listener.testPlanExecutionFinished(testPlan);
+    }
+
+    @Test
+    void shouldPrepareGeneratorsAheadOfTests() throws Exception {
+        getGenerators().clear();
+
+        prepare(discover(Map.of(RandomizerSettings.PREPARE_ENABLED_PARAMETER, "true")));
+
+        assertThat(getGenerators().countSpares()).isOne();
+        assertThat(TestClassRandomizer.getPlan(PreparedTestCase.class.getDeclaredMethod("test", Customer.class)
+            .getParameters()[0]).getObjectTypes()).containsExactly(Customer.class);
+
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(PreparedTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(1));
+
+        assertThat(getGenerators().countSpares()).isZero();
+    }
+
+    @Test
+    void shouldNotPrepareWhenDisabled() throws Exception {
+        getGenerators().clear();
+
+        prepare(discover(Map.of(RandomizerSettings.PREPARE_ENABLED_PARAMETER, "false")));
+
+        assertThat(getGenerators().countSpares()).isZero();
+    }
+
+    @Test
+    void shouldNotPrepareByDefault() throws Exception {
+        getGenerators().clear();
+
+        prepare(discover(Map.of()));
+
+        assertThat(getGenerators().countSpares()).isZero();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveArraysTest {
+
+    @Test
+    void shouldCreateArraysWithinDefaultRanges() {
+        final IntSummaryStatistics ints = Arrays.stream((int[]) PrimitiveArrays.create(int.class, 10_000, 42))
+            .summaryStatistics();
+        final LongSummaryStatistics longs = Arrays.stream((long[]) PrimitiveArrays.create(long.class, 10_000, 42))
+            .summaryStatistics();
+        final DoubleSummaryStatistics doubles =
+                Arrays.stream((double[]) PrimitiveArrays.create(double.class, 10_000, 42)).summaryStatistics();
+
+        assertThat(ints.getCount()).isEqualTo(10_000);
+        assertThat(ints.getMin()).isEqualTo(1);
+        assertThat(ints.getMax()).isEqualTo(999);
+        assertThat(longs.getCount()).isEqualTo(10_000);
+        assertThat(longs.getMin()).isEqualTo(1);
+        assertThat(longs.getMax()).isEqualTo(999);
+        assertThat(doubles.getCount()).isEqualTo(10_000);
+        assertThat(doubles.getMin()).isGreaterThanOrEqualTo(0);
+        assertThat(doubles.getMax()).isLessThan(1);
+        assertThat((float[]) PrimitiveArrays.create(float.class, 10_000, 42)).hasSize(10_000)
+            .doesNotContain(1f);
+    }
+
+    @Test
+    void shouldFillEveryByte() {
+        final byte[] bytes = (byte[]) PrimitiveArrays.create(byte.class, 13, 42);
+
+        assertThat(bytes).hasSize(13);
+        assertThat(bytes[12]).isNotZero();
+    }
+
+    @Test
+    void shouldCreateSameArrayFromSameSeed() {
+        assertThat((long[]) PrimitiveArrays.create(long.class, 100, 42))
+            .containsExactly((long[]) PrimitiveArrays.create(long.class, 100, 42))
+            .isNotEqualTo(PrimitiveArrays.create(long.class, 100, 43));
+    }
+
+    @Test
+    void shouldNotSupportChars() {
+        assertThat(PrimitiveArrays.isSupported(int.class)).isTrue();
+        assertThat(PrimitiveArrays.isSupported(char.class)).isFalse();
+        assertThat(PrimitiveArrays.isSupported(Integer.class)).isFalse();
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+
+class RandomSeedTest {
+
+    private static final Map<String, String> GENERATED = new ConcurrentHashMap<>();
+
+    static class Order {
+
+        String id;
+
+        Long amount;
+
+        List<String> tags;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomSeed(42)
+    static class SeededTestCase {
+
+        @Random
+        private String name;
+
+        @Test
+        void first(@Random final Order order) {
+            GENERATED.put("first.name", this.name);
+            GENERATED.put("first.order", order.id + order.amount + order.tags);
+        }
+
+        @Test
+        void second(@Random final Order order) {
+            GENERATED.put("second.name", this.name);
+            GENERATED.put("second.order", order.id + order.amount + order.tags);
+        }
+
+        @Test
+        @RandomSeed(7)
+        void third(@Random final Order order) {
+            GENERATED.put("third.name", this.name);
+            GENERATED.put("third.order", order.id + order.amount + order.tags);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @TestInstance(Lifecycle.PER_CLASS)
+    static class ConfiguredTestCase {
+
+        @Random
+        private String name;
+
+        @Test
+        void test(@Random final String value) {
+            GENERATED.put("name", this.name);
+            GENERATED.put("value", value);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomSeed(1234)
+    static class FailingTestCase {
+
+        @Random
+        private String name;
+
+        @BeforeEach
+        void setUp() {
+            GENERATED.put("name", this.name);
+        }
+
+        @Test
+        void test() {
+            throw new AssertionError("failed with " + this.name);
+        }
+
+    }
+
+    private static Map<String, String> run(final Map<String, String> configuration,
+            final DiscoverySelector... selectors) {
+        GENERATED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .configurationParameters(configuration)
+            .selectors(selectors)
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.failed(0));
+        return Map.copyOf(GENERATED);
+    }
+
+    @Test
+    void shouldGenerateSameValuesFromSameSeed() {
+        final Map<String, String> firstRun = run(Map.of(), selectClass(SeededTestCase.class));
+        final Map<String, String> secondRun = run(Map.of(), selectClass(SeededTestCase.class));
+
+        assertThat(firstRun).hasSize(6).isEqualTo(secondRun);
+    }
+
+    @Test
+    void shouldGenerateDifferentValuesForEachTest() {
+        final Map<String, String> values = run(Map.of(), selectClass(SeededTestCase.class));
+
+        assertThat(values.get("first.name")).isNotEqualTo(values.get("second.name"));
+        assertThat(values.get("first.order")).isNotEqualTo(values.get("second.order"));
+    }
+
+    @Test
+    void shouldGenerateSameValuesWhenRunningSingleTest() {
+        final Map<String, String> allTests = run(Map.of(), selectClass(SeededTestCase.class));
+        final Map<String, String> singleTest = run(Map.of(), selectMethod(SeededTestCase.class, "second",
+                Order.class.getName()));
+
+        assertThat(singleTest).hasSize(2)
+            .containsEntry("second.name", allTests.get("second.name"))
+            .containsEntry("second.order", allTests.get("second.order"));
+    }
+
+    @Test
+    void shouldPreferSeedOfTestMethod() {
+        final Map<String, String> values = run(Map.of(), selectClass(SeededTestCase.class));
+        final Map<String, String> otherClassSeed = run(Map.of(RandomizerSettings.SEED_PARAMETER, "1"),
+                selectClass(SeededTestCase.class));
+
+        assertThat(otherClassSeed).isEqualTo(values);
+        assertThat(values.get("third.name")).isNotEqualTo(values.get("first.name"));
+    }
+
+    @Test
+    void shouldReadSeedFromConfigurationParameter() {
+        final Map<String, String> firstRun = run(Map.of(RandomizerSettings.SEED_PARAMETER, "99"),
+                selectClass(ConfiguredTestCase.class));
+        final Map<String, String> secondRun = run(Map.of(RandomizerSettings.SEED_PARAMETER, "99"),
+                selectClass(ConfiguredTestCase.class));
+        final Map<String, String> otherSeed = run(Map.of(RandomizerSettings.SEED_PARAMETER, "100"),
+                selectClass(ConfiguredTestCase.class));
+
+        assertThat(firstRun).hasSize(2).isEqualTo(secondRun).isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    void shouldReportSeedOfFailedTests() {
+        GENERATED.clear();
+        final Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(FailingTestCase.class))
+            .execute()
+            .testEvents();
+
+        events.assertStatistics(stats -> stats.failed(1).reportingEntryPublished(1));
+        assertThat(events.reportingEntryPublished().stream()
+                .map(event -> event.getPayload(ReportEntry.class).orElseThrow().getKeyValuePairs()))
+            .containsExactly(Map.of(RandomizerSettings.SEED_PARAMETER, "1234"));
+        assertThat(GENERATED.get("name")).isNotNull();
+    }
+
+}
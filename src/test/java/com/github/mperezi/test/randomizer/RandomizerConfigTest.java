@@ -0,0 +1,283 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.config.ConfiguredByPackage;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+
+class RandomizerConfigTest {
+
+    private static final Map<String, Object> GENERATED = new ConcurrentHashMap<>();
+
+    static class Node {
+
+        String name;
+
+        Node next;
+
+    }
+
+    static class Order {
+
+        String id;
+
+        List<String> tags;
+
+        LocalDate date;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class DefaultTestCase {
+
+        @Test
+        void test(@Random final Node node, @Random final Order order) {
+            GENERATED.put("node", node);
+            GENERATED.put("order", order);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomizerConfig(randomizationDepth = 1, minCollectionSize = 3, maxCollectionSize = 3, minStringLength = 2,
+            maxStringLength = 2, minDate = "2020-01-01", maxDate = "2020-01-31")
+    static class ConfiguredTestCase {
+
+        @Random
+        private Order field;
+
+        @Test
+        void test(@Random final Node node, @Random final Order order) {
+            GENERATED.put("node", node);
+            GENERATED.put("order", order);
+            GENERATED.put("field", this.field);
+        }
+
+        @Test
+        @RandomizerConfig(minStringLength = 8, maxStringLength = 8)
+        void configured(@Random final Order order) {
+            GENERATED.put("configured.order", order);
+            GENERATED.put("configured.field", this.field);
+        }
+
+    }
+
+    static class Tree {
+
+        String name;
+
+        List<Tree> children;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class UnboundedTestCase {
+
+        @Test
+        void test(@Random final Tree tree) {
+            GENERATED.put("tree", tree);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomizerConfig(maxObjects = 5)
+    static class BudgetedTestCase {
+
+        @Test
+        void test(@Random final Tree tree, @Random final Order order) {
+            GENERATED.put("tree", tree);
+            GENERATED.put("order", order);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @RandomizerConfig(minCollectionSize = 5, maxCollectionSize = 1)
+    static class MisconfiguredTestCase {
+
+        @Test
+        void test(@Random final Order order) {
+            GENERATED.put("order", order);
+        }
+
+    }
+
+    private static Events run(final Class<?> testClass, final Map<String, String> configuration) {
+        GENERATED.clear();
+        return EngineTestKit.engine("junit-jupiter")
+            .configurationParameters(configuration)
+            .selectors(selectClass(testClass))
+            .execute()
+            .testEvents();
+    }
+
+    private static int depth(final Node node) {
+        int depth = 0;
+        for (Node next = node; next != null; next = next.next) {
+            depth++;
+        }
+        return depth;
+    }
+
+    @Test
+    void shouldGenerateObjectsWithClassConfig() {
+        run(DefaultTestCase.class, Map.of()).assertStatistics(stats -> stats.succeeded(1));
+        final int defaultDepth = depth((Node) GENERATED.get("node"));
+
+        run(ConfiguredTestCase.class, Map.of()).assertStatistics(stats -> stats.succeeded(2));
+
+        assertThat(depth((Node) GENERATED.get("node"))).isLessThan(defaultDepth);
+        final Order order = (Order) GENERATED.get("order");
+        assertThat(order.id).hasSize(2);
+        assertThat(order.tags).hasSize(3).allSatisfy(tag -> assertThat(tag).hasSize(2));
+        assertThat(order.date).isBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31));
+        assertThat(((Order) GENERATED.get("field")).tags).hasSize(3);
+    }
+
+    @Test
+    void shouldLetTestMethodsOverrideClassConfig() {
+        run(ConfiguredTestCase.class, Map.of()).assertStatistics(stats -> stats.succeeded(2));
+
+        final Order order = (Order) GENERATED.get("configured.order");
+        assertThat(order.id).hasSize(8);
+        assertThat(order.tags).hasSize(3).allSatisfy(tag -> assertThat(tag).hasSize(8));
+        assertThat(((Order) GENERATED.get("configured.field")).id).hasSize(8);
+    }
+
+    @Test
+    void shouldGenerateObjectsWithConfigurationParameters() {
+        run(DefaultTestCase.class, Map.of(
+                RandomizerSettings.MIN_COLLECTION_SIZE_PARAMETER, "4",
+                RandomizerSettings.MAX_COLLECTION_SIZE_PARAMETER, "4",
+                RandomizerSettings.MIN_STRING_LENGTH_PARAMETER, "3",
+                RandomizerSettings.MAX_STRING_LENGTH_PARAMETER, "3"))
+            .assertStatistics(stats -> stats.succeeded(1));
+
+        final Order order = (Order) GENERATED.get("order");
+        assertThat(order.id).hasSize(3);
+        assertThat(order.tags).hasSize(4);
+    }
+
+    @Test
+    void shouldLetClassConfigOverrideConfigurationParameters() {
+        run(ConfiguredTestCase.class, Map.of(
+                RandomizerSettings.MIN_COLLECTION_SIZE_PARAMETER, "4",
+                RandomizerSettings.MAX_COLLECTION_SIZE_PARAMETER, "4",
+                RandomizerSettings.MIN_STRING_LENGTH_PARAMETER, "3",
+                RandomizerSettings.MAX_STRING_LENGTH_PARAMETER, "3"))
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        final Order order = (Order) GENERATED.get("order");
+        assertThat(order.id).hasSize(2);
+        assertThat(order.tags).hasSize(3);
+    }
+
+    @Test
+    void shouldGenerateObjectsWithPackageConfig() {
+        ConfiguredByPackage.GENERATED.clear();
+        run(ConfiguredByPackage.class, Map.of()).assertStatistics(stats -> stats.succeeded(1));
+
+        assertThat(ConfiguredByPackage.GENERATED.get("tags")).asList()
+            .hasSize(2)
+            .allSatisfy(tag -> assertThat((String) tag).hasSize(1));
+    }
+
+    @Test
+    void shouldFailOnInvalidConfig() {
+        run(MisconfiguredTestCase.class, Map.of())
+            .assertStatistics(stats -> stats.failed(1))
+            .assertThatEvents()
+            .haveExactly(1, finishedWithFailure(instanceOf(ExtensionConfigurationException.class)));
+    }
+
+    @Test
+    void shouldFailOnInvalidConfigurationParameter() {
+        run(DefaultTestCase.class, Map.of(RandomizerSettings.RANDOMIZATION_DEPTH_PARAMETER, "deep"))
+            .assertStatistics(stats -> stats.failed(1));
+    }
+
+    private static int size(final Tree tree, final Set<Tree> visited) {
+        if (tree == null || !visited.add(tree)) {
+            return 0;
+        }
+        int size = 1;
+        for (final Tree child : tree.children == null ? List.<Tree>of() : tree.children) {
+            size += size(child, visited);
+        }
+        return size;
+    }
+
+    @Test
+    void shouldTrimObjectsToFitBudget() {
+        run(UnboundedTestCase.class, Map.of()).assertStatistics(stats -> stats.succeeded(1));
+        assertThat(size((Tree) GENERATED.get("tree"), Collections.newSetFromMap(new IdentityHashMap<>())))
+            .isGreaterThan(5);
+
+        GENERATED.clear();
+        final Events events = EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(BudgetedTestCase.class))
+            .execute()
+            .allEvents();
+
+        events.assertStatistics(stats -> stats.failed(0));
+        assertThat(size((Tree) GENERATED.get("tree"), Collections.newSetFromMap(new IdentityHashMap<>())))
+            .isBetween(1, 5);
+        assertThat(((Order) GENERATED.get("order")).tags).hasSizeBetween(1, 10);
+        assertThat(events.reportingEntryPublished().stream()
+            .map(event -> event.getPayload(ReportEntry.class).orElseThrow().getKeyValuePairs())
+            .filter(entry -> entry.containsKey(RandomizerExtension.BUDGET_REPORT_ENTRY))
+            .map(entry -> entry.get(RandomizerExtension.BUDGET_REPORT_ENTRY)))
+            .singleElement().asString()
+            .startsWith("Tree (")
+            .doesNotContain("Order");
+    }
+
+    @Test
+    void shouldTrimSettingsUntilTheyCannotBeSmaller() {
+        RandomizerSettings settings = RandomizerSettings.defaults();
+        int trims = 0;
+        for (RandomizerSettings trimmed = settings.trim(); trimmed != null; trimmed = trimmed.trim()) {
+            settings = trimmed;
+            trims++;
+        }
+
+        assertThat(trims).isBetween(1, 10);
+        assertThat(settings.toParameters().getRandomizationDepth()).isOne();
+        assertThat(settings.toParameters().getObjectPoolSize()).isOne();
+        assertThat(settings.toParameters().getCollectionSizeRange().getMax()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldShareGeneratorsBetweenEqualSettings() {
+        final RandomizerSettings configured = RandomizerSettings.defaults()
+            .withParameters(parameter -> Optional.empty())
+            .with(ConfiguredByPackage.class.getPackage().getAnnotation(RandomizerConfig.class), "package");
+
+        assertThat(RandomizerSettings.defaults().withParameters(parameter -> Optional.empty()))
+            .isEqualTo(RandomizerSettings.defaults());
+        assertThat(GeneratorPool.shared(RandomizerSettings.defaults()))
+            .isSameAs(GeneratorPool.shared(RandomizerSettings.defaults()))
+            .isNotSameAs(GeneratorPool.shared(configured));
+        assertThat(new TestClassRandomizer(DefaultTestCase.class, 42, 0).withSettings(configured).getSettings())
+            .isEqualTo(configured);
+    }
+
+}
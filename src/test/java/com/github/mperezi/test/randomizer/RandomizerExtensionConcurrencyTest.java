@@ -0,0 +1,87 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.custom.ChoiceRandomizer;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class RandomizerExtensionConcurrencyTest {
+
+    private static final int REPETITIONS = 500;
+
+    private static final Set<String> GENERATED = ConcurrentHashMap.newKeySet();
+
+    private static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+    static class Order {
+
+        String id;
+
+        String status;
+
+        List<Item> items;
+
+    }
+
+    static class Item {
+
+        String sku;
+
+        Long quantity;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    @TestInstance(Lifecycle.PER_CLASS)
+    @Execution(ExecutionMode.CONCURRENT)
+    static class ConcurrentTestCase implements CustomRandomFieldProvider {
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("status"), new ChoiceRandomizer<>("ACTIVE", "SUSPENDED"));
+        }
+
+        @RepeatedTest(REPETITIONS)
+        void shouldGenerateUniqueValues(@Random final Order order,
+                @Random(type = String.class, size = 20) final List<String> strings) {
+            THREADS.add(Thread.currentThread());
+            assertThat(order.status).isIn("ACTIVE", "SUSPENDED");
+            assertThat(order.items).isNotEmpty().allSatisfy(item -> assertThat(item.quantity).isBetween(1L, 1000L));
+            assertThat(GENERATED.add(order.id)).as("duplicated value %s", order.id).isTrue();
+            strings.forEach(s -> assertThat(GENERATED.add(s)).as("duplicated value %s", s).isTrue());
+        }
+
+    }
+
+    @Test
+    void shouldGenerateConcurrentlyWithoutSharingGenerators() {
+        GENERATED.clear();
+        THREADS.clear();
+
+        EngineTestKit.engine("junit-jupiter")
+            .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+            .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+            .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+            .selectors(selectClass(ConcurrentTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.started(REPETITIONS).succeeded(REPETITIONS));
+
+        assertThat(THREADS).hasSizeGreaterThan(1);
+    }
+
+}
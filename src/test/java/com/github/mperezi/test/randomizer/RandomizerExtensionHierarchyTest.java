@@ -0,0 +1,112 @@
+package com.github.mperezi.test.randomizer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@TestInstance(Lifecycle.PER_CLASS)
+class RandomizerExtensionHierarchyTest {
+
+    private static final List<List<Object>> SEEN = new CopyOnWriteArrayList<>();
+
+    @Random
+    private String outerField;
+
+    abstract static class AbstractRandomTest {
+
+        @Random
+        protected String inheritedField;
+
+    }
+
+    @Nested
+    @ExtendWith(RandomizerExtension.class)
+    class WithSuperclass extends AbstractRandomTest {
+
+        @Random
+        private String ownField;
+
+        @Test
+        void shouldCreateInheritedField() {
+            assertThat(this.inheritedField).isNotNull();
+            assertThat(this.ownField).isNotNull();
+        }
+
+        @Test
+        void shouldCreateFieldOfEnclosingInstance() {
+            assertThat(RandomizerExtensionHierarchyTest.this.outerField).isNotNull();
+        }
+
+        @Nested
+        class DeeplyNested {
+
+            @Test
+            void shouldCreateFieldsOfEveryEnclosingInstance() {
+                assertThat(RandomizerExtensionHierarchyTest.this.outerField).isNotNull();
+                assertThat(WithSuperclass.this.inheritedField).isNotNull();
+                assertThat(WithSuperclass.this.ownField).isNotNull();
+            }
+
+        }
+
+    }
+
+    @TestInstance(Lifecycle.PER_CLASS)
+    static class ReuseTestCase {
+
+        @Random
+        private String outerField;
+
+        @Nested
+        @ExtendWith(RandomizerExtension.class)
+        class Inner {
+
+            @Test
+            void first() {
+                SEEN.add(List.of(ReuseTestCase.this, ReuseTestCase.this.outerField));
+            }
+
+            @Test
+            void second() {
+                SEEN.add(List.of(ReuseTestCase.this, ReuseTestCase.this.outerField));
+            }
+
+            @Nested
+            class Deeper {
+
+                @Test
+                void third() {
+                    SEEN.add(List.of(ReuseTestCase.this, ReuseTestCase.this.outerField));
+                }
+
+            }
+
+        }
+
+    }
+
+    @Test
+    void shouldReuseEnclosingInstance() {
+        SEEN.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(ReuseTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(3));
+
+        assertThat(SEEN).hasSize(3).allSatisfy(seen -> {
+            assertThat(seen.get(0)).isSameAs(SEEN.get(0).get(0));
+            assertThat(seen.get(1)).isNotNull().isSameAs(SEEN.get(0).get(1));
+        });
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.github.mperezi.test.randomizer;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class RandomizerExtensionMemoryTest {
+
+    private static final Namespace NAMESPACE = Namespace.create(RandomizerExtension.class);
+
+    private static final List<Boolean> ATTACHED = new CopyOnWriteArrayList<>();
+
+    private static final List<Boolean> RELEASED = new CopyOnWriteArrayList<>();
+
+    private static final Map<Class<?>, TestClassRandomizer> RANDOMIZERS = new ConcurrentHashMap<>();
+
+    /**
+     * Registered before the extension, so that it sees the state of the extension once the extension is
+     * done with each test.
+     */
+    static class StoreProbe implements InvocationInterceptor, AfterEachCallback {
+
+        private static boolean isAttached(final Object testInstance, final ExtensionContext context) {
+            for (ExtensionContext current = context; current != null; current = current.getParent().orElse(null)) {
+                if (current.getStore(NAMESPACE).get(testInstance) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void interceptTestTemplateMethod(final Invocation<Void> invocation,
+                final ReflectiveInvocationContext<Method> invocationContext,
+                final ExtensionContext extensionContext) throws Throwable {
+            final Class<?> testClass = extensionContext.getRequiredTestClass();
+            ATTACHED.add(isAttached(extensionContext.getRequiredTestInstance(), extensionContext));
+            for (ExtensionContext current = extensionContext; current != null;
+                    current = current.getParent().orElse(null)) {
+                final TestClassRandomizer randomizer =
+                        current.getStore(NAMESPACE).get(testClass, TestClassRandomizer.class);
+                if (randomizer != null) {
+                    RANDOMIZERS.put(testClass, randomizer);
+                }
+            }
+            invocation.proceed();
+        }
+
+        @Override
+        public void afterEach(final ExtensionContext extensionContext) {
+            RELEASED.add(!isAttached(extensionContext.getRequiredTestInstance(), extensionContext));
+        }
+
+    }
+
+    @ExtendWith({ StoreProbe.class, RandomizerExtension.class })
+    static class LargeFixturesTestCase implements CustomRandomFieldProvider {
+
+        @Random(type = String.class, size = 10_000)
+        private List<String> strings;
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            // every instance gets a registry of its own, which must be released as well
+        }
+
+        @RepeatedTest(5)
+        void test(@Random(type = String.class, size = 10_000) final List<String> param) {
+            assertThat(this.strings).hasSize(10_000);
+            assertThat(param).hasSize(10_000);
+        }
+
+    }
+
+    @Test
+    void shouldReleaseStateOfPreviousTestInstances() {
+        ATTACHED.clear();
+        RELEASED.clear();
+        RANDOMIZERS.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(LargeFixturesTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(5));
+
+        assertThat(ATTACHED).hasSize(5).containsOnly(true);
+        assertThat(RELEASED).hasSize(5).containsOnly(true);
+        assertThat(RANDOMIZERS.get(LargeFixturesTestCase.class).countOwnGenerators()).isZero();
+    }
+
+}
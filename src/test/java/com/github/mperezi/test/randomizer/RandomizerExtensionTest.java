@@ -1,7 +1,10 @@
 package com.github.mperezi.test.randomizer;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,9 +14,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ExtendWith(RandomizerExtension.class)
 class RandomizerExtensionTest {
 
+    @Random
+    private static String staticField;
+
     @Random
     private String stringField;
 
+    @Random
+    private final String finalField = null;
+
     static class Nested {
 
         Nested nested;
@@ -25,6 +34,16 @@ class RandomizerExtensionTest {
         assertThat(this.stringField).isNotNull();
     }
 
+    @Test
+    void shouldCreateStaticField() {
+        assertThat(staticField).isNotNull();
+    }
+
+    @Test
+    void shouldCreateFinalField() {
+        assertThat(this.finalField).isNotNull();
+    }
+
     @Test
     void shouldCreateMethodParam(@Random final String s) {
         assertThat(s).isNotNull();
@@ -41,7 +60,18 @@ class RandomizerExtensionTest {
     }
 
     @Test
-    void shouldNotCreateCollectionWithoutTypeParameter(@Random final List<String> l) {
+    void shouldCreateSetWithGivenSize(@Random(type = Integer.class, size = 900) final Set<Integer> s) {
+        assertThat(s).hasSize(900);
+    }
+
+    @Test
+    void shouldCreateCollectionOfTypeArgument(@Random final List<String> l) {
+        assertThat(l).hasSize(10).doesNotContainNull();
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void shouldNotCreateCollectionWithoutTypeParameter(@Random final List l) {
         assertThat(l).isNull();
     }
 
@@ -60,4 +90,39 @@ class RandomizerExtensionTest {
         assertThat(nested.nested.nested.nested.nested.nested).as("depth 5").isNull();
     }
 
+    @Test
+    void shouldCreateStreamWithGivenSize(@Random(type = String.class, size = 15) final Stream<String> s) {
+        assertThat(s).isNotNull().hasSize(15).doesNotContainNull();
+    }
+
+    @Test
+    void shouldCreateUnboundedIterator(@Random(type = String.class, size = Random.UNBOUNDED) final Iterator<String> i) {
+        for (int n = 0; n < 5_000; n++) {
+            assertThat(i.next()).isNotNull();
+        }
+        assertThat(i.hasNext()).isTrue();
+    }
+
+    @Test
+    void shouldCreateIterableWithSameValuesOnEachIteration(
+            @Random(type = String.class, size = 15) final Iterable<String> i) {
+        assertThat(i).hasSize(15).containsExactlyElementsOf(i);
+    }
+
+    @Test
+    void shouldCreatePrimitiveArrayWithGivenSize(@Random(size = 1_000) final int[] a) {
+        assertThat(a).hasSize(1_000);
+        assertThat(Arrays.stream(a).allMatch(i -> i >= 1 && i <= 1000)).isTrue();
+    }
+
+    @Test
+    void shouldCreateObjectArrayWithGivenSize(@Random(size = 15) final String[] a) {
+        assertThat(a).hasSize(15).doesNotContainNull();
+    }
+
+    @Test
+    void shouldCreateObjectArrayOfGivenType(@Random(type = String.class, size = 15) final CharSequence[] a) {
+        assertThat(a).hasSize(15).hasOnlyElementsOfType(String.class);
+    }
+
 }
@@ -0,0 +1,87 @@
+package com.github.mperezi.test.randomizer;
+
+import java.math.BigDecimal;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReseedableEasyRandomTest {
+
+    static class Sample {
+
+        String text;
+
+        Character character;
+
+        Integer integer;
+
+        Short number;
+
+        Double ratio;
+
+        BigDecimal amount;
+
+        Boolean flag;
+
+        UUID uuid;
+
+        URL url;
+
+        Date date;
+
+        LocalDate localDate;
+
+        LocalDateTime localDateTime;
+
+        ZonedDateTime zonedDateTime;
+
+        List<String> tags;
+
+    }
+
+    private static EasyRandomParameters parameters(final long seed) {
+        return new EasyRandomParameters()
+            .seed(seed)
+            .charset(StandardCharsets.UTF_8)
+            .randomizerRegistry(new DefaultRandomizerRegistry());
+    }
+
+    @Test
+    void shouldGenerateSameValuesAsNewGenerator() {
+        final ReseedableEasyRandom easyRandom = new ReseedableEasyRandom(parameters(1));
+        easyRandom.nextObject(Sample.class);
+
+        easyRandom.reseed(42);
+        final Sample reseeded = easyRandom.nextObject(Sample.class);
+        easyRandom.reseed(42);
+        final Sample reseededAgain = easyRandom.nextObject(Sample.class);
+        final Sample generated = new EasyRandom(parameters(42)).nextObject(Sample.class);
+
+        assertThat(reseeded).usingRecursiveComparison().isEqualTo(generated).isEqualTo(reseededAgain);
+    }
+
+    @Test
+    void shouldGenerateSameValuesAsBuiltInRegistries() {
+        final ReseedableEasyRandom easyRandom = new ReseedableEasyRandom(parameters(1));
+        easyRandom.reseed(42);
+        final Sample reseeded = easyRandom.nextObject(Sample.class);
+        final Sample generated = new EasyRandom(new EasyRandomParameters()
+            .seed(42)
+            .charset(StandardCharsets.UTF_8)).nextObject(Sample.class);
+
+        // integers are the only ones generated within a range of their own
+        assertThat(reseeded).usingRecursiveComparison().ignoringFields("integer").isEqualTo(generated);
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.Random.Scope;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class SharedRandomValuesTest {
+
+    private static final Map<String, Object> INJECTED = new ConcurrentHashMap<>();
+
+    static class Customer {
+
+        String name;
+
+        List<String> addresses;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class ClassScopeTestCase {
+
+        @Random(scope = Scope.CLASS)
+        private Customer customer;
+
+        @Random(scope = Scope.CLASS, copy = false)
+        private Customer sharedCustomer;
+
+        @Test
+        void first(@Random(scope = Scope.CLASS) final Customer customer) {
+            INJECTED.put("first.field", this.customer);
+            INJECTED.put("first.shared", this.sharedCustomer);
+            INJECTED.put("first.param", customer);
+            this.customer.addresses.clear();
+        }
+
+        @Test
+        void second(@Random final Customer customer) {
+            INJECTED.put("second.field", this.customer);
+            INJECTED.put("second.shared", this.sharedCustomer);
+            INJECTED.put("second.param", customer);
+        }
+
+    }
+
+    static class Event {
+
+        Date date;
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class MutatingTestCase {
+
+        @Random(scope = Scope.CLASS)
+        private Event event;
+
+        @Test
+        void first() {
+            this.mutate("first");
+        }
+
+        @Test
+        void second() {
+            this.mutate("second");
+        }
+
+        private void mutate(final String test) {
+            INJECTED.put(test, this.event.date.getTime());
+            this.event.date.setTime(0);
+        }
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class SuiteScopeTestCase {
+
+        @Test
+        void test(@Random(scope = Scope.SUITE, copy = false) final Customer customer) {
+            INJECTED.put(this.getClass().getSimpleName(), customer);
+        }
+
+    }
+
+    static class OtherSuiteScopeTestCase extends SuiteScopeTestCase {
+
+    }
+
+    @Test
+    void shouldShareValuesAmongTestsOfSameClass() {
+        INJECTED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(ClassScopeTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        final Customer firstField = (Customer) INJECTED.get("first.field");
+        final Customer secondField = (Customer) INJECTED.get("second.field");
+        assertThat(firstField).isNotSameAs(secondField);
+        assertThat(firstField.name).isEqualTo(secondField.name);
+        assertThat(secondField.addresses).isNotEmpty();
+        assertThat(INJECTED.get("first.shared")).isSameAs(INJECTED.get("second.shared"));
+        assertThat(INJECTED.get("first.shared")).usingRecursiveComparison().isEqualTo(secondField);
+        assertThat(INJECTED.get("first.param")).usingRecursiveComparison().isEqualTo(secondField);
+        assertThat(((Customer) INJECTED.get("second.param")).name).isNotEqualTo(firstField.name);
+    }
+
+    @Test
+    void shouldNotLeakMutationsOfJdkTypesAmongTests() {
+        INJECTED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(MutatingTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        assertThat(INJECTED.get("first")).isNotEqualTo(0L).isEqualTo(INJECTED.get("second"));
+    }
+
+    @Test
+    void shouldShareValuesAmongTestClasses() {
+        INJECTED.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(SuiteScopeTestCase.class), selectClass(OtherSuiteScopeTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        assertThat(INJECTED.get("SuiteScopeTestCase")).isNotNull()
+            .isSameAs(INJECTED.get("OtherSuiteScopeTestCase"));
+    }
+
+}
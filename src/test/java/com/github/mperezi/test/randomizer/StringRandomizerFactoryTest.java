@@ -1,11 +1,15 @@
 package com.github.mperezi.test.randomizer;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Condition;
@@ -13,6 +17,7 @@ import org.jeasy.random.api.Randomizer;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class StringRandomizerFactoryTest {
 
@@ -143,4 +148,96 @@ class StringRandomizerFactoryTest {
         assertThat(enumNames).contains(randomValue);
     }
 
+    @Test
+    void ofLongRangeWithNegativeBounds() {
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofLongRange(-5L, 5L);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000)).are(numericBetween(-5L, 5L));
+        assertThat(StringRandomizerFactory.ofLongRange(null, null).getRandomValue())
+            .is(numericBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void ofInstantWritesIsoFormat() {
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofInstant();
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000))
+            .allSatisfy(value -> assertThat(Instant.parse(value)).hasToString(value));
+    }
+
+    @Test
+    void ofLocalDateTimeWritesIsoFormat() {
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofLocalDateTime();
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000))
+            .allSatisfy(value -> assertThat(LocalDateTime.parse(value)).hasToString(value));
+    }
+
+    @Test
+    void ofLocalDateWithPattern() {
+        final String pattern = "d 'de' M, yy ''dd/MM/yyyy''";
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofLocalDate(pattern);
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000))
+            .allSatisfy(value -> assertThat(formatter.format(formatter.parse(value))).isEqualTo(value));
+    }
+
+    @Test
+    void ofLocalDateWithUnsupportedPattern() {
+        assertThatIllegalArgumentException().isThrownBy(() -> StringRandomizerFactory.ofLocalDate("dd MMM yyyy"));
+        assertThatIllegalArgumentException().isThrownBy(() -> StringRandomizerFactory.ofLocalDate("dd 'MM"));
+    }
+
+    @Test
+    void ofDecimal() {
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofDecimal(2);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000)).allSatisfy(value -> {
+            assertThat(new BigDecimal(value).scale()).isEqualTo(2);
+            assertThat(new BigDecimal(value)).isBetween(BigDecimal.ONE, BigDecimal.valueOf(1000));
+        });
+    }
+
+    @Test
+    void ofDecimalWithNegativeBounds() {
+        final Randomizer<String> randomizer = StringRandomizerFactory.ofDecimal(-1, 1, 3);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000)).allSatisfy(value -> {
+            assertThat(new BigDecimal(value).toPlainString()).isEqualTo(value);
+            assertThat(new BigDecimal(value)).isBetween(BigDecimal.ONE.negate(), BigDecimal.ONE);
+        });
+        assertThat(StringRandomizerFactory.ofDecimal(7, 8, 0).getRandomValue()).isEqualTo("7");
+    }
+
+    @Test
+    void ofDecimalWithWidestBounds() {
+        final Randomizer<String> randomizer =
+                StringRandomizerFactory.ofDecimal(Long.MIN_VALUE / 10, Long.MAX_VALUE / 10, 1);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(1000))
+            .allSatisfy(value -> assertThat(new BigDecimal(value).toPlainString()).isEqualTo(value));
+    }
+
+    @Test
+    void seededRandomizersGenerateSameValues() {
+        final List<Function<Long, Randomizer<String>>> factories = List.of(
+                seed -> StringRandomizerFactory.ofIntRange(null, null, seed),
+                seed -> StringRandomizerFactory.ofLongRange(-10L, 10L, seed),
+                seed -> StringRandomizerFactory.ofDoubleRange(0d, 1d, seed),
+                seed -> StringRandomizerFactory.ofDecimal(2, seed),
+                seed -> StringRandomizerFactory.ofInstant(seed),
+                seed -> StringRandomizerFactory.ofLocalDate("dd/MM/yyyy", seed),
+                seed -> StringRandomizerFactory.ofLocalDateTime(seed),
+                seed -> StringRandomizerFactory.ofEnum(MyEnum.class, seed));
+
+        assertThat(factories).allSatisfy(factory -> assertThat(generate(factory.apply(42L)))
+            .containsExactlyElementsOf(generate(factory.apply(42L)))
+            .isNotEqualTo(generate(factory.apply(43L))));
+    }
+
+    private static List<String> generate(final Randomizer<String> randomizer) {
+        return Stream.generate(randomizer::getRandomValue).limit(100).collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,164 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.custom.ChoiceRandomizer;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestClassRandomizerTest {
+
+    private static final int SIZE = 5_000;
+
+    static class Order {
+
+        String id;
+
+        String status;
+
+        Long amount;
+
+    }
+
+    static class OrderProvider implements CustomRandomFieldProvider {
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("status"), new ChoiceRandomizer<>("ACTIVE", "SUSPENDED"));
+        }
+
+    }
+
+    static class CountingProvider implements CustomRandomFieldProvider {
+
+        private int count;
+
+        @Override
+        public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+            registry.registerRandomizer(StringField.named("id"), () -> String.valueOf(this.count++));
+        }
+
+    }
+
+    @Test
+    void shouldGenerateSameObjectsInParallel() {
+        final TestClassRandomizer sequential =
+                new TestClassRandomizer(TestClassRandomizerTest.class, 42, Integer.MAX_VALUE);
+        final TestClassRandomizer parallel = new TestClassRandomizer(TestClassRandomizerTest.class, 42, 0);
+
+        final Object[] sequentialOrders =
+                sequential.generateObjects(sequential.createRegistry(this), 7, Order.class, SIZE);
+        final Object[] parallelOrders = parallel.generateObjects(parallel.createRegistry(this), 7, Order.class, SIZE);
+
+        assertThat(parallelOrders).hasSize(SIZE).doesNotContainNull()
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactly(sequentialOrders);
+    }
+
+    @Test
+    void shouldNotCallCustomRandomizersInParallel() {
+        final TestClassRandomizer parallel = new TestClassRandomizer(CountingProvider.class, 42, 0);
+        final RandomizerRegistry registry = parallel.createRegistry(new CountingProvider());
+
+        assertThat(parallel.generateObjects(registry, 7, Order.class, SIZE))
+            .extracting(order -> ((Order) order).id)
+            .containsExactly(IntStream.range(0, SIZE).mapToObj(String::valueOf).toArray(String[]::new));
+        assertThat(StreamSupport.stream(parallel.spliterateObjects(registry, 7, Order.class, SIZE), true))
+            .extracting(order -> ((Order) order).id)
+            .containsExactly(IntStream.range(SIZE, 2 * SIZE).mapToObj(String::valueOf).toArray(String[]::new));
+    }
+
+    @Test
+    void shouldUseCustomRandomizersInParallel() {
+        final TestClassRandomizer parallel = new TestClassRandomizer(OrderProvider.class, 42, 0);
+
+        assertThat(generateOrders(parallel)).allSatisfy(order -> {
+            assertThat(((Order) order).status).isIn("ACTIVE", "SUSPENDED");
+            assertThat(((Order) order).amount).isBetween(1L, 1000L);
+        });
+    }
+
+    @Test
+    void shouldGenerateDifferentObjectsFromDifferentSeeds() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(OrderProvider.class, 42, 0);
+        final Object[] orders = testClassRandomizer.generateObjects(
+                testClassRandomizer.createRegistry(new OrderProvider()), 1, Order.class, SIZE);
+        final Object[] otherOrders = testClassRandomizer.generateObjects(
+                testClassRandomizer.createRegistry(new OrderProvider()), 2, Order.class, SIZE);
+
+        assertThat(((Order) orders[0]).id).isNotEqualTo(((Order) otherOrders[0]).id);
+        assertThat(((Order) orders[SIZE - 1]).id).isNotEqualTo(((Order) otherOrders[SIZE - 1]).id);
+    }
+
+    @Test
+    void shouldGenerateSameObjectsOnDemand() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(OrderProvider.class, 42, 0);
+        final OrderProvider provider = new OrderProvider();
+
+        final Object[] orders = StreamSupport.stream(testClassRandomizer.spliterateObjects(
+                testClassRandomizer.createRegistry(provider), 7, Order.class, SIZE), false).toArray();
+        final Object[] parallelOrders = StreamSupport.stream(testClassRandomizer.spliterateObjects(
+                testClassRandomizer.createRegistry(provider), 7, Order.class, SIZE), true).toArray();
+
+        assertThat(orders).hasSize(SIZE)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("status")
+            .containsExactly(generateOrders(testClassRandomizer))
+            .containsExactly(parallelOrders);
+    }
+
+    @Test
+    void shouldGenerateDistinctObjects() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(OrderProvider.class, 42, 0);
+        final RandomizerRegistry registry = testClassRandomizer.createRegistry(new OrderProvider());
+
+        assertThat(testClassRandomizer.generateDistinctObjects(registry, 7, Integer.class, 400))
+            .hasSize(400)
+            .isEqualTo(testClassRandomizer.generateDistinctObjects(registry, 7, Integer.class, 400));
+        assertThat(testClassRandomizer.generateDistinctObjects(registry, 7, Byte.class, 250)).hasSize(250);
+    }
+
+    @Test
+    void shouldSampleDistinctObjectsOfSmallDomains() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(OrderProvider.class, 42, 0);
+        final RandomizerRegistry registry = testClassRandomizer.createRegistry(new OrderProvider());
+
+        assertThat(testClassRandomizer.generateDistinctObjects(registry, 7, Integer.class, 999))
+            .containsExactlyInAnyOrder(IntStream.range(1, 1000).boxed().toArray());
+        assertThat(testClassRandomizer.generateDistinctObjects(registry, 7, Long.class, 900))
+            .hasSize(900)
+            .allSatisfy(value -> assertThat((Long) value).isBetween(1L, 999L));
+        assertThat(testClassRandomizer.generateDistinctObjects(registry, 7, Boolean.class, 2))
+            .containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    void shouldFailToGenerateMoreDistinctObjectsThanThereAre() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(OrderProvider.class, 42, 0);
+        final RandomizerRegistry registry = testClassRandomizer.createRegistry(new OrderProvider());
+        final CustomRandomizerRegistry customRegistry = new IndexedRandomizerRegistry();
+        customRegistry.registerRandomizer(Integer.class, () -> 1);
+
+        assertThatThrownBy(() -> testClassRandomizer.generateDistinctObjects(registry, 7, Integer.class, 1000))
+            .isInstanceOf(ExtensionConfigurationException.class)
+            .hasMessage("1000 distinct values of Integer cannot be generated, there are only 999");
+        assertThatThrownBy(() -> testClassRandomizer.generateDistinctObjects(registry, 7, Byte.class, 300))
+            .isInstanceOf(ExtensionConfigurationException.class)
+            .hasMessage("Only 256 distinct values of Byte could be generated out of the 300 required");
+        assertThatThrownBy(() -> testClassRandomizer.generateDistinctObjects(customRegistry, 7, Integer.class, 2))
+            .isInstanceOf(ExtensionConfigurationException.class)
+            .hasMessage("Only 1 distinct values of Integer could be generated out of the 2 required");
+    }
+
+    private static Object[] generateOrders(final TestClassRandomizer testClassRandomizer) {
+        return testClassRandomizer.generateObjects(testClassRandomizer.createRegistry(new OrderProvider()), 7,
+                Order.class, SIZE);
+    }
+
+}
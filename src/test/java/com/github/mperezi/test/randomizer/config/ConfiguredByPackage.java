@@ -0,0 +1,38 @@
+package com.github.mperezi.test.randomizer.config;
+
+import com.github.mperezi.test.randomizer.Random;
+import com.github.mperezi.test.randomizer.RandomizerConfig;
+import com.github.mperezi.test.randomizer.RandomizerExtension;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Strings take the length configured for the package, and collections the size configured for the
+ * class.
+ */
+@ExtendWith(RandomizerExtension.class)
+@RandomizerConfig(minCollectionSize = 2, maxCollectionSize = 2)
+public class ConfiguredByPackage {
+
+    public static final Map<String, Object> GENERATED = new ConcurrentHashMap<>();
+
+    public static class Tagged {
+
+        List<String> tags;
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+    }
+
+    @Test
+    void test(@Random final Tagged tagged) {
+        GENERATED.put("tags", tagged.getTags());
+    }
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Test cases configured at the package level.
+ */
+@RandomizerConfig(minStringLength = 1, maxStringLength = 1)
+package com.github.mperezi.test.randomizer.config;
+
+import com.github.mperezi.test.randomizer.RandomizerConfig;
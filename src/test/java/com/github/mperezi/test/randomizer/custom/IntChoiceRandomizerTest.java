@@ -0,0 +1,42 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntChoiceRandomizerTest {
+
+    @Test
+    void shouldRandomizeWithAGivenChoice() {
+        final IntChoiceRandomizer randomizer = new IntChoiceRandomizer(1, 3, 5, 7, 11, 13);
+
+        assertThat(IntStream.generate(randomizer::getRandomInt).limit(1000)).isSubsetOf(1, 3, 5, 7, 11, 13);
+        assertThat(randomizer.getRandomValue()).isIn(1, 3, 5, 7, 11, 13);
+    }
+
+    @Test
+    void shouldRandomizeWithTheGivenWeights() {
+        final IntChoiceRandomizer randomizer = new IntChoiceRandomizer(new int[] {1, 2, 3}, new double[] {0, 1, 0});
+
+        assertThat(IntStream.generate(randomizer::getRandomInt).limit(1000)).containsOnly(2);
+    }
+
+    @Test
+    void shouldRandomizeTheSameWithTheSameSeed() {
+        final int[] values = {1, 2, 3, 4, 5};
+        final IntChoiceRandomizer randomizer = new IntChoiceRandomizer(values, 42);
+        final IntChoiceRandomizer other = new IntChoiceRandomizer(values, 42);
+
+        assertThat(IntStream.generate(randomizer::getRandomInt).limit(100).toArray())
+            .containsExactly(IntStream.generate(other::getRandomInt).limit(100).toArray());
+    }
+
+    @Test
+    void shouldNotCreateRandomizerWithNoChoices() {
+        assertThatThrownBy(IntChoiceRandomizer::new).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
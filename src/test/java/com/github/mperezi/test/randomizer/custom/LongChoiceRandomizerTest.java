@@ -0,0 +1,32 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongChoiceRandomizerTest {
+
+    @Test
+    void shouldRandomizeWithAGivenChoice() {
+        final LongChoiceRandomizer randomizer = new LongChoiceRandomizer(1L, Long.MAX_VALUE);
+
+        assertThat(LongStream.generate(randomizer::getRandomLong).limit(1000)).isSubsetOf(1L, Long.MAX_VALUE);
+        assertThat(randomizer.getRandomValue()).isIn(1L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldRandomizeWithTheGivenWeights() {
+        final LongChoiceRandomizer randomizer = new LongChoiceRandomizer(new long[] {1, 2}, new double[] {1, 0}, 42);
+
+        assertThat(LongStream.generate(randomizer::getRandomLong).limit(1000)).containsOnly(1L);
+    }
+
+    @Test
+    void shouldNotCreateRandomizerWithNoChoices() {
+        assertThatThrownBy(LongChoiceRandomizer::new).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.github.mperezi.test.randomizer.custom;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class WeightedChoiceRandomizerTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private static Map<String, Long> sample(final WeightedChoiceRandomizer<String> randomizer) {
+        return Stream.generate(randomizer::getRandomValue)
+            .limit(SAMPLES)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    @Test
+    void shouldRandomizeWithTheGivenWeights() {
+        final Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("ACTIVE", 90);
+        weights.put("SUSPENDED", 10);
+
+        final Map<String, Long> counts = sample(new WeightedChoiceRandomizer<>(weights));
+
+        assertThat(counts).containsOnlyKeys("ACTIVE", "SUSPENDED");
+        assertThat(counts.get("ACTIVE") / (double) SAMPLES).isCloseTo(0.9, within(0.01));
+    }
+
+    @Test
+    void shouldNeverPickValuesWithNoWeight() {
+        final WeightedChoiceRandomizer<String> randomizer = new WeightedChoiceRandomizer<>(
+                new String[] {"A", "B", "C", "D"}, new double[] {1, 0, 2, 0});
+
+        assertThat(sample(randomizer)).containsOnlyKeys("A", "C");
+    }
+
+    @Test
+    void shouldRandomizeTheSameWithTheSameSeed() {
+        final String[] values = {"A", "B", "C"};
+        final double[] weights = {0.5, 0.3, 0.2};
+        final WeightedChoiceRandomizer<String> randomizer = new WeightedChoiceRandomizer<>(values, weights, 42);
+        final WeightedChoiceRandomizer<String> other = new WeightedChoiceRandomizer<>(values, weights, 42);
+
+        assertThat(Stream.generate(randomizer::getRandomValue).limit(100))
+            .containsExactlyElementsOf(Stream.generate(other::getRandomValue).limit(100)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldNotCreateRandomizerWithInvalidWeights() {
+        final String[] values = {"A", "B"};
+
+        assertThatThrownBy(() -> new WeightedChoiceRandomizer<>(values, new double[] {1}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeightedChoiceRandomizer<>(values, new double[] {1, -1}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeightedChoiceRandomizer<>(values, new double[] {0, 0}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeightedChoiceRandomizer<>(values, new double[] {1, Double.NaN}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeightedChoiceRandomizer<>(Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
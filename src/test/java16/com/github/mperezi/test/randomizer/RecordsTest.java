@@ -0,0 +1,132 @@
+package com.github.mperezi.test.randomizer;
+
+import com.github.mperezi.test.randomizer.Random.Scope;
+import com.github.mperezi.test.randomizer.matchers.StringField;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.randomizers.misc.ConstantRandomizer.aNewConstantRandomizer;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@ExtendWith(RandomizerExtension.class)
+class RecordsTest implements CustomRandomFieldProvider {
+
+    enum Status {
+        PENDING, SHIPPED
+    }
+
+    record Customer(String name, int age) {
+
+    }
+
+    record Order(String id, Long amount, Status status, Customer customer, List<String> tags,
+            Map<String, Integer> quantities, Optional<String> notes, String code) {
+
+    }
+
+    record Node(String name, Node next) {
+
+    }
+
+    record Basket(String owner, List<String> items) {
+
+    }
+
+    @ExtendWith(RandomizerExtension.class)
+    static class SharedRecordTestCase {
+
+        @Random(scope = Scope.CLASS)
+        private Basket basket;
+
+        @Test
+        void first() {
+            this.mutate("first");
+        }
+
+        @Test
+        void second() {
+            this.mutate("second");
+        }
+
+        private void mutate(final String test) {
+            ITEMS.put(test, List.copyOf(this.basket.items()));
+            this.basket.items().clear();
+        }
+
+    }
+
+    private static final Map<String, List<String>> ITEMS = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerCustomRandomizers(final CustomRandomizerRegistry registry) {
+        registry.registerRandomizer(StringField.named("code"), aNewConstantRandomizer("ABC"));
+    }
+
+    @Random
+    private Order field;
+
+    @Test
+    void shouldCreateRecords(@Random final Order order) {
+        assertThat(order.id()).isNotEmpty();
+        assertThat(order.amount()).isBetween(1L, 1000L);
+        assertThat(order.status()).isNotNull();
+        assertThat(order.customer().name()).isNotEmpty();
+        assertThat(order.tags()).isNotEmpty().doesNotContainNull();
+        assertThat(order.quantities()).isNotEmpty().doesNotContainValue(null);
+        assertThat(order.notes()).isPresent();
+        assertThat(this.field).isNotNull();
+        assertThat(this.field.id()).isNotEmpty();
+    }
+
+    @Test
+    void shouldApplyCustomRandomizersToRecordComponents(@Random final Order order) {
+        assertThat(order.code()).isEqualTo("ABC");
+    }
+
+    @Test
+    void shouldCreateListsOfRecords(@Random(type = Order.class, size = 2000) final List<Order> orders) {
+        assertThat(orders).hasSize(2000).allSatisfy(order -> assertThat(order.id()).isNotEmpty());
+    }
+
+    @Test
+    void shouldCreateSameRecordsFromSameSeed() {
+        final TestClassRandomizer testClassRandomizer = new TestClassRandomizer(RecordsTest.class, 42, 0);
+        final Object[] first = testClassRandomizer.generateObjects(testClassRandomizer.createRegistry(this), 7,
+                Order.class, 100);
+        final Object[] second = testClassRandomizer.generateObjects(testClassRandomizer.createRegistry(this), 7,
+                Order.class, 100);
+
+        assertThat(first).containsExactly(second);
+    }
+
+    @Test
+    void shouldCopySharedRecords() {
+        ITEMS.clear();
+        EngineTestKit.engine("junit-jupiter")
+            .selectors(selectClass(SharedRecordTestCase.class))
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        assertThat(ITEMS.get("first")).isNotEmpty().isEqualTo(ITEMS.get("second"));
+    }
+
+    @Test
+    void shouldStopRecursiveRecordsAtRandomizationDepth(@Random final Node node) {
+        int depth = 0;
+        for (Node next = node; next != null; next = next.next()) {
+            assertThat(next.name()).isNotEmpty();
+            depth++;
+        }
+        assertThat(depth).isBetween(2, 5);
+    }
+
+}